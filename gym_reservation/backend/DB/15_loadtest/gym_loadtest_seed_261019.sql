@@ -0,0 +1,109 @@
+-- =====================================================================
+-- 부하 테스트용 합성 데이터 (src/test/java/com/gym/load/LoadTest 와 짝)
+-- - 회원 load0001 ~ loadNNNN (비밀번호 1234, BCrypt), 대표 카드 1장씩
+-- - 회원별 '대기' 예약 N건(결제 시나리오용, 먼 미래 날짜)
+-- - 게시판 1곳에 게시글 M건(목록/상세 조회 시나리오용)
+-- - 재실행 안전: 먼저 load% 회원 데이터 전부 삭제 후 재생성
+-- ※ 운영 DB에서 실행 금지 (개발/부하 테스트 전용 스키마에서만)
+-- =====================================================================
+-- ALTER SESSION SET CURRENT_SCHEMA = gym;
+SET SERVEROUTPUT ON;
+
+--------------------------------------------------------------------------------
+-- 0) 이전 부하 테스트 데이터 정리(FK 역순)
+--------------------------------------------------------------------------------
+DELETE FROM paylog_tbl
+ WHERE payment_id IN (SELECT payment_id FROM payment_tbl WHERE member_id LIKE 'load%');
+DELETE FROM payment_tbl   WHERE member_id LIKE 'load%';
+DELETE FROM message_tbl   WHERE member_id LIKE 'load%';
+DELETE FROM waitlist_tbl  WHERE member_id LIKE 'load%';
+DELETE FROM reservation_tbl WHERE member_id LIKE 'load%';
+DELETE FROM comments_tbl
+ WHERE post_id IN (SELECT post_id FROM post_tbl WHERE member_id LIKE 'load%');
+DELETE FROM post_tbl      WHERE member_id LIKE 'load%';
+DELETE FROM card_tbl      WHERE member_id LIKE 'load%';
+DELETE FROM member_tbl    WHERE member_id LIKE 'load%';
+COMMIT;
+
+--------------------------------------------------------------------------------
+-- 1) 합성 데이터 생성
+--    v_users / v_resv_per_user / v_posts / v_facility 만 조정해서 사용
+--------------------------------------------------------------------------------
+DECLARE
+  v_users         CONSTANT PLS_INTEGER := 500;  -- 회원 수 (LoadTest -Dload.users 와 맞춤)
+  v_resv_per_user CONSTANT PLS_INTEGER := 20;   -- 회원별 '대기' 예약 수
+  v_posts         CONSTANT PLS_INTEGER := 1000; -- 게시글 수
+  v_facility      CONSTANT NUMBER      := 1;    -- 예약/결제 대상 시설 (LoadTest -Dload.facility-id)
+  v_board         NUMBER;
+  v_id            VARCHAR2(20);
+  v_start         TIMESTAMP;
+BEGIN
+  SELECT MIN(board_id) INTO v_board FROM board_tbl;
+
+  FOR i IN 1..v_users LOOP
+    v_id := 'load' || LPAD(TO_CHAR(i), 4, '0');
+
+    -- (1) 회원: 비밀번호 '1234' 해시(더미 회원 hong1~10과 동일 값)
+    INSERT INTO member_tbl (
+      member_id, member_pw, member_name, member_gender,
+      member_email, member_mobile, member_manipay,
+      member_birthday, member_joindate, member_role, admin_type
+    ) VALUES (
+      v_id,
+      '$2a$10$Q7KfRQDkDyKYoUqMCzTQoeFjTUNyHX.Kkq1.MmZv8XJCKSKMUD/0G',
+      '부하' || TO_CHAR(i),
+      CASE WHEN MOD(i,2)=0 THEN 'm' ELSE 'f' END,
+      v_id || '@load.test',
+      '010-9' || LPAD(TO_CHAR(MOD(i, 1000)), 3, '0') || '-' || LPAD(TO_CHAR(i), 4, '0'),
+      'card',
+      DATE '1990-01-01' + MOD(i, 3650),
+      SYSDATE,
+      'user',
+      NULL
+    );
+
+    -- (2) 대표 카드(카드번호 전역 UNIQUE → 9999-회원번호)
+    INSERT INTO card_tbl (card_id, member_id, card_bank, card_number, card_approval, card_main, card_reg_date)
+    VALUES (seq_card_id.NEXTVAL, v_id, '부하카드',
+            '9999-' || LPAD(TO_CHAR(i), 4, '0') || '-0000-0000', 'LOAD-' || TO_CHAR(i), 'Y', SYSDATE);
+
+    -- (3) '대기' 예약: 1년 뒤부터 회원별로 날짜를 나눠 배치(09~21시 2시간 단위)
+    FOR j IN 0..v_resv_per_user - 1 LOOP
+      v_start := CAST(TRUNC(SYSDATE) + 365 + MOD(i * v_resv_per_user + j, 3000) AS TIMESTAMP)
+                 + NUMTODSINTERVAL(9 + 2 * MOD(j, 6), 'HOUR');
+      INSERT INTO reservation_tbl (
+        resv_id, member_id, facility_id, resv_content, want_date,
+        resv_person_count, resv_status, resv_start_time, resv_end_time
+      ) VALUES (
+        seq_reservation_id.NEXTVAL, v_id, v_facility, '부하 테스트', TRUNC(CAST(v_start AS DATE)),
+        10, '대기', v_start, v_start + NUMTODSINTERVAL(2, 'HOUR')
+      );
+    END LOOP;
+
+    IF MOD(i, 100) = 0 THEN
+      COMMIT; -- 언두 과다 방지
+    END IF;
+  END LOOP;
+
+  -- (4) 게시글: post_id / 게시판별 번호는 trg_post_before_insert 가 채움
+  FOR k IN 1..v_posts LOOP
+    INSERT INTO post_tbl (board_id, post_title, post_content, member_id)
+    VALUES (v_board, '부하 테스트 게시글 ' || TO_CHAR(k),
+            RPAD('부하 테스트 본문 ', 2000, '가나다라마바사 '),
+            'load' || LPAD(TO_CHAR(MOD(k - 1, v_users) + 1), 4, '0'));
+  END LOOP;
+
+  COMMIT;
+  DBMS_OUTPUT.PUT_LINE('회원 ' || v_users || ', 예약 ' || (v_users * v_resv_per_user)
+                       || ', 게시글 ' || v_posts || ' (board_id=' || v_board || ')');
+END;
+/
+
+--------------------------------------------------------------------------------
+-- 2) 확인 조회
+--------------------------------------------------------------------------------
+SELECT (SELECT COUNT(1) FROM member_tbl      WHERE member_id LIKE 'load%') AS members,
+       (SELECT COUNT(1) FROM card_tbl        WHERE member_id LIKE 'load%') AS cards,
+       (SELECT COUNT(1) FROM reservation_tbl WHERE member_id LIKE 'load%') AS reservations,
+       (SELECT COUNT(1) FROM post_tbl        WHERE member_id LIKE 'load%') AS posts
+  FROM dual;
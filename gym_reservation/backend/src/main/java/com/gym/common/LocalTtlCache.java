@@ -0,0 +1,159 @@
+package com.gym.common;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * [261019 신규] 노드 로컬 LRU + TTL 캐시(공통)
+ * - 크기 초과 시 가장 오래 안 쓴 항목부터 제거, 항목별 만료 시각
+ * - 무효화 세대: 적재 시작 후 무효화가 있었으면 그 적재 결과는 저장하지 않음(오래된 값 재등록 방지)
+ * - 적중/실패/LRU 제거/TTL 만료/무효화 통계
+ * - 사용: BoundedTtlCache(MyBatis 2차 캐시), MemberInstrumentCache, CommentFirstPageCache
+ *   → 각 캐시는 적재 방법과 노드 간 전파(CacheInvalidationBus)만 담당
+ * - 동시 접근은 this 모니터로 보호, 적재(loader)는 모니터 밖에서 실행
+ */
+public final class LocalTtlCache<K, V> {
+
+    private final String name;
+    private int maxEntries;
+    private long ttlNanos;
+
+    // 접근 순서 LinkedHashMap(LRU)
+    private final LinkedHashMap<K, Entry<V>> entries = new LinkedHashMap<>(64, 0.75f, true);
+
+    private final AtomicLong generation = new AtomicLong();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    public LocalTtlCache(String name, int maxEntries, long ttlSeconds) {
+        this.name = name;
+        setMaxEntries(maxEntries);
+        setTtlSeconds(ttlSeconds);
+    }
+
+    public synchronized void setMaxEntries(int maxEntries) {
+        if (maxEntries < 1) throw new IllegalArgumentException("cache size must be >= 1: " + name);
+        this.maxEntries = maxEntries;
+    }
+
+    public synchronized void setTtlSeconds(long ttlSeconds) {
+        if (ttlSeconds < 1) throw new IllegalArgumentException("cache ttlSeconds must be >= 1: " + name);
+        this.ttlNanos = TimeUnit.SECONDS.toNanos(ttlSeconds);
+    }
+
+    /** 유효한 항목이면 값, 없거나 만료면 null(만료 항목은 제거) */
+    public synchronized V getIfPresent(K key) {
+        Entry<V> e = entries.get(key);
+        if (e == null) {
+            misses.increment();
+            return null;
+        }
+        if (System.nanoTime() - e.expiresAt >= 0) {
+            entries.remove(key);
+            expirations.increment();
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return e.value;
+    }
+
+    /** 캐시 값, 없거나 만료면 loader로 적재 후 저장 */
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        V cached = getIfPresent(key);
+        return cached != null ? cached : reload(key, loader);
+    }
+
+    /** 캐시 값, 없거나 만료면 loader 결과를 저장하지 않고 반환(호출 측 쓰기 트랜잭션 안 등) */
+    public V getOrLoadUnstored(K key, Function<? super K, ? extends V> loader) {
+        V cached = getIfPresent(key);
+        return cached != null ? cached : loader.apply(key);
+    }
+
+    /** 캐시를 건너뛰고 적재 후 저장(적재 중 무효화가 있었으면 저장하지 않고 결과만 반환) */
+    public V reload(K key, Function<? super K, ? extends V> loader) {
+        long gen = generation.get();
+        V loaded = loader.apply(key);
+        if (loaded != null) {
+            synchronized (this) {
+                if (generation.get() == gen) store(key, loaded);
+            }
+        }
+        return loaded;
+    }
+
+    /** 무조건 저장(호출 측이 값의 최신성을 보장하는 경우, 예: MyBatis putObject) */
+    public synchronized void put(K key, V value) {
+        store(key, value);
+    }
+
+    /** 항목 제거(무효화 통계/세대 변경 없음) */
+    public synchronized V remove(K key) {
+        Entry<V> e = entries.remove(key);
+        return e == null ? null : e.value;
+    }
+
+    /** 항목 무효화: 진행 중인 적재 결과도 저장되지 않음 */
+    public void invalidate(K key) {
+        generation.incrementAndGet();
+        synchronized (this) {
+            entries.remove(key);
+        }
+        invalidations.increment();
+    }
+
+    /** 전체 무효화 */
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        synchronized (this) {
+            entries.clear();
+        }
+        invalidations.increment();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /** 통계(namespace/size/maxSize/ttlSeconds/hits/misses/hitRatio/evictions/expirations/invalidations) */
+    public Map<String, Object> stats() {
+        long h = hits.sum();
+        long m = misses.sum();
+        Map<String, Object> s = new LinkedHashMap<>();
+        s.put("namespace", name);
+        synchronized (this) {
+            s.put("size", entries.size());
+            s.put("maxSize", maxEntries);
+            s.put("ttlSeconds", TimeUnit.NANOSECONDS.toSeconds(ttlNanos));
+        }
+        s.put("hits", h);
+        s.put("misses", m);
+        s.put("hitRatio", h + m == 0 ? 0.0 : (double) h / (h + m));
+        s.put("evictions", evictions.sum());
+        s.put("expirations", expirations.sum());
+        s.put("invalidations", invalidations.sum());
+        return s;
+    }
+
+    // 호출 측이 모니터를 잡은 상태
+    private void store(K key, V value) {
+        entries.put(key, new Entry<>(value, System.nanoTime() + ttlNanos));
+        Iterator<Entry<V>> it = entries.values().iterator();
+        while (entries.size() > maxEntries && it.hasNext()) {
+            it.next();
+            it.remove();
+            evictions.increment();
+        }
+    }
+
+    private record Entry<V>(V value, long expiresAt) {}
+}
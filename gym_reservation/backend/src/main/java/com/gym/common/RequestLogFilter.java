@@ -0,0 +1,61 @@
+package com.gym.common;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.UUID;
+
+/**
+ * [261019 신규] 요청 단위 로그 컨텍스트 필터
+ * - requestId: X-Request-Id 헤더 값(없으면 생성) → MDC에 넣어 모든 로그(JSON 포함)에 기록, 응답 헤더로 반환
+ * - 요청 단위 DEBUG: X-Debug-Log 헤더가 설정 토큰(gym.logging.debug-token)과 같으면 MDC debugLog=on
+ *   → log4j2 DynamicThresholdFilter가 이 요청의 DEBUG 로그(페이로드 등)만 통과시킴
+ *   → 토큰이 비어 있으면 기능 비활성(외부에서 임의로 켤 수 없음)
+ * - 시큐리티 필터보다 먼저 실행(인증 로그에도 requestId 기록)
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class RequestLogFilter extends OncePerRequestFilter {
+
+    public static final String REQUEST_ID_HEADER = "X-Request-Id";
+    public static final String DEBUG_HEADER = "X-Debug-Log";
+    public static final String MDC_REQUEST_ID = "requestId";
+    public static final String MDC_DEBUG = "debugLog";
+
+    private final String debugToken;
+
+    public RequestLogFilter(@Value("${gym.logging.debug-token:}") String debugToken) {
+        this.debugToken = debugToken;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String requestId = request.getHeader(REQUEST_ID_HEADER);
+        if (requestId == null || !requestId.matches("[A-Za-z0-9._-]{1,64}")) { // 로그 주입 방지
+            requestId = UUID.randomUUID().toString().replace("-", "").substring(0, 16);
+        }
+        MDC.put(MDC_REQUEST_ID, requestId);
+        response.setHeader(REQUEST_ID_HEADER, requestId);
+
+        if (!debugToken.isEmpty() && debugToken.equals(request.getHeader(DEBUG_HEADER))) {
+            MDC.put(MDC_DEBUG, "on");
+        }
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            MDC.remove(MDC_REQUEST_ID);
+            MDC.remove(MDC_DEBUG);
+        }
+    }
+}
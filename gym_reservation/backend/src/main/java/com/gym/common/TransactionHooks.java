@@ -0,0 +1,49 @@
+package com.gym.common; // 📦 공통 유틸 패키지
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션 완료 시점 훅
+ * - 메모리 상태(대기열 미러, 점유 인덱스, 캐시 등)는 DB 커밋/롤백 결과를 따라가야 함
+ * - 트랜잭션 밖에서 호출되면 afterCommit은 즉시 실행, afterRollback은 무시
+ */
+public final class TransactionHooks {
+
+    private TransactionHooks() {}
+
+    // 커밋 후 실행(트랜잭션 밖이면 즉시)
+    public static void afterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+
+    // [261019] 쓰기 트랜잭션 안인지(읽기 전용/트랜잭션 밖이면 false) — 미커밋 변경을 캐시에 저장하지 않기 위한 판단
+    public static boolean inWriteTransaction() {
+        return TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+    }
+
+    // 롤백 시에만 실행
+    public static void afterRollback(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    task.run();
+                }
+            }
+        });
+    }
+}
@@ -85,6 +85,8 @@ public class GlobalExceptionHandler {                           // 전역 예외
                 msg = "해당 시설의 완료된 예약 시간과 겹칩니다. 다른 시간대를 선택하세요.";
             } else if (msg.contains("ORA-20001")) {
                 msg = "요청을 처리할 수 없습니다. 다른 시간대를 선택하세요.";
+            } else if (msg.contains("ORA-20002")) { // [261019추가] 공유 시설 수용 인원 초과(trg_resv_no_overlap)
+                msg = "해당 시간대 잔여 인원이 부족합니다. 인원 또는 시간대를 조정하세요.";
             } else {
                 msg = "요청을 처리할 수 없습니다. 입력 값을 확인하세요.";
             }
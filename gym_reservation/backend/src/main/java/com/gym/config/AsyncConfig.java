@@ -0,0 +1,79 @@
+package com.gym.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * [261019 신규] 비동기 실행 설정
+ * - fanoutExecutor: 커밋 이후 부가 처리(문자 발송/결제로그 기록) 전용 풀
+ * - overviewExecutor: 마이페이지 요약(GET /api/me/overview) 구역별 병렬 조회 풀
+ * - indexRebuildExecutor: 회원ID/회원 검색 인덱스 전체 재구성(스레드 1개, 순서대로)
+ * - 큐가 가득 차면 호출 스레드에서 실행(작업 유실 방지)
+ * - 가상 스레드 모드(spring.threads.virtual.enabled=true): 작업마다 가상 스레드, 동시 실행 수만 제한
+ */
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+
+    @Bean(name = "fanoutExecutor")
+    public Executor fanoutExecutor(@Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        if (virtualThreads) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("fanout-");
+            executor.setVirtualThreads(true);
+            executor.setConcurrencyLimit(4);            // 기존 최대 스레드 수와 동일(초과 시 호출 측 대기)
+            executor.setTaskTerminationTimeout(10_000); // 종료 시 남은 작업 대기
+            return executor;
+        }
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);          // 기본 스레드 수
+        executor.setMaxPoolSize(4);           // 최대 스레드 수
+        executor.setQueueCapacity(500);       // 대기 작업 수
+        executor.setThreadNamePrefix("fanout-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true); // 종료 시 남은 작업 처리
+        executor.setAwaitTerminationSeconds(10);
+        executor.initialize();
+        return executor;
+    }
+
+    // 요청 스레드가 결과를 기다리는 조회 전용 → 동시 DB 사용이 커넥션 풀을 잠식하지 않도록 상한
+    @Bean(name = "overviewExecutor")
+    public Executor overviewExecutor(@Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+                                     @Value("${gym.overview.max-concurrency:8}") int maxConcurrency) {
+        if (virtualThreads) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("overview-");
+            executor.setVirtualThreads(true);
+            executor.setConcurrencyLimit(maxConcurrency); // 초과 시 제출 측 대기
+            return executor;
+        }
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(maxConcurrency);
+        executor.setMaxPoolSize(maxConcurrency);
+        executor.setQueueCapacity(200);
+        executor.setThreadNamePrefix("overview-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy()); // 포화 시 요청 스레드에서 순차 실행
+        executor.initialize();
+        return executor;
+    }
+
+    // 전체 스캔은 한 번에 하나만(요청 측이 중복 요청을 합침) → 요청/커밋 스레드를 붙잡지 않음
+    @Bean(name = "indexRebuildExecutor")
+    public Executor indexRebuildExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(16);
+        executor.setThreadNamePrefix("index-rebuild-"); // 거절(종료 중 등)은 요청 측이 처리
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,26 @@
+package com.gym.config;
+
+import com.gym.config.datasource.PoolMetrics;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+/**
+ * [261019 신규] 커넥션 풀 설정
+ * - 풀 크기/타임아웃/문장 캐시/prefetch: 프로필별 yml의 spring.datasource.hikari.* 에서 관리
+ * - 여기서는 풀 지표(PoolMetrics) 등록만 담당
+ *   gym.db.slow-acquire-ms      : 이 시간 이상 걸린 커넥션 획득을 '느린 획득'으로 집계(기본 100)
+ *   gym.db.starvation-seconds   : 고갈 상태가 이 시간(초) 이상 이어지면 WARN(기본 3)
+ */
+@Configuration
+public class DataSourcePoolConfig {
+
+    // BeanPostProcessor 겸용 → static 으로 등록(다른 빈보다 먼저 생성)
+    @Bean
+    public static PoolMetrics poolMetrics(Environment env) {
+        return new PoolMetrics(
+                env.getProperty("gym.db.slow-acquire-ms", Long.class, 100L),
+                env.getProperty("gym.db.starvation-seconds", Integer.class, 3));
+    }
+}
@@ -0,0 +1,90 @@
+package com.gym.config;
+
+import com.gym.config.datasource.PoolMetrics;
+import com.gym.config.datasource.ReadWriteRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+/**
+ * [261019 신규] 읽기 전용 트랜잭션 복제 DB 분산 설정
+ * - gym.datasource.replicas[0].url 이 있을 때만 활성(없으면 스프링 부트 기본 DataSource 그대로)
+ * - 주 풀: spring.datasource.* + spring.datasource.hikari.*
+ * - 복제 풀: gym.datasource.replicas[n].{url, username, password, maximum-pool-size}
+ * - 구성: LazyConnectionDataSourceProxy → ReadWriteRoutingDataSource → (주 | 복제 n개)
+ *   (지연 프록시가 첫 SQL 실행 시점까지 커넥션 획득을 미뤄 readOnly 여부가 반영됨)
+ */
+@Configuration
+@ConditionalOnProperty(name = "gym.datasource.replicas[0].url")
+public class ReadWriteDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource ds = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        ds.setPoolName("primary");
+        return ds;
+    }
+
+    @Bean(destroyMethod = "close")
+    public ReadWriteRoutingDataSource routingDataSource(HikariDataSource primaryDataSource,
+                                                        DataSourceProperties properties,
+                                                        PoolMetrics poolMetrics,
+                                                        Environment env) {
+        List<Replica> replicas = Binder.get(env)
+                .bind("gym.datasource.replicas", Bindable.listOf(Replica.class))
+                .orElse(List.of());
+
+        List<DataSource> pools = new ArrayList<>();
+        for (int i = 0; i < replicas.size(); i++) {
+            Replica r = replicas.get(i);
+            HikariDataSource ds = new HikariDataSource();
+            ds.setPoolName("replica-" + i);
+            ds.setDriverClassName(properties.getDriverClassName());
+            ds.setJdbcUrl(r.getUrl());
+            ds.setUsername(r.getUsername() != null ? r.getUsername() : properties.getUsername());
+            ds.setPassword(r.getPassword() != null ? r.getPassword() : properties.getPassword());
+            ds.setMaximumPoolSize(r.getMaximumPoolSize() != null
+                    ? r.getMaximumPoolSize() : primaryDataSource.getMaximumPoolSize());
+            ds.setReadOnly(true);
+            ds.setInitializationFailTimeout(-1); // 복제 DB가 내려가 있어도 기동은 계속(상태 확인에서 제외)
+            ds.setDataSourceProperties(primaryDataSource.getDataSourceProperties()); // 문장 캐시/prefetch 동일 적용
+            ds.setMetricsTrackerFactory(poolMetrics);  // 빈이 아니라 자동 연결 대상에서 빠짐
+            pools.add(ds);
+        }
+        long interval = env.getProperty("gym.datasource.replica-check-interval-ms", Long.class, 5_000L);
+        return new ReadWriteRoutingDataSource(primaryDataSource, pools, interval);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReadWriteRoutingDataSource routingDataSource) {
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    @Getter
+    @Setter
+    public static class Replica {
+        private String url;
+        private String username;
+        private String password;
+        private Integer maximumPoolSize;
+    }
+}
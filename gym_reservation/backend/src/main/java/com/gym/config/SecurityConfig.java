@@ -27,6 +27,8 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 // import com.gym.security.JwtTokenProvider; [250916 삭제]
 import com.gym.security.NewJwtTokenProvider; // [250916 추가]
 import com.gym.security.JwtAuthenticationFilter;
+import com.gym.security.RateLimitFilter; // [261019 추가] 요청 수 제한
+import com.gym.security.RateLimiter;     // [261019 추가]
 import org.springframework.http.HttpMethod; //[250917 추가]
 
 @Configuration
@@ -69,7 +71,7 @@ public class SecurityConfig {
 
     // [수정] 필터체인 메서드 1개로 통합(세션 무상태 + JWT 필터 등록 추가)
     @Bean
-    public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain filterChain(HttpSecurity http, RateLimiter rateLimiter) throws Exception {
         // [추가] 세션 완전 무상태: JWT 기반 인증
         http.sessionManagement(m -> m.sessionCreationPolicy(SessionCreationPolicy.STATELESS)); // [추가]
 
@@ -125,6 +127,12 @@ public class SecurityConfig {
             	    /* ============================= CMS 관리 =========================== */
             	    // 통계정보
             	    .requestMatchers("/api/cms/stats").hasAnyRole("ADMIN")
+            	    // [261019추가] SQL 구문별 실행 통계
+            	    .requestMatchers("/api/cms/sql-stats").hasAnyRole("ADMIN")
+            	    // [261019추가] MyBatis 2차 캐시 통계/비우기
+            	    .requestMatchers("/api/cms/cache-stats").hasAnyRole("ADMIN")
+            	    // [261019추가] 노드 간 캐시 무효화 수신(공유 토큰으로 컨트롤러에서 검증)
+            	    .requestMatchers(HttpMethod.POST, "/api/internal/cache/invalidate").permitAll()
             	    // 계좌
             	    .requestMatchers("/api/cms/accounts/**").hasAnyAuthority("관리자","책임자","ROLE_ADMIN","admin")
             	    // 카드
@@ -135,6 +143,8 @@ public class SecurityConfig {
             	    .requestMatchers("/api/cms/facilities/**").hasAnyAuthority("강사","책임자","ROLE_ADMIN","admin")
             	    // 게시판
             	    .requestMatchers("/api/cms/boards/**").hasAnyAuthority("관리자","책임자","ROLE_ADMIN","admin")
+            	    // [261019추가] 데이터 내보내기(회원 개인정보 포함)
+            	    .requestMatchers("/api/cms/exports/**").hasAnyAuthority("관리자","책임자","ROLE_ADMIN","admin")
             	    
             	    /* ======================= CMS 계좌/카드 관리 =========================== */
             	    
@@ -187,6 +197,7 @@ public class SecurityConfig {
 	            	//.requestMatchers(HttpMethod.PUT,  "/api/members/*").authenticated()
 	            	.requestMatchers(HttpMethod.GET,  "/api/members/me").authenticated()
 	            	.requestMatchers(HttpMethod.PUT,  "/api/members/me").authenticated()
+	            	.requestMatchers(HttpMethod.GET,  "/api/me/overview").authenticated() // [261019 신규] 마이페이지 요약
 	            	
 	            	// 테스트
 	            	// .requestMatchers(HttpMethod.GET,  "/api/members/*").permitAll() // [250929]임시로 회원조회가 리엑트와 연동되는지 테스트하려고 전체허용함
@@ -250,6 +261,9 @@ public class SecurityConfig {
         // JWT 인증 필터 등록 (스프링의 UsernamePasswordAuthenticationFilter 앞에 삽입)
         http.addFilterBefore(new JwtAuthenticationFilter(jwtTokenProvider), UsernamePasswordAuthenticationFilter.class);
 
+        // [261019 추가] 요청 수 제한 필터(JWT 인증 앞) → 과다 요청은 인증/DB 조회 전에 429
+        http.addFilterBefore(new RateLimitFilter(rateLimiter, jwtTokenProvider), JwtAuthenticationFilter.class);
+
         return http.build();
     }
 
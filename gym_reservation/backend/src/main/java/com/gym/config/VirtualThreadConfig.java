@@ -0,0 +1,50 @@
+package com.gym.config;
+
+import com.gym.config.datasource.ConcurrencyLimitedDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+
+/**
+ * [261019 신규] 가상 스레드 실행 모드 (spring.threads.virtual.enabled=true, Java 21 이상)
+ * - 톰캣 요청 처리 / @Async 기본 실행기 / 스케줄러: 스프링 부트가 같은 속성으로 가상 스레드 전환
+ * - fanoutExecutor: AsyncConfig에서 같은 속성을 보고 가상 스레드 실행기로 전환
+ * - 여기서는 DB 동시 사용 수만 제한: DataSource를 ConcurrencyLimitedDataSource로 감쌈
+ *   (허가 수 = gym.db.max-concurrency, 미지정 시 Hikari maximum-pool-size)
+ * - 점검: DB 호출/대기를 감싼 synchronized 블록 없음(캐리어 스레드 고정 방지)
+ *   - [261019변경] synchronized는 I/O 없는 짧은 메모리 구간만(LocalTtlCache, 일괄 등록 작업 목록)
+ *   - 회원ID 인덱스 재구성은 잠금 없이 교체, 공유 시설 점유 인덱스는 ReentrantLock 사용
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadConfig {
+
+    @Bean
+    public static BeanPostProcessor dbConcurrencyLimiter(Environment env) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource ds) || bean instanceof ConcurrencyLimitedDataSource
+                        || !"dataSource".equals(beanName)) {
+                    return bean;
+                }
+                int poolSize = (ds instanceof HikariDataSource h) ? h.getMaximumPoolSize()
+                        : env.getProperty("spring.datasource.hikari.maximum-pool-size", Integer.class, 10); // 라우팅 구성 시
+                int limit = env.getProperty("gym.db.max-concurrency", Integer.class, poolSize);
+                long timeoutMs = env.getProperty("gym.db.acquire-timeout-ms", Long.class, 30_000L);
+
+                log.info("[virtual-threads] DB 동시 사용 한도 {} (대기 최대 {}ms)", limit, timeoutMs);
+                return new ConcurrencyLimitedDataSource(ds, limit, timeoutMs);
+            }
+        };
+    }
+}
@@ -0,0 +1,186 @@
+package com.gym.config.datasource;
+
+import com.gym.config.mybatis.LatencyHistogram;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import com.zaxxer.hikari.metrics.PoolStats;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.jdbc.DataSourceUnwrapper;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.sql.DataSource;
+
+/**
+ * [261019 신규] 커넥션 풀(Hikari) 지표 + 고갈 감지
+ * - 풀마다: 활성/유휴/전체/대기 스레드 수, 커넥션 획득 시간·사용 시간 분포, 획득 타임아웃 건수
+ * - 모든 HikariDataSource 빈에 자동 연결(풀 시작 전 MetricsTrackerFactory 등록), 복제 풀은 설정에서 직접 연결
+ * - 고갈 감지: 1초마다 확인, 활성 = 최대 이고 대기 스레드가 있는 상태가 연속 N초 → WARN (30초에 1번)
+ */
+@Slf4j
+public class PoolMetrics implements MetricsTrackerFactory, BeanPostProcessor, DisposableBean {
+
+    private static final long WARN_INTERVAL_MS = 30_000;
+
+    private final Map<String, Pool> pools = new ConcurrentHashMap<>();
+    private final long slowAcquireNanos;
+    private final int starvationSeconds;
+    private final ScheduledExecutorService detector;
+
+    public PoolMetrics(long slowAcquireMs, int starvationSeconds) {
+        this.slowAcquireNanos = TimeUnit.MILLISECONDS.toNanos(slowAcquireMs);
+        this.starvationSeconds = starvationSeconds;
+        this.detector = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "pool-starvation");
+            t.setDaemon(true);
+            return t;
+        });
+        this.detector.scheduleWithFixedDelay(this::detectStarvation, 1, 1, TimeUnit.SECONDS);
+    }
+
+    /* ============================== Hikari 연결 ============================== */
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource ds) {
+            HikariDataSource hikari = DataSourceUnwrapper.unwrap(ds, HikariDataSource.class);
+            if (hikari != null && hikari.getMetricsTrackerFactory() == null) {
+                try {
+                    hikari.setMetricsTrackerFactory(this);
+                } catch (IllegalStateException e) {
+                    log.warn("[pool] 이미 시작된 풀이라 지표 연결 생략: {}", hikari.getPoolName());
+                }
+            }
+        }
+        return bean;
+    }
+
+    @Override
+    public IMetricsTracker create(String poolName, PoolStats poolStats) {
+        Pool pool = new Pool(poolStats);
+        pools.put(poolName, pool);
+        return new IMetricsTracker() {
+            @Override
+            public void recordConnectionAcquiredNanos(long elapsedAcquiredNanos) {
+                pool.acquire.record(elapsedAcquiredNanos);
+                if (elapsedAcquiredNanos >= slowAcquireNanos) {
+                    pool.slowAcquires.increment();
+                }
+            }
+
+            @Override
+            public void recordConnectionUsageMillis(long elapsedBorrowedMillis) {
+                pool.usage.record(TimeUnit.MILLISECONDS.toNanos(elapsedBorrowedMillis));
+            }
+
+            @Override
+            public void recordConnectionTimeout() {
+                pool.timeouts.increment();
+            }
+        };
+    }
+
+    /* ============================== 조회 ============================== */
+
+    // 풀 이름 → 현재 상태 + 누적 지표
+    public Map<String, Object> snapshot() {
+        Map<String, Object> out = new LinkedHashMap<>();
+        pools.forEach((name, p) -> {
+            PoolStats s = p.stats;
+            Map<String, Object> m = new LinkedHashMap<>();
+            m.put("active", s.getActiveConnections());
+            m.put("idle", s.getIdleConnections());
+            m.put("total", s.getTotalConnections());
+            m.put("max", s.getMaxConnections());
+            m.put("pending", s.getPendingThreads());
+            m.put("saturation", saturation(s));
+            m.put("starving", p.starvingSince > 0);
+            m.put("acquire", p.acquire.summary());
+            m.put("usage", p.usage.summary());
+            m.put("slowAcquires", p.slowAcquires.sum());
+            m.put("timeouts", p.timeouts.sum());
+            out.put(name, m);
+        });
+        return out;
+    }
+
+    // 고갈 상태인 풀이 하나라도 있는지
+    public boolean anyStarving() {
+        return pools.values().stream().anyMatch(p -> p.starvingSince > 0);
+    }
+
+    // 사용률(활성 / 최대), 소수 2자리
+    private static double saturation(PoolStats s) {
+        int max = s.getMaxConnections();
+        return max == 0 ? 0 : Math.round(s.getActiveConnections() * 100.0 / max) / 100.0;
+    }
+
+    /* ============================== 고갈 감지 ============================== */
+
+    private void detectStarvation() {
+        long now = System.currentTimeMillis();
+        pools.forEach((name, p) -> {
+            try {
+                PoolStats s = p.stats;
+                boolean full = s.getMaxConnections() > 0
+                        && s.getActiveConnections() >= s.getMaxConnections()
+                        && s.getPendingThreads() > 0;
+                if (!full) {
+                    if (p.starvingSince > 0) {
+                        log.info("[pool] {} 고갈 해소 ({}초 지속)", name, (now - p.starvingSince) / 1000);
+                    }
+                    p.streak = 0;
+                    p.starvingSince = 0;
+                    return;
+                }
+                if (++p.streak < starvationSeconds) {
+                    return;
+                }
+                if (p.starvingSince == 0) {
+                    p.starvingSince = now;
+                }
+                if (now - p.lastWarn >= WARN_INTERVAL_MS) {
+                    p.lastWarn = now;
+                    log.warn("[pool] {} 커넥션 고갈 - active {}/{}, 대기 스레드 {}, 획득 {}, 타임아웃 누적 {}",
+                            name, s.getActiveConnections(), s.getMaxConnections(), s.getPendingThreads(),
+                            p.acquire.summary(), p.timeouts.sum());
+                }
+            } catch (RuntimeException e) {
+                log.debug("[pool] {} 상태 확인 실패", name, e);
+            }
+        });
+    }
+
+    @Override
+    public void destroy() {
+        detector.shutdownNow();
+    }
+
+    private static final class Pool {
+        final PoolStats stats;
+        final LatencyHistogram acquire = new LatencyHistogram();
+        final LatencyHistogram usage = new LatencyHistogram();
+        final LongAdder slowAcquires = new LongAdder();
+        final LongAdder timeouts = new LongAdder();
+
+        // 고갈 감지 상태(감지 스레드 전용, 조회는 volatile로 공개)
+        int streak;
+        volatile long starvingSince;
+        long lastWarn;
+
+        Pool(PoolStats stats) {
+            this.stats = stats;
+        }
+    }
+}
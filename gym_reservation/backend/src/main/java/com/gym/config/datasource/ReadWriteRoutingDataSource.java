@@ -0,0 +1,145 @@
+package com.gym.config.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+/**
+ * [261019 신규] 읽기/쓰기 라우팅 DataSource
+ * - @Transactional(readOnly = true) 트랜잭션 → 복제(replica) 풀 중 정상인 곳으로 라운드로빈
+ * - 그 외(쓰기 트랜잭션, 트랜잭션 없음) → 주(primary) 풀
+ * - 같은 요청에서 쓰기 트랜잭션이 한 번이라도 열리면 이후 읽기도 주 풀 사용(read-your-writes)
+ *   (트랜잭션 없는 조회 — JWT 필터의 회원 조회 등 — 는 표시하지 않음)
+ * - 복제 풀 상태는 주기적으로 확인(Connection.isValid), 첫 확인 전까지는 제외
+ *   커넥션 획득 실패 시 즉시 제외 후 주 풀로 대체
+ * - readOnly 여부는 커넥션 획득 시점에 판정 → 반드시 LazyConnectionDataSourceProxy 뒤에 두고 사용
+ */
+@Slf4j
+public class ReadWriteRoutingDataSource extends AbstractDataSource implements AutoCloseable {
+
+    // 요청 범위 속성: 이 요청에서 쓰기 커넥션을 사용함
+    static final String WROTE_ATTR = ReadWriteRoutingDataSource.class.getName() + ".WROTE";
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final AtomicInteger next = new AtomicInteger();
+    private final ScheduledExecutorService checker;
+
+    public ReadWriteRoutingDataSource(DataSource primary, List<DataSource> replicas, long checkIntervalMs) {
+        this.primary = primary;
+        this.replicas = replicas.stream().map(Replica::new).toList();
+        this.checker = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "replica-health");
+            t.setDaemon(true);
+            return t;
+        });
+        this.checker.scheduleWithFixedDelay(this::checkReplicas, 0, checkIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (!routeToReplica()) {
+            markWrote();
+            return primary.getConnection();
+        }
+        int n = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), n);
+        for (int i = 0; i < n; i++) {
+            Replica r = replicas.get((start + i) % n);
+            if (!r.healthy.get()) {
+                continue;
+            }
+            try {
+                return r.dataSource.getConnection();
+            } catch (SQLException e) {
+                markDown(r, e);
+            }
+        }
+        return primary.getConnection(); // 정상 복제 풀 없음
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return primary.getConnection(username, password); // 계정 지정 요청은 주 풀 고정
+    }
+
+    public int healthyReplicaCount() {
+        return (int) replicas.stream().filter(r -> r.healthy.get()).count();
+    }
+
+    @Override
+    public void close() throws Exception {
+        checker.shutdownNow();
+        for (Replica r : replicas) {
+            if (r.dataSource instanceof AutoCloseable c) {
+                c.close();
+            }
+        }
+    }
+
+    /* ============================== 내부 ============================== */
+
+    private boolean routeToReplica() {
+        if (replicas.isEmpty() || !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return false;
+        }
+        RequestAttributes attrs = RequestContextHolder.getRequestAttributes();
+        return attrs == null || attrs.getAttribute(WROTE_ATTR, RequestAttributes.SCOPE_REQUEST) == null;
+    }
+
+    private void markWrote() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return;
+        }
+        RequestAttributes attrs = RequestContextHolder.getRequestAttributes();
+        if (attrs != null) {
+            attrs.setAttribute(WROTE_ATTR, Boolean.TRUE, RequestAttributes.SCOPE_REQUEST);
+        }
+    }
+
+    private void checkReplicas() {
+        for (Replica r : replicas) {
+            try (Connection c = r.dataSource.getConnection()) {
+                if (c.isValid(2)) {
+                    if (r.healthy.compareAndSet(false, true)) {
+                        log.info("[datasource] 복제 풀 복구: {}", r.dataSource);
+                    }
+                } else {
+                    markDown(r, null);
+                }
+            } catch (SQLException | RuntimeException e) {
+                markDown(r, e);
+            }
+        }
+    }
+
+    private void markDown(Replica r, Exception cause) {
+        if (r.healthy.compareAndSet(true, false)) {
+            log.warn("[datasource] 복제 풀 제외: {} ({})", r.dataSource,
+                    cause == null ? "isValid=false" : cause.getMessage());
+        }
+    }
+
+    private static final class Replica {
+        final DataSource dataSource;
+        final AtomicBoolean healthy = new AtomicBoolean(false);
+
+        Replica(DataSource dataSource) {
+            this.dataSource = dataSource;
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.gym.config.mybatis;
+
+import com.gym.common.LocalTtlCache; // 공통 LRU + TTL 저장소
+
+import org.apache.ibatis.cache.Cache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * [261019 신규] MyBatis 2차 캐시 구현(네임스페이스 단위, 크기 + TTL 제한)
+ * - 매퍼 XML: <cache type="com.gym.config.mybatis.BoundedTtlCache"> / 어노테이션: @CacheNamespace(implementation = ...)
+ * - size: 최대 항목 수(초과 시 가장 오래 안 쓴 항목부터 제거), ttlSeconds: 항목 유효 시간
+ * - 같은 네임스페이스의 INSERT/UPDATE/DELETE 커밋 시 MyBatis가 clear() 호출 → 전체 무효화
+ *   → clear()는 무효화 리스너(다중 인스턴스 전파용, CacheInvalidationBus)에도 통지
+ * - 주의: 커스텀 캐시는 직렬화 복사를 하지 않음 → 캐시된 조회 결과를 수정하는 구문은 useCache=false
+ * - 저장/만료/통계는 LocalTtlCache, 이 클래스는 MyBatis Cache 연결과 네임스페이스 레지스트리만 담당
+ */
+public class BoundedTtlCache implements Cache {
+
+    // 네임스페이스 → 캐시 (통계 조회/원격 무효화용, MyBatis가 리플렉션으로 생성하므로 정적 보관)
+    private static final Map<String, BoundedTtlCache> REGISTRY = new ConcurrentHashMap<>();
+
+    // 로컬 쓰기로 무효화된 네임스페이스 통지(미설정 시 전파 안 함)
+    private static volatile Consumer<String> invalidationListener;
+
+    private final String id;
+    private final LocalTtlCache<Object, Object> store; // 기본 500건 / 300초
+
+    public BoundedTtlCache(String id) {
+        this.id = id;
+        this.store = new LocalTtlCache<>(id, 500, 300);
+        REGISTRY.put(id, this);
+    }
+
+    // <property name="size"> / @Property(name = "size")
+    public void setSize(int size) {
+        store.setMaxEntries(size);
+    }
+
+    // <property name="ttlSeconds"> / @Property(name = "ttlSeconds")
+    public void setTtlSeconds(long ttlSeconds) {
+        store.setTtlSeconds(ttlSeconds);
+    }
+
+    @Override
+    public String getId() {
+        return id;
+    }
+
+    @Override
+    public void putObject(Object key, Object value) {
+        store.put(key, value);
+    }
+
+    @Override
+    public Object getObject(Object key) {
+        return store.getIfPresent(key);
+    }
+
+    @Override
+    public Object removeObject(Object key) {
+        return store.remove(key);
+    }
+
+    // MyBatis 호출 경로(같은 네임스페이스 쓰기 커밋) → 로컬 비우기 + 리스너 통지
+    @Override
+    public void clear() {
+        clearLocal();
+        Consumer<String> listener = invalidationListener;
+        if (listener != null) {
+            listener.accept(id);
+        }
+    }
+
+    // 원격 무효화/관리자 비우기 경로 → 재전파 없이 로컬만 비움
+    public void clearLocal() {
+        store.invalidateAll();
+    }
+
+    @Override
+    public int getSize() {
+        return store.size();
+    }
+
+    public Map<String, Object> stats() {
+        return store.stats();
+    }
+
+    /* ============================== 정적 접근(레지스트리) ============================== */
+
+    public static void setInvalidationListener(Consumer<String> listener) {
+        invalidationListener = listener;
+    }
+
+    // 원격 무효화 수신: 알 수 없는 네임스페이스면 false
+    public static boolean clearLocal(String namespace) {
+        BoundedTtlCache cache = REGISTRY.get(namespace);
+        if (cache == null) return false;
+        cache.clearLocal();
+        return true;
+    }
+
+    public static void clearAllLocal() {
+        REGISTRY.values().forEach(BoundedTtlCache::clearLocal);
+    }
+
+    public static List<Map<String, Object>> snapshot() {
+        List<Map<String, Object>> list = new ArrayList<>();
+        REGISTRY.values().forEach(c -> list.add(c.stats()));
+        return list;
+    }
+}
@@ -0,0 +1,97 @@
+package com.gym.config.mybatis;
+
+import com.gym.common.TransactionHooks;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * [261019 신규] 2차 캐시 다중 인스턴스 무효화
+ * - 로컬 쓰기로 네임스페이스 캐시가 비워지면(커밋 후) gym.cache.peers 각 노드에 무효화 요청 POST
+ *   → 수신 측(CacheInvalidationController)은 재전파 없이 로컬 캐시만 비움
+ * - 전파 실패는 WARN 로그만 남김(최악의 경우에도 TTL 경과 후 일치)
+ * - peers 미설정(단일 인스턴스)이면 아무것도 하지 않음
+ */
+@Slf4j
+@Component
+public class CacheInvalidationBus {
+
+    public static final String TOKEN_HEADER = "X-Cache-Token";
+    public static final String INVALIDATE_PATH = "/api/internal/cache/invalidate";
+
+    private final List<String> peers;   // 다른 인스턴스 기본 URL 목록(예: http://app2:8181)
+    private final String peerToken;     // 노드 간 공유 토큰
+    private final HttpClient http = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(2))
+            .build();
+
+    public CacheInvalidationBus(@Value("${gym.cache.peers:}") List<String> peers,
+                                @Value("${gym.cache.peer-token:}") String peerToken) {
+        this.peers = peers.stream().map(String::trim).filter(p -> !p.isEmpty()).toList();
+        this.peerToken = peerToken;
+    }
+
+    @PostConstruct
+    void register() {
+        if (peers.isEmpty()) {
+            return;
+        }
+        if (peerToken.isBlank()) {
+            log.warn("[cache] gym.cache.peers 설정됨, gym.cache.peer-token 없음 → 무효화 전파 비활성");
+            return;
+        }
+        BoundedTtlCache.setInvalidationListener(this::onLocalInvalidation);
+        log.info("[cache] 무효화 전파 대상 {}개 노드: {}", peers.size(), peers);
+    }
+
+    @PreDestroy
+    void unregister() {
+        BoundedTtlCache.setInvalidationListener(null);
+    }
+
+    // 수신 토큰 검증(토큰 미설정이면 항상 거부)
+    public boolean acceptsToken(String token) {
+        return !peerToken.isBlank() && token != null
+                && MessageDigest.isEqual(peerToken.getBytes(StandardCharsets.UTF_8),
+                                         token.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // MyBatis는 SqlSession 커밋(=DB 커밋 직전)에 clear() 호출 → 원격 전파는 DB 커밋 후로 미룸
+    private void onLocalInvalidation(String namespace) {
+        TransactionHooks.afterCommit(() -> publish(namespace));
+    }
+
+    public void publish(String namespace) {
+        if (peerToken.isBlank()) return; // 토큰 없으면 수신 측이 모두 거부 → 보내지 않음
+        String query = "?namespace=" + URLEncoder.encode(namespace, StandardCharsets.UTF_8);
+        for (String peer : peers) {
+            HttpRequest req = HttpRequest.newBuilder(URI.create(peer + INVALIDATE_PATH + query))
+                    .timeout(Duration.ofSeconds(3))
+                    .header(TOKEN_HEADER, peerToken)
+                    .POST(HttpRequest.BodyPublishers.noBody())
+                    .build();
+            http.sendAsync(req, HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((res, ex) -> {
+                        if (ex != null) {
+                            log.warn("[cache] 무효화 전파 실패 - peer: {}, namespace: {}, error: {}", peer, namespace, ex.toString());
+                        } else if (res.statusCode() != 200) {
+                            log.warn("[cache] 무효화 전파 거부 - peer: {}, namespace: {}, status: {}", peer, namespace, res.statusCode());
+                        }
+                    });
+        }
+    }
+}
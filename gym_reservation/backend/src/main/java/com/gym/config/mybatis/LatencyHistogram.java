@@ -0,0 +1,84 @@
+package com.gym.config.mybatis;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * [261019 신규] 고정 크기 지연시간 히스토그램(로그 구간)
+ * - 구간: 50µs부터 2^(1/4)배(약 19%)씩 증가하는 96칸 → 최대 약 50µs × 2^24 ≈ 14분
+ * - 기록은 락 없이 원자 증가만 수행(요청 스레드 부담 최소)
+ * - 백분위 값은 해당 구간의 기하 중앙값(상대 오차 약 ±9%, HdrHistogram 저정밀 설정과 유사한 용도)
+ */
+public class LatencyHistogram {
+
+    private static final long BASE_MICROS = 50;
+    private static final int BUCKETS = 96;
+    private static final double STEPS_PER_DOUBLING = 4.0;
+
+    // 구간 i: (BASE × 2^((i-1)/4), BASE × 2^(i/4)] → 대표값은 두 경계의 기하 중앙값
+    private static final long[] MID_MICROS = new long[BUCKETS];
+    static {
+        for (int i = 0; i < BUCKETS; i++) {
+            MID_MICROS[i] = Math.round(BASE_MICROS * Math.pow(2, (i - 0.5) / STEPS_PER_DOUBLING));
+        }
+    }
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final LongAdder total = new LongAdder();
+    private final LongAdder sumMicros = new LongAdder();
+    private final LongAccumulator maxMicros = new LongAccumulator(Math::max, 0);
+
+    public void record(long nanos) {
+        long micros = Math.max(0, nanos / 1_000);
+        counts.incrementAndGet(bucketOf(micros));
+        total.increment();
+        sumMicros.add(micros);
+        maxMicros.accumulate(micros);
+    }
+
+    private static int bucketOf(long micros) {
+        if (micros <= BASE_MICROS) return 0;
+        int idx = (int) Math.ceil(Math.log((double) micros / BASE_MICROS) / Math.log(2) * STEPS_PER_DOUBLING);
+        return Math.min(idx, BUCKETS - 1);
+    }
+
+    public long count() {
+        return total.sum();
+    }
+
+    // 백분위(0~100) 지연시간(µs)
+    public long percentileMicros(double percentile) {
+        long n = total.sum();
+        if (n == 0) return 0;
+        long rank = (long) Math.ceil(n * percentile / 100.0);
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts.get(i);
+            if (seen >= rank) {
+                return Math.min(MID_MICROS[i], maxMicros.get());
+            }
+        }
+        return maxMicros.get();
+    }
+
+    // 응답용 요약(ms 단위, 소수 3자리)
+    public Map<String, Object> summary() {
+        long n = total.sum();
+        Map<String, Object> m = new LinkedHashMap<>();
+        m.put("count", n);
+        m.put("meanMs", n == 0 ? 0 : ms(sumMicros.sum() / n));
+        m.put("p50Ms", ms(percentileMicros(50)));
+        m.put("p90Ms", ms(percentileMicros(90)));
+        m.put("p99Ms", ms(percentileMicros(99)));
+        m.put("p999Ms", ms(percentileMicros(99.9)));
+        m.put("maxMs", ms(maxMicros.get()));
+        return m;
+    }
+
+    private static double ms(long micros) {
+        return micros / 1000.0;
+    }
+}
@@ -0,0 +1,159 @@
+package com.gym.config.mybatis;
+
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.apache.ibatis.cache.CacheKey;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.ParameterMapping;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.StringJoiner;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * [261019 신규] MyBatis 구문별 실행 통계 인터셉터
+ * - 대상: Executor.query(4/6인자) / Executor.update
+ * - 기록: 구문 ID별 지연시간 히스토그램, 반환(조회)·영향(CUD) 행 수, 오류 수
+ * - 느린 구문: 임계값(gym.sql.slow-threshold-ms, 기본 500ms) 초과 시에만 바인딩 SQL을 WARN 로그로 남김
+ *   (파라미터 값은 비밀번호 등이 섞일 수 있어 기록하지 않음)
+ * - 등록: MyBatisConfig.sqlSessionFactory 에서 플러그인으로 추가
+ * - [261019] SQL 추적(log4jdbc DriverSpy/StdOutImpl 대체): 드라이버 프록시 없이 이 인터셉터에서 기록
+ *   · gym.sql.trace.mode = off | slow | sampled | full (SqlTraceMode 참고)
+ *   · 추적 로그는 전용 로거(com.gym.sql.trace)로 출력 → 로깅 파이프라인 설정을 그대로 따름
+ *   · 바인딩 값은 full 모드에서만 기록, 이름에 pw/password가 들어간 값은 마스킹
+ */
+@Slf4j
+@Component
+@Intercepts({
+        @Signature(type = Executor.class, method = "query",
+                   args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class}),
+        @Signature(type = Executor.class, method = "query",
+                   args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class,
+                           CacheKey.class, BoundSql.class}),
+        @Signature(type = Executor.class, method = "update",
+                   args = {MappedStatement.class, Object.class})
+})
+public class SqlMetricsInterceptor implements Interceptor {
+
+    private static final Logger TRACE = LoggerFactory.getLogger("com.gym.sql.trace");
+
+    private final SqlStatementMetrics metrics;
+    private final long slowThresholdNanos;
+    private final SqlTraceMode traceMode;
+    private final int sampleRate;
+
+    public SqlMetricsInterceptor(SqlStatementMetrics metrics,
+                                 @Value("${gym.sql.slow-threshold-ms:500}") long slowThresholdMs,
+                                 @Value("${gym.sql.trace.mode:slow}") String traceMode,
+                                 @Value("${gym.sql.trace.sample-rate:100}") int sampleRate) {
+        this.metrics = metrics;
+        this.slowThresholdNanos = slowThresholdMs * 1_000_000L;
+        this.traceMode = SqlTraceMode.valueOf(traceMode.trim().toUpperCase());
+        this.sampleRate = Math.max(1, sampleRate);
+        log.info("[sql-trace] mode={}, sampleRate=1/{}, slowThreshold={}ms", this.traceMode, this.sampleRate, slowThresholdMs);
+    }
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        Object[] args = invocation.getArgs();
+        MappedStatement ms = (MappedStatement) args[0];
+
+        long started = System.nanoTime();
+        Object result = null;
+        boolean error = false;
+        try {
+            result = invocation.proceed();
+            return result;
+        } catch (Throwable t) {
+            error = true;
+            throw t;
+        } finally {
+            long elapsed = System.nanoTime() - started;
+            long rows = rowsOf(result);
+            boolean slow = elapsed >= slowThresholdNanos;
+            metrics.record(ms.getId(), elapsed, rows, error, slow);
+            trace(ms, args, elapsed, rows, error, slow);
+        }
+    }
+
+    // 모드별 추적 로그(기록 대상이 아니면 SQL 문자열을 만들지 않음)
+    private void trace(MappedStatement ms, Object[] args, long elapsed, long rows, boolean error, boolean slow) {
+        if (traceMode == SqlTraceMode.OFF) {
+            return;
+        }
+        if (slow) {
+            BoundSql boundSql = boundSqlOf(ms, args);
+            TRACE.warn("[sql-slow] {} {}ms rows={} error={} sql={}",
+                    ms.getId(), elapsed / 1_000_000, rows, error, compact(boundSql.getSql()));
+            return;
+        }
+        boolean sampled = traceMode == SqlTraceMode.FULL
+                || (traceMode == SqlTraceMode.SAMPLED && ThreadLocalRandom.current().nextInt(sampleRate) == 0);
+        if (!sampled || !TRACE.isInfoEnabled()) {
+            return;
+        }
+        BoundSql boundSql = boundSqlOf(ms, args);
+        if (traceMode == SqlTraceMode.FULL) {
+            TRACE.info("[sql] {} {}ms rows={} error={} sql={} params={}",
+                    ms.getId(), elapsed / 1_000_000, rows, error, compact(boundSql.getSql()),
+                    paramsOf(ms.getConfiguration(), boundSql));
+        } else {
+            TRACE.info("[sql-sample] {} {}ms rows={} error={} sql={}",
+                    ms.getId(), elapsed / 1_000_000, rows, error, compact(boundSql.getSql()));
+        }
+    }
+
+    private static BoundSql boundSqlOf(MappedStatement ms, Object[] args) {
+        return args.length == 6 ? (BoundSql) args[5] : ms.getBoundSql(args[1]);
+    }
+
+    // 바인딩 값 목록(MyBatis DefaultParameterHandler와 같은 순서/규칙으로 추출)
+    private static String paramsOf(Configuration configuration, BoundSql boundSql) {
+        List<ParameterMapping> mappings = boundSql.getParameterMappings();
+        Object parameterObject = boundSql.getParameterObject();
+        StringJoiner joiner = new StringJoiner(", ", "[", "]");
+        for (ParameterMapping pm : mappings) {
+            String name = pm.getProperty();
+            Object value;
+            if (boundSql.hasAdditionalParameter(name)) {
+                value = boundSql.getAdditionalParameter(name);
+            } else if (parameterObject == null) {
+                value = null;
+            } else if (configuration.getTypeHandlerRegistry().hasTypeHandler(parameterObject.getClass())) {
+                value = parameterObject;
+            } else {
+                value = configuration.newMetaObject(parameterObject).getValue(name);
+            }
+            String lower = name.toLowerCase();
+            joiner.add(lower.contains("pw") || lower.contains("password") ? "****" : String.valueOf(value));
+        }
+        return joiner.toString();
+    }
+
+    // 조회: 목록 크기, CUD: 영향 행 수
+    private static long rowsOf(Object result) {
+        if (result instanceof Collection<?> c) return c.size();
+        if (result instanceof Number n) return n.longValue();
+        return 0;
+    }
+
+    // 줄바꿈/들여쓰기 정리(한 줄 로그)
+    private static String compact(String sql) {
+        return sql == null ? "" : sql.replaceAll("\\s+", " ").trim();
+    }
+}
@@ -0,0 +1,59 @@
+package com.gym.config.mybatis;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * [261019 신규] 매퍼 구문(MappedStatement ID)별 실행 통계 저장소
+ * - 구문별: 지연시간 히스토그램 + 반환/영향 행 수 + 오류 수 + 느린 구문 수
+ * - 구문 ID 개수는 매퍼에 정의된 수로 한정되므로 맵 크기도 한정됨
+ */
+@Component
+public class SqlStatementMetrics {
+
+    private final Map<String, StatementStats> stats = new ConcurrentHashMap<>();
+
+    public void record(String statementId, long nanos, long rows, boolean error, boolean slow) {
+        StatementStats s = stats.computeIfAbsent(statementId, k -> new StatementStats());
+        s.latency.record(nanos);
+        if (rows > 0) s.rows.add(rows);
+        if (error) s.errors.increment();
+        if (slow) s.slow.increment();
+    }
+
+    // 전체 요약(총 소요시간 큰 순)
+    public List<Map<String, Object>> snapshot() {
+        List<Map<String, Object>> list = new ArrayList<>();
+        stats.forEach((id, s) -> {
+            Map<String, Object> m = new LinkedHashMap<>();
+            m.put("statementId", id);
+            m.putAll(s.latency.summary());
+            m.put("rows", s.rows.sum());
+            m.put("errors", s.errors.sum());
+            m.put("slow", s.slow.sum());
+            list.add(m);
+        });
+        list.sort(Comparator.comparingDouble(
+                (Map<String, Object> m) -> ((Number) m.get("meanMs")).doubleValue() * ((Number) m.get("count")).longValue())
+                .reversed());
+        return list;
+    }
+
+    public void reset() {
+        stats.clear();
+    }
+
+    private static final class StatementStats {
+        private final LatencyHistogram latency = new LatencyHistogram();
+        private final LongAdder rows = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder slow = new LongAdder();
+    }
+}
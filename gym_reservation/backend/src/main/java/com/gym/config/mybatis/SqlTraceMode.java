@@ -0,0 +1,12 @@
+package com.gym.config.mybatis;
+
+/**
+ * [261019 신규] SQL 추적 로그 모드 (gym.sql.trace.mode)
+ * - OFF     : SQL 로그 없음(실행 통계만 수집)
+ * - SLOW    : 느린 구문(gym.sql.slow-threshold-ms 이상)만 기록 — 운영 기본값
+ * - SAMPLED : N건 중 1건(gym.sql.trace.sample-rate) + 느린 구문 기록
+ * - FULL    : 모든 구문 + 바인딩 값 기록 — 개발 전용
+ */
+public enum SqlTraceMode {
+    OFF, SLOW, SAMPLED, FULL
+}
@@ -0,0 +1,83 @@
+package com.gym.controller;
+
+import com.gym.config.mybatis.BoundedTtlCache;        // 2차 캐시(네임스페이스 단위)
+import com.gym.config.mybatis.CacheInvalidationBus;   // 노드 간 무효화
+import com.gym.security.UnknownMemberCache;           // [261019] 로그인 '회원 없음' 캐시
+import com.gym.service.support.CommentFirstPageCache; // [261019] 게시글 댓글 첫 페이지 캐시
+import com.gym.service.support.MemberIdRegistry;      // [261019] 회원ID 존재 인덱스
+import com.gym.service.support.MemberInstrumentCache; // [261019] 회원별 카드/계좌 캐시
+import com.gym.service.support.MemberSearchIndex;     // [261019] 회원 검색 인덱스
+
+import io.swagger.v3.oas.annotations.Hidden;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * [261019 신규] 다른 인스턴스가 보내는 2차 캐시 무효화 수신
+ * - 공유 토큰(X-Cache-Token) 일치 시에만 처리, 로컬 캐시만 비움(재전파 없음)
+ * - 인증 필터는 통과(permitAll), 대신 토큰으로 보호 → 토큰 미설정 노드는 항상 403
+ */
+@Hidden
+@RestController
+@RequiredArgsConstructor
+public class CacheInvalidationController {
+
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final MemberIdRegistry memberIdRegistry;
+    private final MemberSearchIndex memberSearchIndex;
+    private final MemberInstrumentCache memberInstrumentCache;
+    private final CommentFirstPageCache commentFirstPageCache;
+    private final UnknownMemberCache unknownMemberCache;
+
+    @PostMapping(CacheInvalidationBus.INVALIDATE_PATH)
+    public ResponseEntity<Void> invalidate(
+            @RequestHeader(name = CacheInvalidationBus.TOKEN_HEADER, required = false) String token,
+            @RequestParam("namespace") String namespace) {
+        if (!cacheInvalidationBus.acceptsToken(token)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        // 회원 가입/삭제 알림 → 해당 ID만 DB 재확인
+        if (namespace.startsWith(MemberIdRegistry.PEER_PREFIX)) {
+            String memberId = namespace.substring(MemberIdRegistry.PEER_PREFIX.length());
+            if (MemberIdRegistry.PEER_ALL.equals(memberId)) { // 일괄 등록 → 전체 재구성
+                // [261019변경] 전체 스캔은 전용 실행기에서(요청 스레드는 바로 응답)
+                // memberIdRegistry.rebuild();
+                // memberSearchIndex.rebuild();
+                memberIdRegistry.rebuildInBackground();
+                memberSearchIndex.rebuildInBackground();
+                unknownMemberCache.clear(); // 다른 노드에서 등록된 ID로 바로 로그인 가능
+                return ResponseEntity.ok().build();
+            }
+            memberIdRegistry.recheck(memberId);
+            memberSearchIndex.refresh(memberId);
+            unknownMemberCache.forget(memberId);        // 다른 노드에서 가입한 ID로 바로 로그인 가능
+            memberInstrumentCache.evictLocal(memberId); // 회원 삭제 시 카드/계좌도 삭제됨
+            return ResponseEntity.ok().build();
+        }
+        // 카드/계좌 등록·삭제·대표 변경 알림 → 해당 회원 스냅샷만 제거
+        if (namespace.startsWith(MemberInstrumentCache.PEER_PREFIX)) {
+            memberInstrumentCache.evictLocal(namespace.substring(MemberInstrumentCache.PEER_PREFIX.length()));
+            return ResponseEntity.ok().build();
+        }
+        // 댓글 등록/수정/삭제 알림 → 해당 게시글 첫 페이지만 제거("*"는 전체)
+        if (namespace.startsWith(CommentFirstPageCache.PEER_PREFIX)) {
+            String postId = namespace.substring(CommentFirstPageCache.PEER_PREFIX.length());
+            if (CommentFirstPageCache.PEER_ALL.equals(postId)) {
+                commentFirstPageCache.clearLocal();
+                return ResponseEntity.ok().build();
+            }
+            try {
+                commentFirstPageCache.evictLocal(Long.valueOf(postId));
+            } catch (NumberFormatException e) {
+                return ResponseEntity.badRequest().build();
+            }
+            return ResponseEntity.ok().build();
+        }
+        return BoundedTtlCache.clearLocal(namespace)
+                ? ResponseEntity.ok().build()
+                : ResponseEntity.notFound().build();
+    }
+}
@@ -1,25 +1,47 @@
 /* ============================================================
 [임시 헬스체크(DB)] HealthDbController
 - 목적: DB 커넥션 실쿼리 확인(SELECT 1 FROM DUAL)
+- [261019변경] 커넥션 풀 포화도/대기/획득 시간까지 함께 보고
+  status: UP(정상) / DEGRADED(풀 고갈 감지) / DOWN(쿼리 실패, 503)
 - 임시 허용: dev에서만 공개
 - 실전 전 TODO:
   1) 이 파일 삭제 또는 내부망/IP 제한
 ============================================================ */
 package com.gym.controller;                                     // 📦 컨트롤러 패키지
 
+import com.gym.config.datasource.PoolMetrics;                    // 📊 커넥션 풀 지표
 import org.springframework.http.*;                               // 🌐 응답 타입
 import org.springframework.jdbc.core.JdbcTemplate;               // 🧰 간단 쿼리 실행
 import org.springframework.web.bind.annotation.*;                // 🌐 REST 어노테이션
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 @RestController
 public class HealthDbController {                                // ❤️ DB 헬스(임시)
     private final JdbcTemplate jt;                               // 💉 JdbcTemplate 주입
-    public HealthDbController(JdbcTemplate jt){ this.jt = jt; }  // 🧩 생성자 주입
+    private final PoolMetrics poolMetrics;                       // 💉 풀 지표 주입
+    public HealthDbController(JdbcTemplate jt, PoolMetrics poolMetrics){ // 🧩 생성자 주입
+        this.jt = jt;
+        this.poolMetrics = poolMetrics;
+    }
 
     @GetMapping("/health/db")                                    // 🌐 GET /health/db
-    public ResponseEntity<String> db(){                          // 🚦 DB 상태 응답
-        Integer one = jt.queryForObject("SELECT 1 FROM DUAL", Integer.class); // 🔎 최소 쿼리
-        return ResponseEntity.ok("DB_OK:" + one);                // ✅ "DB_OK:1" 기대
+    public ResponseEntity<Map<String, Object>> db(){             // 🚦 DB 상태 응답
+        Map<String, Object> body = new LinkedHashMap<>();
+        long begin = System.nanoTime();
+        try {
+            Integer one = jt.queryForObject("SELECT 1 FROM DUAL", Integer.class); // 🔎 최소 쿼리
+            body.put("status", poolMetrics.anyStarving() ? "DEGRADED" : "UP");
+            body.put("query", "DB_OK:" + one);                   // ✅ "DB_OK:1" 기대(기존 응답값 유지)
+        } catch (RuntimeException e) {
+            body.put("status", "DOWN");
+            body.put("query", e.getClass().getSimpleName() + ": " + e.getMessage());
+        }
+        body.put("queryMs", (System.nanoTime() - begin) / 1_000_000.0);
+        body.put("pools", poolMetrics.snapshot());               // 📊 풀별 active/idle/pending/포화도/획득시간
+
+        HttpStatus status = "DOWN".equals(body.get("status")) ? HttpStatus.SERVICE_UNAVAILABLE : HttpStatus.OK;
+        return ResponseEntity.status(status).body(body);
     }
 }
-
@@ -4,16 +4,20 @@ package com.gym.controller;
 import com.gym.security.NewJwtTokenProvider; // [1-1] JWT 토큰 발급/검증
 import com.gym.security.mapper.LoginQueryMapper; // [1-2] 회원 로그인 전용 매퍼
 import com.gym.domain.member.Member; // [1-3] member_tbl과 매핑된 DTO
+import com.gym.security.PasswordVerifier;   // [261019] BCrypt 검증 전용 풀
+import com.gym.security.UnknownMemberCache; // [261019] 없는 회원ID 단기 캐시
+import com.gym.service.RefreshTokenService; // [261019] 리프레시 토큰(회전식)
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.stream.Stream;
 
 @Tag(name = "00.로그인", description = "로그인 후, 발행되는 토큰을 상단 Authorize에 입력")
 @RestController
@@ -22,39 +26,59 @@ import java.util.Map;
 public class SignController {
 
     private final LoginQueryMapper loginQueryMapper; // [2-1] 로그인 쿼리 매퍼
-    private final PasswordEncoder passwordEncoder;   // [2-2] 비밀번호 검증기(BCrypt)
+    private final PasswordVerifier passwordVerifier; // [2-2] 비밀번호 검증기(BCrypt, [261019] 전용 풀에서 실행)
     private final NewJwtTokenProvider jwt;           // [2-3] JWT 토큰 제공자
+    private final UnknownMemberCache unknownMemberCache; // [2-4] [261019] 없는 회원ID 단기 캐시
+    private final RefreshTokenService refreshTokenService; // [2-5] [261019] 리프레시 토큰 발급
 
     public SignController(LoginQueryMapper loginQueryMapper,
-                          PasswordEncoder passwordEncoder,
-                          NewJwtTokenProvider jwt) {
+                          PasswordVerifier passwordVerifier,
+                          NewJwtTokenProvider jwt,
+                          UnknownMemberCache unknownMemberCache,
+                          RefreshTokenService refreshTokenService) {
         this.loginQueryMapper = loginQueryMapper;
-        this.passwordEncoder = passwordEncoder;
+        this.passwordVerifier = passwordVerifier;
         this.jwt = jwt;
+        this.unknownMemberCache = unknownMemberCache;
+        this.refreshTokenService = refreshTokenService;
     }
 
     @Operation(summary = "로그인", description = "아이디/비밀번호 확인 후 토큰과 전체 회원정보 반환")
     @PostMapping("/sign-in")
     public ResponseEntity<?> signIn(@RequestParam("userId") String userId,
                                     @RequestParam("password") String password) {
+        // [3-0] [261019] 최근 '회원 없음'으로 확인된 ID → DB 조회 생략
+        if (unknownMemberCache.isUnknown(userId)) {
+            return ResponseEntity.status(400).body(Map.of("code","400","message","회원 없음"));
+        }
+
         // [3-1] DB에서 userId로 회원 조회
-        var row = loginQueryMapper.findUser(userId);
-        if (row == null) {
+        // [261019변경] findUser → findRoles → selectMemberById 3회 조회를 1회로(모두 같은 member_tbl 행)
+        //  - selectMemberById 한 번에 암호해시(memberPw) + 권한(memberRole) + 프로필 조회
+        // var row = loginQueryMapper.findUser(userId);
+        Member member = loginQueryMapper.selectMemberById(userId);
+        if (member == null) {
+            unknownMemberCache.markUnknown(userId);
             return ResponseEntity.status(400).body(Map.of("code","400","message","회원 없음"));
         }
 
         // [3-2] 비밀번호 검증 (BCrypt 해시 또는 평문)
-        String dbPw = row.getPasswordHash();
-        boolean ok = (dbPw != null && dbPw.length() >= 60)
-                ? passwordEncoder.matches(password, dbPw)
-                : password.equals(dbPw);
+        // [261019변경] BCrypt는 전용 풀에서 실행 → 풀/큐 포화 시 즉시 503(다른 요청 스레드 보호)
+        boolean ok;
+        try {
+            ok = passwordVerifier.matches(password, member.getMemberPw());
+        } catch (RejectedExecutionException e) {
+            return ResponseEntity.status(503)
+                    .header("Retry-After", "1")
+                    .body(Map.of("code","503","message","로그인 요청이 많습니다. 잠시 후 다시 시도하세요."));
+        }
         if (!ok) {
             return ResponseEntity.status(401).body(Map.of("code","401","message","비밀번호 불일치"));
         }
 
         // [3-3] 권한 조회 후 ROLE 변환
-        List<String> rawRoles = loginQueryMapper.findRoles(userId);
-        List<String> secuRoles = rawRoles.stream().map(this::toSecRole).toList();
+        // List<String> rawRoles = loginQueryMapper.findRoles(userId);
+        List<String> secuRoles = Stream.ofNullable(member.getMemberRole()).map(this::toSecRole).toList();
 
         // [3-4] JWT 토큰 발급
         String token = jwt.createToken(userId, secuRoles);
@@ -69,13 +93,14 @@ public class SignController {
         // Member member = loginQueryMapper.selectMemberById(userId); //⚠️ old: 결과적으로 회원 전체 정보 조회 후 user + token 반환했음
         
         // ------------------------------------------- ⚠️ [251006] 관리자 전용 필터 (CMS 로그인용) -------------------------------------------
-        Member member = loginQueryMapper.selectMemberById(userId); // 로그인한 회원의 정보 조회 실행
-        if (member == null) {	// 회원 값이 DB에 존재하지 않을 경우
-            return ResponseEntity.status(404).body(Map.of( // 404에러 발생(회원 데이터가 없을 경우) 
-            		"code","404", // 응답 코드
-            		"message","회원 데이터 없음"	// 응답 메시지
-            ));
-        }
+        // [261019변경] 회원 정보는 [3-1]에서 이미 조회함(재조회 생략)
+        // Member member = loginQueryMapper.selectMemberById(userId); // 로그인한 회원의 정보 조회 실행
+        // if (member == null) {	// 회원 값이 DB에 존재하지 않을 경우
+        //     return ResponseEntity.status(404).body(Map.of( // 404에러 발생(회원 데이터가 없을 경우) 
+        //     		"code","404", // 응답 코드
+        //     		"message","회원 데이터 없음"	// 응답 메시지
+        //     ));
+        // }
         String requestPath = "";  // 현재 요청 경로(request URI)를 확인하기
         try {
         	// RequestContextHolder를 통해 현재 요청 정보를 가져옴
@@ -99,20 +124,44 @@ public class SignController {
         // ------------------------------------------------------------------------------------------------------------------------------
         
         // [3-6] 응답 반환 : 토큰 + 전체 회원 정보
+        // [261019변경] 리프레시 토큰 추가 → 액세스 토큰 만료 시 /sign-api/token/refresh 로 재발급(재로그인 불필요)
         return ResponseEntity.ok(Map.of(
                 "user", member,
-                "token", token
+                "token", token,
+                "refreshToken", refreshTokenService.issue(userId)
         ));
     }
 
+    // [261019 신규] 액세스 토큰 재발급(리프레시 토큰 회전)
+    //  - 비밀번호 검증(BCrypt) 없이 해시 PK 단건 조회 + 조건부 UPDATE 1회
+    //  - 리프레시 토큰도 새로 교체(1회용), 이미 쓴 토큰 재사용 시 같은 로그인 계보 전체 폐기 → 401
+    @Operation(summary = "토큰 재발급", description = "리프레시 토큰으로 액세스 토큰 + 새 리프레시 토큰 발급")
+    @PostMapping("/token/refresh")
+    public ResponseEntity<?> refresh(@RequestParam("refreshToken") String refreshToken) {
+        RefreshTokenService.Rotated rotated = refreshTokenService.rotate(refreshToken);
+        if (rotated == null) {
+            return ResponseEntity.status(401).body(Map.of("code","401","message","리프레시 토큰 무효(재로그인 필요)"));
+        }
+        List<String> secuRoles = loginQueryMapper.findRoles(rotated.memberId()).stream()
+                .map(this::toSecRole).toList();
+        return ResponseEntity.ok(Map.of(
+                "token", jwt.createToken(rotated.memberId(), secuRoles),
+                "refreshToken", rotated.refreshToken()
+        ));
+    }
+
+    // [261019 신규] 로그아웃: 리프레시 토큰 계보 폐기(액세스 토큰은 만료까지 유효 → 짧게 운영)
+    @Operation(summary = "로그아웃", description = "리프레시 토큰 폐기")
+    @PostMapping("/sign-out")
+    public ResponseEntity<?> signOut(@RequestParam("refreshToken") String refreshToken) {
+        refreshTokenService.revoke(refreshToken);
+        return ResponseEntity.ok(Map.of("code","200","message","로그아웃"));
+    }
+
     // [4] 원본 권한값을 Spring Security ROLE로 변환
+    // [261019변경] 토큰 재발급에서도 같은 규칙 사용 → NewJwtTokenProvider.toSecRole 로 이동
     private String toSecRole(String raw) {
-        return switch (raw) {
-            //case "admin","관리자","최고관리자","담당자" -> "ROLE_ADMIN"; // old
-            case "admin","관리자","책임자","강사" -> "ROLE_ADMIN"; // new
-            case "user","회원" -> "ROLE_USER";
-            default -> "ROLE_USER";
-        };
+        return NewJwtTokenProvider.toSecRole(raw);
     }
 }
 
@@ -0,0 +1,67 @@
+// src/main/java/com/gym/controller/cms/CmsCacheController.java
+package com.gym.controller.cms;
+
+import com.gym.common.ApiResponse;                     // 공통 응답
+import com.gym.config.mybatis.BoundedTtlCache;         // 2차 캐시(네임스페이스 단위)
+import com.gym.config.mybatis.CacheInvalidationBus;    // 노드 간 무효화
+import com.gym.service.support.CommentFirstPageCache;  // [261019] 게시글 댓글 첫 페이지 캐시
+import com.gym.service.support.MemberIdRegistry;       // [261019] 회원ID 존재 인덱스
+import com.gym.service.support.MemberInstrumentCache;  // [261019] 회원별 카드/계좌 캐시
+import com.gym.service.support.MemberSearchIndex;      // [261019] 회원 검색 인덱스
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * [261019 신규] MyBatis 2차 캐시 통계/비우기
+ * - 네임스페이스별 항목 수 / 적중·실패 / 적중률 / LRU 제거 / TTL 만료 / 무효화 횟수
+ * - 비우기: 이 노드 + 전파 대상 노드 모두(데이터를 DB에서 직접 고친 경우 등)
+ * - [261019] 회원ID 존재 인덱스(MemberIdRegistry) 통계 포함, 비우기 시 이 노드 회원 인덱스(존재/검색) 재구성
+ * - [261019] 회원별 카드/계좌 캐시(MemberInstrumentCache) 통계 포함, 비우기 시 이 노드만 비움
+ * - [261019] 게시글 댓글 첫 페이지 캐시(CommentFirstPageCache) 통계 포함, 비우기 시 이 노드만 비움
+ * - 접근권한: ROLE_ADMIN (시큐리티 설정)
+ */
+@Tag(name = "00.CMS Stats", description = "CMS에서 사이트의 통계정보 제공")
+@RestController
+@RequestMapping("/api/cms/cache-stats")
+@RequiredArgsConstructor
+public class CmsCacheController {
+
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final MemberIdRegistry memberIdRegistry;
+    private final MemberSearchIndex memberSearchIndex;
+    private final MemberInstrumentCache memberInstrumentCache;
+    private final CommentFirstPageCache commentFirstPageCache;
+
+    @Operation(summary = "2차 캐시 통계", description = "매퍼 네임스페이스별 캐시 적중/만료/무효화 통계")
+    @GetMapping
+    public ApiResponse<List<Map<String, Object>>> list() {
+        List<Map<String, Object>> stats = new ArrayList<>(BoundedTtlCache.snapshot());
+        stats.add(memberIdRegistry.snapshot()); // [261019] 회원ID 인덱스 적중 통계
+        stats.add(memberInstrumentCache.snapshot()); // [261019] 카드/계좌 캐시 적중 통계
+        stats.add(commentFirstPageCache.snapshot()); // [261019] 댓글 첫 페이지 캐시 적중 통계
+        return ApiResponse.ok(stats);
+    }
+
+    @Operation(summary = "2차 캐시 전체 비우기", description = "모든 네임스페이스 캐시를 비우고 다른 인스턴스에도 전파")
+    @DeleteMapping
+    public ApiResponse<Void> clear() {
+        memberIdRegistry.rebuild(); // [261019] 이 노드만 DB 기준 재구성
+        memberSearchIndex.rebuild();
+        memberInstrumentCache.clearLocal();
+        commentFirstPageCache.clearLocal();
+        for (Map<String, Object> s : BoundedTtlCache.snapshot()) {
+            String namespace = (String) s.get("namespace");
+            BoundedTtlCache.clearLocal(namespace);
+            cacheInvalidationBus.publish(namespace);
+        }
+        return ApiResponse.ok();
+    }
+}
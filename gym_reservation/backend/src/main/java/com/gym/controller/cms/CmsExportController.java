@@ -0,0 +1,128 @@
+// src/main/java/com/gym/controller/cms/CmsExportController.java
+package com.gym.controller.cms;
+
+import com.gym.service.ExportService;                     // 내보내기 서비스
+
+import io.swagger.v3.oas.annotations.Operation;           // Swagger 요약/설명
+import io.swagger.v3.oas.annotations.Parameter;           // Swagger 파라미터
+import io.swagger.v3.oas.annotations.media.Schema;        // Swagger 스키마
+import io.swagger.v3.oas.annotations.tags.Tag;            // Swagger 태그
+
+import jakarta.servlet.http.HttpServletResponse;          // 응답 스트림 직접 기록
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * [261019 신규] CMS 데이터 내보내기(CSV/XLSX)
+ * - 대상: 예약 / 결제 / 회원 / 결제로그
+ * - 방식: DB 커서 → 응답 스트림으로 바로 기록(목록을 메모리에 모으지 않음)
+ * - 형식: format=csv(기본) | xlsx
+ * - 접근권한: 관리자 전용 — 시큐리티 설정(/api/cms/exports/**)으로 보호
+ */
+@CrossOrigin("*")
+@Tag(name = "14.Export-CMS", description = "CMS 데이터 내보내기(CSV/XLSX)")
+@RestController
+@RequestMapping("/api/cms/exports")
+@RequiredArgsConstructor
+public class CmsExportController {
+
+    private static final String XLSX_TYPE = "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet";
+
+    private final ExportService exportService;
+
+    // ---------------------------------------------------------------------
+    // 1) 예약
+    // ---------------------------------------------------------------------
+    @Operation(summary = "예약 내보내기", description = "예약 목록을 CSV/XLSX로 다운로드(시설ID/회원ID 선택 필터)")
+    @GetMapping("/reservations")
+    public void exportReservations(
+            @Parameter(description = "형식", schema = @Schema(allowableValues = {"csv","xlsx"}))
+            @RequestParam(value = "format", defaultValue = "csv") String format,
+            @RequestParam(value = "facilityId", required = false) Long facilityId,
+            @RequestParam(value = "memberId",   required = false) String memberId,
+            HttpServletResponse response
+    ) throws IOException {
+        OutputStream out = open(response, "reservations", format);
+        exportService.exportReservations(format, facilityId, memberId, out);
+    }
+
+    // ---------------------------------------------------------------------
+    // 2) 결제
+    // ---------------------------------------------------------------------
+    @Operation(summary = "결제 내보내기", description = "결제 목록을 CSV/XLSX로 다운로드(회원ID/결제상태 선택 필터)")
+    @GetMapping("/payments")
+    public void exportPayments(
+            @Parameter(description = "형식", schema = @Schema(allowableValues = {"csv","xlsx"}))
+            @RequestParam(value = "format", defaultValue = "csv") String format,
+            @RequestParam(value = "memberId",      required = false) String memberId,
+            @Parameter(description = "결제상태", schema = @Schema(allowableValues = {"완료","예약","취소"}))
+            @RequestParam(value = "paymentStatus", required = false) String paymentStatus,
+            HttpServletResponse response
+    ) throws IOException {
+        OutputStream out = open(response, "payments", format);
+        exportService.exportPayments(format, memberId, paymentStatus, out);
+    }
+
+    // ---------------------------------------------------------------------
+    // 3) 회원 (비밀번호 제외)
+    // ---------------------------------------------------------------------
+    @Operation(summary = "회원 내보내기", description = "회원 목록을 CSV/XLSX로 다운로드(키워드/권한 선택 필터, 비밀번호 제외)")
+    @GetMapping("/members")
+    public void exportMembers(
+            @Parameter(description = "형식", schema = @Schema(allowableValues = {"csv","xlsx"}))
+            @RequestParam(value = "format", defaultValue = "csv") String format,
+            @RequestParam(value = "keyword", required = false) String keyword,
+            @Parameter(description = "권한", schema = @Schema(allowableValues = {"user","admin"}))
+            @RequestParam(value = "role",    required = false) String role,
+            HttpServletResponse response
+    ) throws IOException {
+        OutputStream out = open(response, "members", format);
+        exportService.exportMembers(format, keyword, role, out);
+    }
+
+    // ---------------------------------------------------------------------
+    // 4) 결제로그 (대용량 — 기간 지정 권장)
+    // ---------------------------------------------------------------------
+    @Operation(summary = "결제로그 내보내기", description = "결제로그를 CSV/XLSX로 다운로드(기간 선택 필터, yyyy-MM-dd)")
+    @GetMapping("/paylogs")
+    public void exportPaylogs(
+            @Parameter(description = "형식", schema = @Schema(allowableValues = {"csv","xlsx"}))
+            @RequestParam(value = "format", defaultValue = "csv") String format,
+            @Parameter(description = "시작일(yyyy-MM-dd)")
+            @RequestParam(value = "fromDate", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate fromDate,
+            @Parameter(description = "종료일(yyyy-MM-dd)")
+            @RequestParam(value = "toDate",   required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate toDate,
+            HttpServletResponse response
+    ) throws IOException {
+        OutputStream out = open(response, "paylogs", format);
+        exportService.exportPaylogs(format, fromDate, toDate, out);
+    }
+
+    /* ============================== 내부 유틸 ============================== */
+
+    // 형식 확인 + 다운로드 헤더 설정 후 응답 스트림 반환
+    private static OutputStream open(HttpServletResponse response, String name, String format) throws IOException {
+        boolean xlsx = "xlsx".equalsIgnoreCase(format);
+        if (!xlsx && !"csv".equalsIgnoreCase(format)) {
+            throw new IllegalArgumentException("지원하지 않는 형식입니다. (csv/xlsx)");
+        }
+        String fileName = name + "_" + LocalDate.now().format(DateTimeFormatter.BASIC_ISO_DATE) + (xlsx ? ".xlsx" : ".csv");
+
+        response.setContentType(xlsx ? XLSX_TYPE : "text/csv; charset=UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"" + fileName + "\"; filename*=UTF-8''"
+                        + URLEncoder.encode(fileName, StandardCharsets.UTF_8));
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "no-store");
+        return response.getOutputStream();
+    }
+}
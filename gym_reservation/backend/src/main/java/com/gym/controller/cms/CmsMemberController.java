@@ -3,9 +3,11 @@ package com.gym.controller.cms;
 import com.gym.common.ApiResponse;
 import com.gym.domain.member.Member;
 import com.gym.domain.member.MemberResponse; // [DTO-조회용]
+import com.gym.domain.member.MemberImportJob; // [261019] 일괄 등록 작업 상태
 import com.gym.mapper.annotation.AccountMapper;
 import com.gym.mapper.annotation.CardMapper;
 import com.gym.service.MemberService;
+import com.gym.service.MemberImportService; // [261019] 회원 일괄 등록(CSV)
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -16,9 +18,12 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
 
+import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.server.ResponseStatusException;
 import org.springframework.http.HttpStatus;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
@@ -50,6 +55,8 @@ public class CmsMemberController {
 	// [250927] 계좌/카드 Mapper 불러오기...(계정 삭제할때,연결된 FK도 삭제 처리해야함)
 	private final AccountMapper accountMapper;
 	private final CardMapper cardMapper;
+	// [261019] 회원 일괄 등록(CSV)
+	private final MemberImportService memberImportService;
 	
 	// ============================================================
 	// 회원 등록 (CMS)
@@ -301,4 +308,40 @@ public class CmsMemberController {
 	    boolean exists = memberService.existsById(memberId);
 	    return ApiResponse.ok(Map.of("exists", exists));
 	}
+
+	// ------------------------------------------------------------
+	// [261019] 회원 일괄 등록(CSV) — 업로드 즉시 작업ID 반환, 진행 상황은 GET으로 조회
+	//  - 머리글: memberId,memberPw,memberName,memberGender,memberEmail,memberMobile,memberBirthday(필수)
+	//            + zip,memberPhone,roadAddress,jibunAddress,detailAddress,memberRole,adminType(선택)
+	//    (회원 내보내기 CSV의 한글 머리글도 인식)
+	// ------------------------------------------------------------
+	@CrossOrigin("*")
+	@Operation(summary = "회원 일괄 등록(CMS, CSV)", description = "UTF-8 CSV 업로드 → 작업ID 반환. 행 오류는 건너뛰고 나머지 등록")
+	@PostMapping(value = "/import", consumes = "multipart/form-data")
+	public ApiResponse<MemberImportJob> importMembersCms(
+			@Parameter(description = "CSV 파일") @RequestParam("file") MultipartFile file,
+			@Parameter(description = "청크 크기(선택, 최대 1000)") @RequestParam(value = "chunkSize", required = false) Integer chunkSize) {
+		log.info("[CMS][POST]/api/cms/members/import file={}, size={}", file.getOriginalFilename(), file.getSize());
+		if (file.isEmpty()) {
+			throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "빈 파일입니다.");
+		}
+		try (InputStream in = file.getInputStream()) {
+			return ApiResponse.ok(memberImportService.start(in, file.getOriginalFilename(), chunkSize));
+		} catch (IOException e) {
+			throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "파일을 읽을 수 없습니다.");
+		} catch (IllegalStateException e) {
+			throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, e.getMessage());
+		}
+	}
+
+	@CrossOrigin("*")
+	@Operation(summary = "회원 일괄 등록 진행 상황(CMS)", description = "읽은 행/등록/오류 건수 + 행별 오류(최대 1000건)")
+	@GetMapping("/import/{jobId}")
+	public ApiResponse<MemberImportJob> importStatusCms(@PathVariable("jobId") String jobId) {
+		MemberImportJob job = memberImportService.get(jobId);
+		if (job == null) {
+			throw new ResponseStatusException(HttpStatus.NOT_FOUND, "작업을 찾을 수 없습니다.");
+		}
+		return ApiResponse.ok(job);
+	}
 }
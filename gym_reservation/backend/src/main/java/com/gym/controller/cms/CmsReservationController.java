@@ -18,6 +18,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 
 import lombok.RequiredArgsConstructor;                      // ✅ 생성자 주입 보일러플레이트 제거
 import org.springframework.http.MediaType;                  // ✅ consumes=form-urlencoded 지정
+import org.springframework.security.core.Authentication;    // [261019추가] 처리자(로그인ID) 확인
 import org.springframework.web.bind.annotation.*;           // ✅ REST 컨트롤러 애노테이션 일괄
 
 
@@ -148,4 +149,38 @@ public class CmsReservationController {
 
         return ApiResponse.ok("상태가 변경되었습니다.");
     }
+
+    // ---------------------------------------------------------------------
+    // [3] [261019 신규] 신청정보 일괄 상태 변경 (완료/취소/대기)
+    //     - 입력: 폼 전송, resvIds 반복 파라미터(resvIds=1&resvIds=2...) 최대 1000건
+    //     - 한 트랜잭션 + 한 문장 UPDATE, 없는 예약ID가 있으면 전체 미반영
+    //     - 문자 발송/결제로그 기록은 커밋 후 비동기 처리
+    // ---------------------------------------------------------------------
+    @CrossOrigin("*")
+    @Operation(summary = "신청정보 일괄 상태 변경(폼)", description = "여러 예약을 완료/취소/대기 중 하나로 한 번에 변경(최대 1000건). 이미 같은 상태인 건은 제외.")
+    @PostMapping(value = "/status:batch", consumes = MediaType.APPLICATION_FORM_URLENCODED_VALUE)
+    public ApiResponse<Map<String, Object>> changeStatusBatch(
+            @Parameter(description = "예약 PK 목록", required = true)
+            @RequestParam("resvIds") List<Long> resvIds,
+            @Parameter(description = "변경 상태값", required = true,
+                       schema = @Schema(type = "string", allowableValues = {"완료","취소","대기"}))
+            @RequestParam("resvStatus") String resvStatus,
+            Authentication auth
+    ) {
+        // 1) 상태값 1차 검증(허용 집합)
+        if (!("완료".equals(resvStatus) || "취소".equals(resvStatus) || "대기".equals(resvStatus))) {
+            throw new IllegalArgumentException("허용되지 않는 상태값입니다. (완료/취소/대기)");
+        }
+
+        // 2) 처리자: 로그인ID(결제로그 처리자 컬럼 기록용)
+        String managerId = (auth != null) ? auth.getName() : null;
+
+        int changed = reservationService.changeStatusBatch(resvIds, resvStatus, managerId);
+
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("requested", resvIds.size());     // 요청 건수
+        payload.put("changed",   changed);            // 실제 변경 건수
+        payload.put("resvStatus", resvStatus);        // 변경 상태
+        return ApiResponse.ok(payload);
+    }
 }
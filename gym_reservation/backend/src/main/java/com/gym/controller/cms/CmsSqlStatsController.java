@@ -0,0 +1,42 @@
+// src/main/java/com/gym/controller/cms/CmsSqlStatsController.java
+package com.gym.controller.cms;
+
+import com.gym.common.ApiResponse;                     // 공통 응답
+import com.gym.config.mybatis.SqlStatementMetrics;     // 구문별 실행 통계
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * [261019 신규] SQL 구문별 실행 통계 조회
+ * - 매퍼 구문 ID별 호출 수 / 평균·p50·p90·p99·p99.9·최대 지연(ms) / 행 수 / 오류 수 / 느린 구문 수
+ * - 정렬: 누적 소요시간(평균 × 호출 수) 큰 순 → 맨 위가 가장 먼저 볼 구문
+ * - 접근권한: ROLE_ADMIN (시큐리티 설정)
+ */
+@Tag(name = "00.CMS Stats", description = "CMS에서 사이트의 통계정보 제공")
+@RestController
+@RequestMapping("/api/cms/sql-stats")
+@RequiredArgsConstructor
+public class CmsSqlStatsController {
+
+    private final SqlStatementMetrics sqlStatementMetrics;
+
+    @Operation(summary = "SQL 구문별 실행 통계", description = "기동(또는 초기화) 이후 매퍼 구문별 지연시간 분포/행 수/오류 수")
+    @GetMapping
+    public ApiResponse<List<Map<String, Object>>> list() {
+        return ApiResponse.ok(sqlStatementMetrics.snapshot());
+    }
+
+    @Operation(summary = "SQL 구문별 실행 통계 초기화", description = "측정 구간을 새로 시작할 때 사용")
+    @DeleteMapping
+    public ApiResponse<Void> reset() {
+        sqlStatementMetrics.reset();
+        return ApiResponse.ok();
+    }
+}
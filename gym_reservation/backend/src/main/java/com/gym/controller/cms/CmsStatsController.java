@@ -35,7 +35,7 @@ public class CmsStatsController {
     public Map<String, Object> getStats() { // 단일 Map을 JSON으로 반환 (key-value 형태)
         log.info("[CmsStatsController] CMS 통계 조회 요청 수신"); // 로그: 요청 감지 확인
         Map<String, Object> stats = cmsStatsMapper.selectStats(); // MyBatis 매퍼 호출 — DB에서 통계 쿼리 실행
-        log.info("[CmsStatsController] 조회 결과: {}", stats); // DB 결과를 로그로 출력 (백엔드 확인용)
+        log.debug("[CmsStatsController] 조회 결과: {}", stats); // DB 결과를 로그로 출력 (백엔드 확인용)
         return stats; // 결과 Map을 그대로 JSON으로 프론트에 반환
     }
 
@@ -45,7 +45,7 @@ public class CmsStatsController {
     public List<Map<String, Object>> getFacilityStatusStats() {
         log.info("[CmsStatsController] 시설별 예약 상태 통계 요청 수신");
         List<Map<String, Object>> list = cmsStatsMapper.selectFacilityStatusStats();
-        log.info("[CmsStatsController] 조회 결과: {}", list);
+        log.debug("[CmsStatsController] 조회 결과: {}", list);
         return list;
     }
 
@@ -1,6 +1,7 @@
 package com.gym.controller.user;
 
 import com.gym.domain.comments.CommentsCreateRequest; // DTO: 생성/수정 요청
+import com.gym.domain.comments.CommentsPageResponse; // [261019] DTO: 키셋 페이지 응답
 import com.gym.domain.comments.CommentsResponse; // DTO: 조회 응답
 import com.gym.service.CommentsService; // 서비스 인터페이스
 import io.swagger.v3.oas.annotations.Operation;
@@ -8,6 +9,7 @@ import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 
+import org.springframework.format.annotation.DateTimeFormat; // [261019] 커서 작성일(ISO) 변환
 import org.springframework.http.MediaType; // 폼 입력(consumes) 지정
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication; // 로그인 사용자 조회
@@ -15,6 +17,7 @@ import org.springframework.security.core.GrantedAuthority; // 권한 문자열 
 import org.springframework.security.core.context.SecurityContextHolder; // 보안 컨텍스트 접근
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.List;
 
@@ -35,6 +38,8 @@ public class CommentsController {
 
     private final CommentsService commentsService;
     private final PostService postService; // 게시글 존재 여부 확인용[250925추가]
+
+    private static final int MAX_PAGE_SIZE = 100; // [261019] 페이지 조회 최대 건수
     
     /** 현재 로그인ID(username)를 반환, 비로그인 시 null */
     private String currentLoginId() {
@@ -103,6 +108,30 @@ public class CommentsController {
         return ResponseEntity.ok(commentsService.getCommentsByPost(postId)); // 서비스 호출
     }
 
+    // ------------------------------------------------------------------
+    // 2-1) [261019 신규] 페이지 조회 — 키셋(작성일, 댓글ID) 커서, 최신순
+    //  - 첫 페이지: 커서 생략(게시글별 첫 페이지 캐시 사용)
+    //  - 다음 페이지: 응답의 nextCursorCreatedAt / nextCursorId 를 그대로 전달
+    // ------------------------------------------------------------------
+    @Operation(summary = "댓글 페이지 조회", description = "최신순 키셋 페이징. 다음 페이지는 직전 응답의 nextCursorCreatedAt/nextCursorId 전달")
+    @GetMapping("/page")
+    public ResponseEntity<CommentsPageResponse> getCommentsPage(
+            @PathVariable("postId") Long postId,
+            @Parameter(description = "직전 페이지 nextCursorCreatedAt (첫 페이지는 생략)", example = "2026-10-19T10:15:30")
+            @RequestParam(name = "cursorCreatedAt", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime cursorCreatedAt,
+            @Parameter(description = "직전 페이지 nextCursorId (첫 페이지는 생략)")
+            @RequestParam(name = "cursorId", required = false) Long cursorId,
+            @Parameter(description = "페이지 크기(1~100)", example = "20")
+            @RequestParam(name = "size", defaultValue = "20") int size
+    ) {
+        if ((cursorCreatedAt == null) != (cursorId == null)) {
+            return ResponseEntity.badRequest().build(); // 커서는 두 값을 함께 전달
+        }
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE)); // 1 ~ 100 범위로 보정
+        return ResponseEntity.ok(commentsService.getCommentsPage(postId, cursorCreatedAt, cursorId, pageSize));
+    }
+
     // ------------------------------------------------------------------
     // 3) 수정(폼 입력) — 작성자 본인만 가능 (로그인ID == 댓글의 memberId)
     // ------------------------------------------------------------------
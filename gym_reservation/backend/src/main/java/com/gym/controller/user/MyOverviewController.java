@@ -0,0 +1,70 @@
+package com.gym.controller.user;
+
+import com.gym.common.ApiResponse; // 공통 응답 래퍼
+import com.gym.domain.member.MyOverviewResponse; // 요약 응답 DTO
+import com.gym.service.MyOverviewService; // 서비스
+import io.swagger.v3.oas.annotations.Operation; // Swagger 요약/설명
+import io.swagger.v3.oas.annotations.Parameter; // Swagger 파라미터 설명
+import io.swagger.v3.oas.annotations.media.Schema; // Swagger 스키마
+import io.swagger.v3.oas.annotations.tags.Tag; // Swagger 태그
+import lombok.extern.slf4j.Slf4j; // 로깅
+import org.springframework.beans.factory.annotation.Value; // 설정값 주입
+import org.springframework.http.HttpStatus; // 상태코드
+import org.springframework.security.core.Authentication; // 로그인 정보
+import org.springframework.web.bind.annotation.*; // REST 애노테이션
+import org.springframework.web.server.ResponseStatusException; // 400 응답
+
+import java.util.LinkedHashSet; // 구역 목록(입력 순서 유지)
+import java.util.Set; // 구역 목록
+
+/**
+ * [261019 신규] 마이페이지 요약 API
+ * - 회원/예약/결제/카드/계좌를 한 번의 요청으로 조회(본인 인증 1회)
+ * - fields로 필요한 구역만 선택, limit로 목록 구역 건수 제한
+ */
+@CrossOrigin("*")
+@Tag(name = "01.Member-USER", description = "회원 API (등록/단건조회/수정)")
+@RestController
+@RequestMapping("/api/me")
+@Slf4j
+public class MyOverviewController {
+
+    private final MyOverviewService myOverviewService; // 서비스
+    private final int maxLimit; // 목록 구역 최대 건수
+
+    public MyOverviewController(MyOverviewService myOverviewService,
+                                @Value("${gym.overview.max-limit:100}") int maxLimit) {
+        this.myOverviewService = myOverviewService;
+        this.maxLimit = maxLimit;
+    }
+
+    @Operation(summary = "마이페이지 요약", description = "로그인 회원의 회원정보/예약/결제/카드/계좌를 병렬 조회해 한 번에 반환")
+    @GetMapping("/overview")
+    public ApiResponse<MyOverviewResponse> overview(
+            @Parameter(description = "조회 구역(콤마 구분, 생략 시 전체)", schema = @Schema(type = "string", example = "member,reservations,cards"))
+            @RequestParam(name = "fields", required = false) String fields,
+            @Parameter(description = "목록 구역별 최대 건수", schema = @Schema(type = "integer", example = "20"))
+            @RequestParam(name = "limit", defaultValue = "20") int limit,
+            Authentication auth) {
+        Set<String> sections = parseFields(fields);
+        int size = Math.max(1, Math.min(limit, maxLimit)); // 1 ~ max-limit 범위로 보정
+        log.debug("[GET]/api/me/overview memberId={}, fields={}, limit={}", auth.getName(), sections, size);
+        return ApiResponse.ok(myOverviewService.overview(auth.getName(), sections, size));
+    }
+
+    // "member, cards" → {member, cards} / 알 수 없는 구역명은 400
+    private static Set<String> parseFields(String fields) {
+        Set<String> sections = new LinkedHashSet<>();
+        if (fields == null || fields.isBlank()) return sections;
+        for (String f : fields.split(",")) {
+            String name = f.trim();
+            if (name.isEmpty()) continue;
+            if (!MyOverviewService.SECTIONS.contains(name)) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                        "알 수 없는 구역입니다: " + name + " (허용: " + MyOverviewService.SECTIONS + ")");
+            }
+            sections.add(name);
+        }
+        return sections;
+    }
+}
@@ -30,7 +30,7 @@ public class UserAccountController {
     @Operation(summary = "계좌 등록", description = "account_tbl INSERT (시퀀스/유니크 제약 준수)")
     @PostMapping("/api/accounts")
     public ApiResponse<Long> createAccount(@RequestBody AccountCreateRequest req) {
-        log.info("[POST]/api/accounts req={}", req);
+        log.debug("[POST]/api/accounts req={}", req);
         Long pk = accountService.createAccount(req);
         return ApiResponse.ok(pk);
     }
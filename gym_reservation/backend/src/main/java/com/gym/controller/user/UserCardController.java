@@ -36,7 +36,7 @@ public class UserCardController {
     @Operation(summary = "카드 등록", description = "card_tbl INSERT (시퀀스/제약 준수)")
     @PostMapping("/api/cards")
     public ApiResponse<Long> createCard(@RequestBody CardCreateRequest req) {
-        log.info("[POST]/api/cards req={}", req);
+        log.debug("[POST]/api/cards req={}", req);
         Long pk = cardService.createCard(req);
         return ApiResponse.ok(pk);
     }
@@ -69,10 +69,10 @@ public class UserFacilityController {
     ) {
     	
     	// ================= ⚠️ [251001] 로그 기록 =================
-    	log.info("시설명 : {}", name);
-    	log.info("시설유형 : {}", facilityType);
-    	log.info("페이지 : {}", page);
-    	log.info("사이즈 : {}", size);
+    	log.debug("시설명 : {}", name);
+    	log.debug("시설유형 : {}", facilityType);
+    	log.debug("페이지 : {}", page);
+    	log.debug("사이즈 : {}", size);
     	// ================= ⚠️ [251001] 로그 기록 =================
     	
         // 방어로직: 음수/0 보정
@@ -88,7 +88,7 @@ public class UserFacilityController {
         		// page-1로 하지 않을 경우, 존재하지 않는 페이까지 조회되서 에러 발생함
         // [251001-2차] 자바에선 var를 안쓰는걸 권장        
         
-        log.info("결과값:");
+        log.debug("결과값:");
 
         // 응답 payload: 프론트 폼테이블과 통일된 키만 포함 (hasNext 제거)
         Map<String, Object> payload = new LinkedHashMap<>();
@@ -98,7 +98,7 @@ public class UserFacilityController {
         payload.put("size",  pr.getSize());  // 페이지 크기
 
         log.info("[USER][GET]/api/facilities/list?name={}&page={}&size={}", name, page, size);
-        log.info("payload:{}", payload.get("items"));
+        log.debug("payload:{}", payload.get("items"));
         
         return ApiResponse.ok(payload);
     }
@@ -90,7 +90,7 @@ public class UserMemberController {
         member.setRoadAddress(roadAddress);
         member.setJibunAddress(jibunAddress);
         member.setDetailAddress(detailAddress);
-        log.info("회원정보:{}", member);
+        log.debug("회원정보:{}", member);
         
         // 생년월일 파싱
         if (memberBirthday != null) { // 250930 생년월일 null값일 경우를 위한 조건문 추가
@@ -50,7 +50,8 @@ public class UserMemberControllerReact {
     		@RequestHeader(value = "X-AUTH-TOKEN", required = true) String xAuthToken
     		) {
     	log.info("ID 입력 결과:{}", memberId);
-    	log.info("토큰 결과:{}", xAuthToken);
+    	// log.debug("토큰 결과:{}", xAuthToken);
+    	log.debug("토큰 수신 여부:{}", !xAuthToken.isBlank()); // [261019변경] 토큰 원문은 로그에 남기지 않음
     	return "테스트";
     }
     
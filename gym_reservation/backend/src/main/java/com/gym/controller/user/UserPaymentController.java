@@ -4,6 +4,7 @@ package com.gym.controller.user;
 import com.gym.common.ApiResponse;                              // 공통 응답 래퍼
 import com.gym.domain.payment.*;                                // DTO/도메인 (변경 없음)
 import com.gym.service.PaymentService;                          // 서비스 인터페이스 (변경 없음)
+import com.gym.service.support.MemberInstrumentCache;           // [261019] 회원별 카드/계좌 캐시(소유 확인)
 
 import io.swagger.v3.oas.annotations.Operation;                 // Swagger 요약
 import io.swagger.v3.oas.annotations.Parameter;                 // Swagger 파라미터
@@ -37,6 +38,7 @@ public class UserPaymentController {
 
     private final PaymentService paymentService;  // 서비스 빈 (create/findList/updateStatus 그대로 사용) :contentReference[oaicite:4]{index=4}
     private final JdbcTemplate jdbc;              // 매퍼 무변경을 위해 컨트롤러에서 단일 SQL로 금액 계산
+    private final MemberInstrumentCache memberInstrumentCache; // [261019] 본인 카드/계좌 스냅샷
 
     /* ---------------------------------------------------------------------
        1) 결제 등록 — 폼 입력: 예약ID/결제수단만, 금액은 컨트롤러가 계산
@@ -100,7 +102,9 @@ public class UserPaymentController {
         	throw new IllegalStateException("본인 예약건에 대해서만 결제 신청이 가능합니다.");
         }
         // 1-2) 계좌 주인 검증: accountId → member_id 조회 후 로그인ID와 일치 여부 확인
-        if ("계좌".equals(paymentMethod) && accountId != null) {
+        //     [261019변경] 본인 계좌 스냅샷(캐시)에 있으면 통과, 없을 때만 DB로 없는 ID/타인 소유 구분
+        if ("계좌".equals(paymentMethod) && accountId != null
+                && memberInstrumentCache.findAccount(loginId, accountId).isEmpty()) {
             final String accSql = "SELECT member_id FROM account_tbl WHERE account_id = ?";
             String accOwner = null;
             try {
@@ -113,7 +117,9 @@ public class UserPaymentController {
             }
         }
         // 1-3) 카드 주인 검증: cardId → member_id 조회 후 로그인ID와 일치 여부 확인
-        if ("카드".equals(paymentMethod) && cardId != null) {
+        //     [261019변경] 계좌와 동일(캐시 우선)
+        if ("카드".equals(paymentMethod) && cardId != null
+                && memberInstrumentCache.findCard(loginId, cardId).isEmpty()) {
             final String cardSql = "SELECT member_id FROM card_tbl WHERE card_id = ?";
             String cardOwner = null;
             try {
@@ -154,8 +160,8 @@ public class UserPaymentController {
         // 상태값은 매퍼에서 NVL로 '예약' 보정(파라미터 null이면 '예약' 저장) — 매퍼 구조 준수
         req.setCardInstallment(cardInstallment); // ⚠️[251004] 카드 할부 추가
         
-        // 4) 서비스 호출(INSERT → 시퀀스 CURRVAL 회수)
-        log.info("[USER][POST]/api/payments form req={}", req);
+        // 4) 서비스 호출(INSERT + PK 회수 1회 왕복)
+        log.debug("[USER][POST]/api/payments form req={}", req);
         Long paymentId = paymentService.create(req);
         return ApiResponse.ok(paymentId);
     }
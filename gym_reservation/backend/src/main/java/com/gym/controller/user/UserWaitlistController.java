@@ -0,0 +1,103 @@
+// src/main/java/com/gym/controller/user/UserWaitlistController.java
+package com.gym.controller.user;
+
+import com.gym.common.ApiResponse;                         // 공통 응답
+import com.gym.domain.waitlist.WaitlistCreateRequest;     // 대기 신청 DTO
+import com.gym.domain.waitlist.WaitlistResponse;          // 응답 DTO
+import com.gym.service.WaitlistService;                   // 서비스
+import io.swagger.v3.oas.annotations.Operation;           // Swagger 요약/설명
+import io.swagger.v3.oas.annotations.Parameter;           // Swagger 파라미터
+import io.swagger.v3.oas.annotations.media.Schema;        // Swagger 스키마
+import io.swagger.v3.oas.annotations.tags.Tag;            // Swagger 태그
+import lombok.RequiredArgsConstructor;                    // 생성자 주입
+import org.springframework.http.MediaType;                // consumes 지정
+import org.springframework.security.core.Authentication;  // 로그인 정보
+import org.springframework.web.bind.annotation.*;         // REST 애노테이션
+
+import java.util.List;
+
+/**
+ * [261019 신규] 사용자용 예약 대기 컨트롤러
+ * - 완료 예약으로 막힌 시간대에 대기 신청 → 취소 발생 시 자동 승격(대기 상태 예약 생성 + 문자)
+ * - 소유자 강제: 로그인한 회원ID만 허용
+ * - 경로: /api/reservations/** 권한 정책(로그인 필요)을 그대로 따름
+ */
+@CrossOrigin("*")
+@Tag(name = "09.Reservation-User", description = "사용자용 예약신청")
+@RestController
+@RequestMapping("/api/reservations/waitlist")
+@RequiredArgsConstructor
+public class UserWaitlistController {
+
+    private final WaitlistService waitlistService; // 서비스 주입
+
+    // ---------------------------------------------------------------------
+    // 1) 대기 신청 — 입력 형식은 예약 등록과 동일(폼, 시 단위)
+    // ---------------------------------------------------------------------
+    @Operation(summary = "예약 대기 신청", description = "이미 예약이 완료된 시간대에 대기 신청. 취소 발생 시 순번대로 자동 예약신청됨")
+    @PostMapping(consumes = MediaType.APPLICATION_FORM_URLENCODED_VALUE)
+    public ApiResponse<Long> joinWaitlist(
+            @Parameter(description = "시설ID", schema = @Schema(type = "long", example = "1"), required = true)
+            @RequestParam("facilityId") Long facilityId,
+
+            @Parameter(description = "신청 내용(요구사항)", schema = @Schema(type = "string", example = "팀 연습"))
+            @RequestParam(name = "resvContent", required = false) String resvContent,
+
+            @Parameter(description = "원하는 날짜(yyyy-MM-dd)", schema = @Schema(type = "string", example = "2025-00-00"), required = true)
+            @RequestParam("wantDate") String wantDate,
+
+            @Parameter(description = "신청 인원수", schema = @Schema(type = "int", example = "20"), required = true)
+            @RequestParam("resvPersonCount") Integer resvPersonCount,
+
+            @Parameter(description = "시작 시각(시 단위, 09~21)", schema = @Schema(type = "string", example = "09"), required = true)
+            @RequestParam("startHour") String startHour,
+
+            @Parameter(description = "종료 시각(시 단위, 10~21)", schema = @Schema(type = "string", example = "11"), required = true)
+            @RequestParam("endHour") String endHour,
+
+            Authentication auth
+    ) {
+        final String loginId = auth.getName(); // 로그인 사용자ID
+
+        // 시간 유효성: 09 ≤ start < end ≤ 21 (예약 등록과 동일 규칙)
+        int sh = Integer.parseInt(startHour);
+        int eh = Integer.parseInt(endHour);
+        if (sh < 9 || sh > 21 || eh < 9 || eh > 21 || sh >= eh) {
+            throw new IllegalArgumentException("시간 선택 오류: 시작은 09~21, 종료는 시작보다 크고 09~21 범위여야 합니다.");
+        }
+
+        WaitlistCreateRequest request = WaitlistCreateRequest.builder()
+                .memberId(loginId)                 // 소유자ID = 로그인ID
+                .facilityId(facilityId)
+                .resvContent(resvContent)
+                .wantDate(wantDate)
+                .resvPersonCount(resvPersonCount)
+                .resvStartTime(wantDate + " " + String.format("%02d", sh) + ":00:00")
+                .resvEndTime(wantDate + " " + String.format("%02d", eh) + ":00:00")
+                .build();
+
+        return ApiResponse.ok(waitlistService.joinWaitlist(request)); // 대기 PK 반환
+    }
+
+    // ---------------------------------------------------------------------
+    // 2) 내 대기 목록 — 대기 중인 건은 현재 순번(waitOrder) 포함
+    // ---------------------------------------------------------------------
+    @Operation(summary = "내 예약 대기 목록", description = "로그인한 본인의 대기 목록(대기/승격/취소)")
+    @GetMapping
+    public ApiResponse<List<WaitlistResponse>> listMyWaitlist(Authentication auth) {
+        return ApiResponse.ok(waitlistService.listMyWaitlist(auth.getName()));
+    }
+
+    // ---------------------------------------------------------------------
+    // 3) 대기 취소 — 대기 상태일 때만 가능
+    // ---------------------------------------------------------------------
+    @Operation(summary = "예약 대기 취소", description = "본인의 대기건만 취소 가능(대기 상태일 때만)")
+    @DeleteMapping("/{waitId}")
+    public ApiResponse<String> cancelWaitlist(
+            @Parameter(description = "대기 PK", required = true) @PathVariable("waitId") Long waitId,
+            Authentication auth
+    ) {
+        waitlistService.cancelWaitlist(waitId, auth.getName());
+        return ApiResponse.ok("대기 신청이 취소되었습니다.");
+    }
+}
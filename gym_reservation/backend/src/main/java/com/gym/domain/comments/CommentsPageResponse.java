@@ -0,0 +1,33 @@
+package com.gym.domain.comments;
+
+import lombok.*;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * [261019 신규] 댓글 키셋 페이지 응답 DTO
+ * - 다음 페이지 요청 시 nextCursorCreatedAt / nextCursorId 를 그대로 cursorCreatedAt / cursorId 로 전달
+ * - hasMore=false 이면 마지막 페이지(다음 커서 null)
+ */
+@Getter @Setter
+@NoArgsConstructor @AllArgsConstructor
+@Builder
+public class CommentsPageResponse {
+    private List<CommentsResponse> items;
+    private boolean hasMore;
+    private LocalDateTime nextCursorCreatedAt;
+    private Long nextCursorId;
+
+    /** limit + 1건 조회 결과 → size건 페이지(초과분이 있으면 hasMore) */
+    public static CommentsPageResponse of(List<CommentsResponse> rows, int size) {
+        boolean more = rows.size() > size;
+        List<CommentsResponse> items = more ? List.copyOf(rows.subList(0, size)) : List.copyOf(rows);
+        CommentsResponse last = (more && !items.isEmpty()) ? items.get(items.size() - 1) : null;
+        return CommentsPageResponse.builder()
+                .items(items)
+                .hasMore(more)
+                .nextCursorCreatedAt(last == null ? null : last.getCreatedAt())
+                .nextCursorId(last == null ? null : last.getCommentsId())
+                .build();
+    }
+}
@@ -9,6 +9,7 @@ import lombok.Data;
  */
 @Data
 public class ContentCreateRequest {
+    private Long contentId;          // [261019] PK 회수용 (INSERT 후 getGeneratedKeys로 채워짐)
     private String contentTitle;     // 제목 → contents_tbl.content_title
     private String contentContent;   // HTML 본문 → contents_tbl.content_content
     private String memberId;         // 작성자 ID → contents_tbl.member_id
@@ -15,7 +15,7 @@ import lombok.*;
 @ToString
 public class FileUploadRequest {
 
-    private Long fileId;             // PK 회수용 (INSERT 후 @SelectKey 로 CURRVAL 채워짐)
+    private Long fileId;             // PK 회수용 (INSERT 후 getGeneratedKeys로 채워짐)
     private String memberId;		// [250923] 업로더(회원ID)
     private String fileTargetType;   // 대상 종류 (board/content/facility 등)
     //private String fileTargetId;  // 대상 고유 ID
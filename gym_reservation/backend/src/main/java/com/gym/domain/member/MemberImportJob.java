@@ -0,0 +1,65 @@
+package com.gym.domain.member;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * [261019 신규] 회원 일괄 등록(CSV) 작업 상태
+ * - 진행 중에도 조회 가능(처리 스레드만 값을 바꾸고, 조회는 그 시점 값 그대로 응답)
+ * - 행 오류는 최대 MAX_ERRORS건만 보관, 나머지는 failed 건수로만 집계
+ */
+@Getter
+public class MemberImportJob {
+
+    public static final int MAX_ERRORS = 1000;
+
+    public enum Status { QUEUED, RUNNING, DONE, FAILED }
+
+    /** 행 오류: CSV 행 번호(머리글 = 1) + 회원ID + 사유 */
+    public record RowError(long row, String memberId, String reason) {}
+
+    private final String jobId;
+    private final String fileName;
+    private final LocalDateTime createdAt = LocalDateTime.now();
+    private volatile Status status = Status.QUEUED;
+    private volatile LocalDateTime finishedAt;
+    private volatile String message;
+    private final AtomicLong rowsRead = new AtomicLong();  // 읽은 데이터 행
+    private final AtomicLong inserted = new AtomicLong();  // 등록 완료
+    private final AtomicLong failed = new AtomicLong();    // 오류 행
+    private final List<RowError> errors = new CopyOnWriteArrayList<>();
+
+    public MemberImportJob(String jobId, String fileName) {
+        this.jobId = jobId;
+        this.fileName = fileName;
+    }
+
+    public void start() {
+        status = Status.RUNNING;
+    }
+
+    public void finish(String message) {
+        this.message = message;
+        this.finishedAt = LocalDateTime.now();
+        this.status = Status.DONE;
+    }
+
+    public void fail(String message) {
+        this.message = message;
+        this.finishedAt = LocalDateTime.now();
+        this.status = Status.FAILED;
+    }
+
+    public void error(long row, String memberId, String reason) {
+        failed.incrementAndGet();
+        if (errors.size() < MAX_ERRORS) errors.add(new RowError(row, memberId, reason));
+    }
+
+    public boolean isFinished() {
+        return status == Status.DONE || status == Status.FAILED;
+    }
+}
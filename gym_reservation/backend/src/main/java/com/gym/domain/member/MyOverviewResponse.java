@@ -0,0 +1,43 @@
+package com.gym.domain.member;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.gym.domain.account.AccountResponse;
+import com.gym.domain.card.CardResponse;
+import com.gym.domain.payment.PaymentResponse;
+import com.gym.domain.reservation.ReservationResponse;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * [261019 신규] 마이페이지 요약 응답(GET /api/me/overview)
+ * - 요청한 구역(fields)만 채움, 나머지는 응답에서 제외(null 생략)
+ * - 목록 구역은 최신순 상위 limit건 + 더 있는지 여부(hasMore)
+ * - 구역 조회 실패/시간 초과는 errors에 구역별 사유로 기록(나머지 구역은 정상 응답)
+ */
+@Getter
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class MyOverviewResponse {
+
+    private MemberResponse member;
+    private Section<ReservationResponse> reservations;
+    private Section<PaymentResponse> payments;
+    private Section<CardResponse> cards;
+    private Section<AccountResponse> accounts;
+    private Map<String, String> errors;
+
+    /** 목록 구역: 상위 N건 + 추가 데이터 존재 여부 */
+    public record Section<T>(List<T> items, boolean hasMore) {
+
+        // limit+1건 조회 결과 → limit건으로 자르고 hasMore 판정
+        public static <T> Section<T> of(List<T> rows, int limit) {
+            return rows.size() > limit
+                    ? new Section<>(List.copyOf(rows.subList(0, limit)), true)
+                    : new Section<>(rows, false);
+        }
+    }
+}
@@ -24,4 +24,5 @@ public class PaymentSearchRequest {
     //private LocalDateTime toAt;		// 종료일시 → payment_tbl.payment_date <= toAt
     //private Integer page;			// 페이지 번호(0부터 시작) → 페이징 연산에 사용
     //private Integer size;			// 페이지 크기 → 페이징 연산에 사용
+    private Integer limit;			// [261019] 최대 건수(최신순 상위 N건, null이면 전체) — 마이페이지 요약용
 }
\ No newline at end of file
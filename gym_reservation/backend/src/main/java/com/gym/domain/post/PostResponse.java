@@ -43,6 +43,8 @@ public class PostResponse {
     private Boolean postSecret;
 
     private String postType;
+
+    private Integer postCommentCount; // [261019] 댓글 수(post_tbl.post_comment_count, 댓글 등록/삭제 시 갱신)
     
 
 }
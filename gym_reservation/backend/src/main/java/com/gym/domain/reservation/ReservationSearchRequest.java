@@ -39,4 +39,6 @@ public class ReservationSearchRequest {
     private String resvStartTime;   // 시작일시
     private String resvEndTime;     // 종료일시
     private String resvCancel;    // 취소여부
+
+    private Integer limit;        // [261019] 최대 건수(최신순 상위 N건, null이면 전체) — 마이페이지 요약용
 }
\ No newline at end of file
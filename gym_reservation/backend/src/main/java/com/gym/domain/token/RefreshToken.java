@@ -0,0 +1,20 @@
+package com.gym.domain.token;
+
+import lombok.*;
+import java.time.LocalDateTime;
+
+/**
+ * refresh_token_tbl 매핑 엔티티 (회전식 리프레시 토큰)
+ * - 원문 토큰은 저장하지 않음: tokenHash = SHA-256(hex)
+ * - familyId: 로그인 1회에서 이어지는 회전 계보
+ */
+@Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder @ToString
+public class RefreshToken {
+
+    private String tokenHash;            // PK 토큰 해시
+    private String memberId;             // FK 회원
+    private String familyId;             // 회전 계보 ID
+    private LocalDateTime expiresAt;     // 만료 일시
+    private LocalDateTime usedAt;        // 재발급 사용 일시(1회용)
+    private String revoked;              // 폐기 여부(Y/N)
+}
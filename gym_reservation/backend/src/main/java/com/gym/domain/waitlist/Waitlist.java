@@ -0,0 +1,27 @@
+package com.gym.domain.waitlist;
+
+import lombok.*;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * waitlist_tbl 매핑 엔티티 (예약 대기열)
+ * - 대기 단위: (facilityId, resvStartTime, resvEndTime)
+ * - waitId 오름차순이 대기 순번
+ */
+@Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder @ToString
+public class Waitlist {
+
+    private Long waitId;                 // PK (대기 순번)
+    private String memberId;             // FK 대기 신청자
+    private Long facilityId;             // FK 시설
+    private String resvContent;          // 요구사항(승격 시 예약으로 복사)
+    private LocalDate wantDate;          // 희망일 (DATE)
+    private Integer resvPersonCount;     // 신청 인원
+    private LocalDateTime resvStartTime; // 시작일시 (TIMESTAMP)
+    private LocalDateTime resvEndTime;   // 종료일시 (TIMESTAMP)
+    private String waitStatus;           // 대기/승격/취소
+    private Long resvId;                 // 승격 시 생성된 예약ID
+    private LocalDateTime waitRegDate;   // 대기 신청 일시
+    private LocalDateTime waitModDate;   // 상태 변경 일시
+}
@@ -0,0 +1,18 @@
+package com.gym.domain.waitlist;
+
+import lombok.*;
+
+/**
+ * 예약 대기 신청 DTO
+ * - 날짜/시간은 예약 등록과 동일하게 문자열로 받아 서비스 계층에서 파싱
+ */
+@Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder @ToString
+public class WaitlistCreateRequest {
+    private String memberId;
+    private Long facilityId;
+    private String resvContent;
+    private String wantDate;       // "yyyy-MM-dd"
+    private Integer resvPersonCount;
+    private String resvStartTime;  // "yyyy-MM-dd HH:mm:ss"
+    private String resvEndTime;    // "yyyy-MM-dd HH:mm:ss"
+}
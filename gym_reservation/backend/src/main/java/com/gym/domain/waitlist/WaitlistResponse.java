@@ -0,0 +1,25 @@
+package com.gym.domain.waitlist;
+
+import lombok.*;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 예약 대기 응답 DTO
+ * - waitOrder: '대기' 상태일 때 현재 대기 순번(1부터), 그 외 상태는 null
+ */
+@Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder @ToString
+public class WaitlistResponse {
+    private Long waitId;
+    private String memberId;
+    private Long facilityId;
+    private String facilityName;
+    private LocalDate wantDate;
+    private Integer resvPersonCount;
+    private LocalDateTime resvStartTime;
+    private LocalDateTime resvEndTime;
+    private String waitStatus;
+    private Long resvId;
+    private Integer waitOrder;
+    private LocalDateTime waitRegDate;
+}
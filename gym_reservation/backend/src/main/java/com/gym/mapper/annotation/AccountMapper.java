@@ -39,8 +39,10 @@ public interface AccountMapper {
         )
     """)
     // 등록(INSERT) 실행 후 → 자동으로 PK값 증가
-    @SelectKey(statement = "SELECT seq_account_id.CURRVAL FROM dual",
-               keyProperty = "accountId", before = false, resultType = Long.class)
+    // [261019변경] CURRVAL 조회 왕복 제거 → INSERT ... RETURNING account_id (getGeneratedKeys)
+    // @SelectKey(statement = "SELECT seq_account_id.CURRVAL FROM dual",
+    //            keyProperty = "accountId", before = false, resultType = Long.class)
+    @Options(useGeneratedKeys = true, keyProperty = "accountId", keyColumn = "account_id")
     int insertAccount(Account a);                        // 반환: 영향행수(1 기대)
 
     // 중복값 검증 
@@ -89,6 +91,10 @@ public interface AccountMapper {
          WHERE member_id = #{memberId}                    -- ▶ 조회 대상 회원ID
     """)
     boolean existsMemberId(@Param("memberId") String memberId);  // //[추가]
+
+    // [261019 신규] 계좌 소유 회원ID(없으면 null) — PK만으로 삭제할 때 결제수단 캐시 무효화 대상 확인
+    @Select("SELECT member_id FROM account_tbl WHERE account_id = #{accountId}")
+    String selectMemberIdByAccountId(@Param("accountId") Long accountId);
     
     
     
@@ -116,21 +122,52 @@ public interface AccountMapper {
      *   ⚠ 중요: 현재 DDL에는 "대표 최소 1개 유지" 트리거가 존재
      *           아래 단일 UPDATE(SET CASE WHEN ...)는 문장 단위로 '하나만 Y'가 되도록 보장
      *           하지만 트리거 구현 방식에 따라 차단(-20032 등)이 발생할 수 있음(테스트 환경에서 정상 재현됨).
+     *   [261019변경] 대상 계좌가 그 회원 소유일 때만 실행 → 아니면 0건(NOT_FOUND)
+     *           (예전엔 남의 계좌ID면 회원 계좌가 전부 'N'이 되어 -20032 발생)
+     *           대표 최소 1개 트리거(250917 컴파운드)는 문장 종료 시 검사 → 이 문장과 충돌 없음
+     *           유일성: account_main_owner 가상 컬럼 UNIQUE 제약(DB/05_account_tbl/gym_account_261019.ddl)
      */
     @Update("""
         UPDATE account_tbl
            SET account_main =
                CASE WHEN account_id = #{accountId} THEN 'Y' ELSE 'N' END
          WHERE member_id = #{memberId}
+           AND EXISTS (SELECT 1 FROM account_tbl t
+                        WHERE t.account_id = #{accountId}
+                          AND t.member_id  = #{memberId})
     """)
     int updateMainAccount(@Param("accountId") Long accountId,
                           @Param("memberId") String memberId);
 
+    // [261019 신규] 대표계좌가 없을 때만 대상 계좌를 대표로(첫 등록) — 건수 조회 + 등록값 분기를 한 문장으로
+    //  - 동시에 다른 요청이 먼저 대표를 만들면 UNIQUE 제약 위반(DuplicateKeyException) → 호출 측에서 'N' 유지
+    @Update("""
+        UPDATE account_tbl
+           SET account_main = 'Y'
+         WHERE account_id = #{accountId}
+           AND member_id  = #{memberId}
+           AND NOT EXISTS (SELECT 1 FROM account_tbl t
+                            WHERE t.member_id    = #{memberId}
+                              AND t.account_main = 'Y')
+    """)
+    int promoteAccountIfNoMain(@Param("accountId") Long accountId,
+                               @Param("memberId") String memberId);
+
     /* 4) 삭제(DELETE) — PK 기준
      *   ⚠ 주의: 대표계좌 최소 1개 유지 트리거에 의해 '대표 Y' 단독행 삭제가 차단될 수 있음(-20031).
      */
     @Delete("DELETE FROM account_tbl WHERE account_id = #{accountId}")
     int deleteAccountById(@Param("accountId") Long accountId);
+
+    // [261019 신규] 본인 소유 + 대표 아님일 때만 삭제(판정을 DELETE 조건으로) — 0건이면 호출 측에서 사유 확인
+    @Delete("""
+        DELETE FROM account_tbl
+         WHERE account_id   = #{accountId}
+           AND member_id    = #{memberId}
+           AND account_main = 'N'
+    """)
+    int deleteOwnNonMainAccount(@Param("accountId") Long accountId,
+                                @Param("memberId") String memberId);
     
     /*
     // [250927] 회원ID 삭제처리하면 계좌정보 함깨 삭제
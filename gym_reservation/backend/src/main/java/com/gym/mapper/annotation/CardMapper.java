@@ -37,6 +37,10 @@ public interface CardMapper {
     """)
     long countCardsByMember(@Param("memberId") String memberId);
 
+    // [261019 신규] 카드 소유 회원ID(없으면 null) — PK만으로 삭제할 때 결제수단 캐시 무효화 대상 확인
+    @Select("SELECT member_id FROM card_tbl WHERE card_id = #{cardId}")
+    String selectMemberIdByCardId(@Param("cardId") Long cardId);
+
     // 등록(INSERT)
     // [임시추가] DB 시퀀스명: seq_card_id (계좌와 동일 패턴). 시퀀스명이 다른 경우 아래 2곳만 맞추면 됨.
     @Insert("""
@@ -56,8 +60,10 @@ public interface CardMapper {
             #{cardMain, typeHandler=com.gym.config.type.BooleanYNTypeHandler}
         )
     """)
-    @SelectKey(statement = "SELECT seq_card_id.CURRVAL FROM dual",
-               keyProperty = "cardId", before = false, resultType = Long.class)
+    // [261019변경] CURRVAL 조회 왕복 제거 → INSERT ... RETURNING card_id (getGeneratedKeys)
+    // @SelectKey(statement = "SELECT seq_card_id.CURRVAL FROM dual",
+    //            keyProperty = "cardId", before = false, resultType = Long.class)
+    @Options(useGeneratedKeys = true, keyProperty = "cardId", keyColumn = "card_id")
     int insertCard(Card c); // 실행 후 c.getCardId() ← 방금 증가한 PK
 
     // 회원별 목록(SELECT)
@@ -101,17 +107,42 @@ public interface CardMapper {
                         @Param("memberId") String memberId);
 
     // 대표카드 단일 업데이트(문장 내 CASE) — 환경에 따라 트리거 충돌 가능
+    // [261019변경] 대상 카드가 그 회원 소유일 때만 실행(아니면 0건 → NOT_FOUND, 전부 'N'이 되어 트리거 오류 나던 문제 제거)
+    //  - 회원 카드 행을 한 문장에서 모두 잠그고 바꿈 → 동시 요청은 행 잠금 순서대로 직렬화, 커밋 시점마다 'Y'는 정확히 1개
+    //  - 유일성은 card_main_owner 가상 컬럼 UNIQUE 제약(문장 종료 시 검사)이 보장(DB/06_card_tbl/gym_card_261019.ddl)
     @Update("""
         UPDATE card_tbl
            SET card_main = CASE WHEN card_id = #{cardId} THEN 'Y' ELSE 'N' END
          WHERE member_id = #{memberId}
+           AND EXISTS (SELECT 1 FROM card_tbl t
+                        WHERE t.card_id = #{cardId}
+                          AND t.member_id = #{memberId})
     """)
     int updateMainCard(@Param("cardId") Long cardId,
                        @Param("memberId") String memberId);
 
+    // [261019 신규] 대표카드가 없을 때만 대상 카드를 대표로(첫 등록) — 건수 조회 + UPDATE 2단계를 한 문장으로
+    //  - 동시에 다른 요청이 먼저 대표를 만들면 UNIQUE 제약 위반(DuplicateKeyException) → 호출 측에서 'N' 유지
+    @Update("""
+        UPDATE card_tbl
+           SET card_main = 'Y'
+         WHERE card_id = #{cardId}
+           AND member_id = #{memberId}
+           AND NOT EXISTS (SELECT 1 FROM card_tbl t
+                            WHERE t.member_id = #{memberId}
+                              AND t.card_main = 'Y')
+    """)
+    int promoteCardIfNoMain(@Param("cardId") Long cardId,
+                            @Param("memberId") String memberId);
+
     // 삭제(DELETE) — PK 기준
     @Delete("DELETE FROM card_tbl WHERE card_id = #{cardId}")
     int deleteCardById(@Param("cardId") Long cardId);
+
+    // [261019 신규] 본인 소유일 때만 삭제(소유 판정을 DELETE 조건으로) — 0건이면 미소유/없음
+    @Delete("DELETE FROM card_tbl WHERE card_id = #{cardId} AND member_id = #{memberId}")
+    int deleteOwnCard(@Param("cardId") Long cardId,
+                      @Param("memberId") String memberId);
     
     // [250927] 회원ID 삭제처리하면 카드정보 함깨 삭제
     // 1) 회원정보 삭제 시, 카드정보 삭제처리
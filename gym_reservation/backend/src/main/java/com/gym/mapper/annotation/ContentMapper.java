@@ -4,6 +4,7 @@ import com.gym.domain.content.ContentCreateRequest;
 import com.gym.domain.content.ContentUpdateRequest;
 import com.gym.domain.content.ContentResponse;
 import com.gym.domain.content.ContentSearchRequest;
+import com.gym.config.mybatis.BoundedTtlCache;
 
 import org.apache.ibatis.annotations.*;
 
@@ -12,9 +13,14 @@ import java.util.List;
 /**
  * ContentMapper
  * - contents_tbl 단건 CRUD
- * - INSERT 시 시퀀스 NEXTVAL 사용 후 CURRVAL 조회 가능
+ * - INSERT 시 시퀀스 NEXTVAL 사용 → [261019변경] RETURNING(getGeneratedKeys)으로 contentId 회수
+ * - [261019] 2차 캐시: 조회 구문 캐시, 등록/수정/삭제 커밋 시 네임스페이스 전체 무효화
  */
 @Mapper
+@CacheNamespace(implementation = BoundedTtlCache.class, properties = {
+        @Property(name = "size",       value = "${gym.cache.size}"),
+        @Property(name = "ttlSeconds", value = "${gym.cache.ttl-seconds}")
+})
 public interface ContentMapper {
 
     /** 콘텐츠 등록 */
@@ -39,11 +45,13 @@ public interface ContentMapper {
             SYSDATE
         )
     """)
+    @Options(useGeneratedKeys = true, keyProperty = "contentId", keyColumn = "content_id") // [261019] request.contentId 세팅
     int createContent(ContentCreateRequest request);
 
-    /** ✅ 방금 증가한 시퀀스값(동일 세션) 조회 */
-    @Select("SELECT seq_content_id.CURRVAL FROM dual")
-    Long getLastContentId();
+    // [261019변경] INSERT와 PK 회수를 한 번에 처리 → 별도 CURRVAL 조회 미사용
+    // /** ✅ 방금 증가한 시퀀스값(동일 세션) 조회 */
+    // @Select("SELECT seq_content_id.CURRVAL FROM dual")
+    // Long getLastContentId();
 
     /** 콘텐츠 단건 조회 */
     @Select("""
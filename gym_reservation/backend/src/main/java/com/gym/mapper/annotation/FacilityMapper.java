@@ -5,6 +5,7 @@ import com.gym.domain.facility.Facility;
 
 /** 단건 CRUD + exists + use 변경 */
 @Mapper
+@CacheNamespaceRef(name = "com.gym.mapper.xml.FacilityQueryMapper") // [261019] 시설 목록 캐시 공유 → 쓰기 커밋 시 목록 무효화
 public interface FacilityMapper {
 
     /* 단건 조회 */
@@ -29,6 +30,7 @@ public interface FacilityMapper {
         FROM facility_tbl f
         WHERE f.facility_id = #{facilityId}
     """)
+    @Options(useCache = false) // [261019] 수정 경로에서 조회 결과를 직접 변경 → 캐시 공유 금지
     Facility selectFacilityById(@Param("facilityId") Long facilityId);
 
     /* INSERT — PK는 시퀀스로 직접 세팅, facility_use는 'Y'/'N'으로 변환 */
@@ -66,8 +68,10 @@ public interface FacilityMapper {
     		    #{facilityType, jdbcType=VARCHAR} 
     		  )
     		""")
-    		@SelectKey(statement = "SELECT facility_seq.CURRVAL FROM dual",
-    		  keyProperty = "facilityId", before = false, resultType = Long.class)
+    		// [261019변경] CURRVAL 조회 왕복 제거 → INSERT ... RETURNING facility_id (getGeneratedKeys)
+    		// @SelectKey(statement = "SELECT facility_seq.CURRVAL FROM dual",
+    		//   keyProperty = "facilityId", before = false, resultType = Long.class)
+    		@Options(useGeneratedKeys = true, keyProperty = "facilityId", keyColumn = "facility_id")
     		int insertFacility(Facility f);
 
     /* UPDATE — null/빈문자열은 미변경 처리 (Mapper 레벨에서 동적 처리) */
@@ -9,7 +9,7 @@ import java.util.List;
 /**
  * FileMapper
  * - file_tbl CRUD (단건 중심)
- * - INSERT 시 seq_file_id.NEXTVAL → CURRVAL 반환
+ * - INSERT 시 seq_file_id.NEXTVAL → [261019변경] RETURNING(getGeneratedKeys)으로 PK 회수
  */
 @Mapper
 public interface FileMapper {
@@ -43,10 +43,12 @@ public interface FileMapper {
           #{fileSize,jdbcType=NUMERIC}
         )
     """)
-    @SelectKey(statement = "SELECT seq_file_id.CURRVAL FROM dual",
-               keyProperty = "fileId",
-               before = false,
-               resultType = Long.class)
+    // [261019변경] CURRVAL 조회 왕복 제거 → INSERT ... RETURNING file_id (getGeneratedKeys)
+    // @SelectKey(statement = "SELECT seq_file_id.CURRVAL FROM dual",
+    //            keyProperty = "fileId",
+    //            before = false,
+    //            resultType = Long.class)
+    @Options(useGeneratedKeys = true, keyProperty = "fileId", keyColumn = "file_id")
     int uploadFile(FileUploadRequest req);
 
     /** 특정 대상별 파일 목록 조회 */
@@ -1,6 +1,7 @@
 package com.gym.mapper.annotation; // 📦 어노테이션 매퍼
 
 import org.apache.ibatis.annotations.*;
+import org.apache.ibatis.session.ResultHandler;
 import com.gym.domain.member.Member;
 
 /**
@@ -139,4 +140,14 @@ public interface MemberMapper {
 			     WHERE member_id = #{memberId}
 			""")
 	boolean existsMemberById(@Param("memberId") String memberId);
+
+	/** [261019] 회원ID 수(MemberIdRegistry 크기 산정) */
+	@Select("SELECT COUNT(*) FROM member_tbl")
+	int countMemberIds();
+
+	/** [261019] 회원ID 전체 스트리밍(MemberIdRegistry 적재, 목록을 한 번에 올리지 않음) */
+	@Select("SELECT member_id FROM member_tbl")
+	@Options(fetchSize = 1000)
+	@ResultType(String.class)
+	void selectAllMemberIds(ResultHandler<String> handler);
 }
@@ -0,0 +1,61 @@
+package com.gym.mapper.annotation;
+
+import com.gym.domain.token.RefreshToken;   // 엔티티
+import org.apache.ibatis.annotations.*;      // MyBatis 어노테이션
+
+/**
+ * 리프레시 토큰 매퍼 (refresh_token_tbl)
+ * - 조회/사용 처리는 모두 PK(token_hash) 단건
+ * - 1회용 보장: claimToken 조건부 UPDATE가 1건일 때만 재발급 허용
+ */
+@Mapper
+public interface RefreshTokenMapper {
+
+    // 발급
+    @Insert("""
+        INSERT INTO refresh_token_tbl (token_hash, member_id, family_id, expires_at)
+        VALUES (#{tokenHash}, #{memberId}, #{familyId}, #{expiresAt, jdbcType=TIMESTAMP})
+        """)
+    int insertToken(RefreshToken token);
+
+    // 단건 조회(메모리 캐시 미스 시)
+    @Select("""
+        SELECT token_hash AS tokenHash,
+               member_id  AS memberId,
+               family_id  AS familyId,
+               expires_at AS expiresAt,
+               used_at    AS usedAt,
+               revoked    AS revoked
+          FROM refresh_token_tbl
+         WHERE token_hash = #{tokenHash}
+        """)
+    RefreshToken selectByHash(@Param("tokenHash") String tokenHash);
+
+    // 사용 처리(선점): 미사용 + 미폐기 + 미만료일 때만 1 → 0이면 재사용/폐기/만료
+    @Update("""
+        UPDATE refresh_token_tbl
+           SET used_at = SYSTIMESTAMP
+         WHERE token_hash = #{tokenHash}
+           AND used_at IS NULL
+           AND revoked = 'N'
+           AND expires_at > SYSTIMESTAMP
+        """)
+    int claimToken(@Param("tokenHash") String tokenHash);
+
+    // 계보 전체 폐기(재사용 감지 / 로그아웃)
+    @Update("""
+        UPDATE refresh_token_tbl
+           SET revoked = 'Y'
+         WHERE family_id = #{familyId}
+           AND revoked = 'N'
+        """)
+    int revokeFamily(@Param("familyId") String familyId);
+
+    // 회원별 만료 토큰 정리(발급 시 함께 실행 → 테이블 무한 증가 방지)
+    @Delete("""
+        DELETE FROM refresh_token_tbl
+         WHERE member_id  = #{memberId}
+           AND expires_at < SYSTIMESTAMP
+        """)
+    int deleteExpiredByMember(@Param("memberId") String memberId);
+}
@@ -3,10 +3,12 @@ package com.gym.mapper.annotation;
 import com.gym.domain.reservation.Reservation; // 엔티티(도메인 기준)
 import org.apache.ibatis.annotations.*; // MyBatis 어노테이션
 
+import java.util.List; // [261019추가] 일괄 상태 변경 대상 목록
+
 @Mapper // MyBatis 매퍼 등록
 public interface ReservationMapper {
 
-    // 등록(INSERT) : ORACLE 시퀀스 사용 → INSERT 후 CURRVAL로 resvId 세팅
+    // 등록(INSERT) : ORACLE 시퀀스 사용 → [261019변경] INSERT ... RETURNING(getGeneratedKeys)으로 resvId 세팅
     // - 널 입력 시 "1111" 오류 방지를 위해 jdbcType 명시
     // - wantDate(LocalDate) → DB는 TIMESTAMP여도 ORACLE이 DATE→TIMESTAMP 암묵 변환 수행
     @Insert("""
@@ -24,8 +26,10 @@ public interface ReservationMapper {
             #{resvEndTime,    jdbcType=TIMESTAMP}                -- LocalDateTime
         )
         """)
-    @SelectKey(statement = "SELECT seq_reservation_id.CURRVAL FROM dual",
-               keyProperty = "resvId", before = false, resultType = Long.class)
+    // [261019변경] CURRVAL 조회 왕복 제거 — keyColumn 지정 시 드라이버가 RETURNING resv_id INTO ? 로 회수
+    // @SelectKey(statement = "SELECT seq_reservation_id.CURRVAL FROM dual",
+    //            keyProperty = "resvId", before = false, resultType = Long.class)
+    @Options(useGeneratedKeys = true, keyProperty = "resvId", keyColumn = "resv_id")
     int insertReservation(Reservation reservation); // 성공 시 1, reservation.resvId 세팅
 
     // 소유권 확인(수정/삭제 전 검증): resvId+memberId 일치 여부
@@ -59,6 +63,17 @@ public interface ReservationMapper {
         """)
     int updateByIdAndMemberId(Reservation reservation); // 정상 1
 
+    // [261019 신규] 회원 취소 전환: 아직 '취소'가 아닌 행만 → 영향행 1일 때만 실제 전환(대기자 승격 기준)
+    @Update("""
+        UPDATE reservation_tbl
+           SET resv_status = '취소'
+         WHERE resv_id = #{resvId}
+           AND member_id = #{memberId}
+           AND resv_status <> '취소'
+        """)
+    int cancelByIdAndMemberId(@Param("resvId") Long resvId,
+                              @Param("memberId") String memberId);
+
     // 삭제: resvId+memberId 일치 시에만 삭제
     @Delete("""
         DELETE FROM reservation_tbl
@@ -83,4 +98,19 @@ public interface ReservationMapper {
     int updateCancelRequest(@Param("resvId") Long resvId,
     						@Param("memberId") String memberId,
     						@Param("resvCancelReason") String resvCancelReason);
+
+    // [261019 신규] CMS 일괄 상태 변경: 한 문장으로 처리, 이미 같은 상태인 행은 제외
+    @Update("""
+        <script>
+        UPDATE reservation_tbl
+           SET resv_status = #{resvStatus, jdbcType=VARCHAR}
+         WHERE resv_id IN
+         <foreach collection="resvIds" item="id" open="(" separator="," close=")">
+             #{id}
+         </foreach>
+           AND resv_status &lt;&gt; #{resvStatus, jdbcType=VARCHAR}
+        </script>
+        """)
+    int updateStatusByIds(@Param("resvIds") List<Long> resvIds,
+                          @Param("resvStatus") String resvStatus);
 }
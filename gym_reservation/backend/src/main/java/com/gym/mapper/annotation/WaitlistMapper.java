@@ -0,0 +1,150 @@
+package com.gym.mapper.annotation;
+
+import com.gym.domain.waitlist.Waitlist;          // 엔티티
+import com.gym.domain.waitlist.WaitlistResponse;  // 응답 DTO
+import org.apache.ibatis.annotations.*;           // MyBatis 어노테이션
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 예약 대기열 매퍼 (waitlist_tbl)
+ * - 대기 단위: facility_id + resv_start_time + resv_end_time
+ * - 순번: wait_id 오름차순
+ * - [261019변경] 승격 후보: 비워진 시간대와 겹치는 대기 건(정확히 같은 시간대만이 아님)
+ */
+@Mapper
+public interface WaitlistMapper {
+
+    // 대기 등록 : 시퀀스 사용 → INSERT ... RETURNING wait_id(getGeneratedKeys)로 waitId 세팅
+    @Insert("""
+        INSERT INTO waitlist_tbl (
+            wait_id, member_id, facility_id, resv_content, want_date,
+            resv_person_count, resv_start_time, resv_end_time
+        ) VALUES (
+            seq_waitlist_id.NEXTVAL,
+            #{memberId},
+            #{facilityId},
+            #{resvContent,     jdbcType=VARCHAR},
+            #{wantDate,        jdbcType=DATE},
+            #{resvPersonCount, jdbcType=NUMERIC},
+            #{resvStartTime,   jdbcType=TIMESTAMP},
+            #{resvEndTime,     jdbcType=TIMESTAMP}
+        )
+        """)
+    @Options(useGeneratedKeys = true, keyProperty = "waitId", keyColumn = "wait_id")
+    int insertWaitlist(Waitlist waitlist);
+
+    // 같은 회원이 같은 시간대에 이미 '대기' 중인지 확인
+    @Select("""
+        SELECT CASE WHEN COUNT(1) > 0 THEN 1 ELSE 0 END
+          FROM waitlist_tbl
+         WHERE member_id       = #{memberId}
+           AND facility_id     = #{facilityId}
+           AND resv_start_time = #{resvStartTime}
+           AND resv_end_time   = #{resvEndTime}
+           AND wait_status     = '대기'
+        """)
+    boolean existsWaiting(@Param("memberId") String memberId,
+                          @Param("facilityId") Long facilityId,
+                          @Param("resvStartTime") LocalDateTime resvStartTime,
+                          @Param("resvEndTime") LocalDateTime resvEndTime);
+
+    // [261019변경] 비워진 시간대와 겹치는 '대기' 건을 순번(wait_id)대로 최대 limit건
+    //  - 대기 신청은 막고 있는 예약과 겹치기만 하면 접수되므로 정확히 같은 시간대로만 찾으면 승격 누락
+    //  - 지금 들어갈 수 있는지는 서비스에서 건별 확인
+    @Select("""
+        SELECT wait_id            AS waitId,
+               member_id          AS memberId,
+               facility_id        AS facilityId,
+               resv_content       AS resvContent,
+               TRUNC(want_date)   AS wantDate,
+               resv_person_count  AS resvPersonCount,
+               resv_start_time    AS resvStartTime,
+               resv_end_time      AS resvEndTime,
+               wait_status        AS waitStatus
+          FROM waitlist_tbl
+         WHERE facility_id     = #{facilityId}
+           AND resv_start_time < #{resvEndTime}
+           AND resv_end_time   > #{resvStartTime}
+           AND wait_status     = '대기'
+         ORDER BY wait_id
+         FETCH FIRST #{limit} ROWS ONLY
+        """)
+    List<Waitlist> selectWaitingOverlapping(@Param("facilityId") Long facilityId,
+                                            @Param("resvStartTime") LocalDateTime resvStartTime,
+                                            @Param("resvEndTime") LocalDateTime resvEndTime,
+                                            @Param("limit") int limit);
+
+    // 승격 선점: '대기' 상태일 때만 '승격'으로 변경 (동시 취소 시 1건만 성공)
+    @Update("""
+        UPDATE waitlist_tbl
+           SET wait_status   = '승격',
+               wait_mod_date = SYSTIMESTAMP
+         WHERE wait_id     = #{waitId}
+           AND wait_status = '대기'
+        """)
+    int claimWaiting(@Param("waitId") Long waitId);
+
+    // 승격으로 생성된 예약ID 연결
+    @Update("""
+        UPDATE waitlist_tbl
+           SET resv_id = #{resvId}
+         WHERE wait_id = #{waitId}
+        """)
+    int updateResvId(@Param("waitId") Long waitId, @Param("resvId") Long resvId);
+
+    // 대기 취소(본인만): '대기' 상태일 때만
+    @Update("""
+        UPDATE waitlist_tbl
+           SET wait_status   = '취소',
+               wait_mod_date = SYSTIMESTAMP
+         WHERE wait_id     = #{waitId}
+           AND member_id   = #{memberId}
+           AND wait_status = '대기'
+        """)
+    int cancelByIdAndMemberId(@Param("waitId") Long waitId,
+                              @Param("memberId") String memberId);
+
+    // 단건 조회
+    @Select("""
+        SELECT wait_id         AS waitId,
+               member_id       AS memberId,
+               facility_id     AS facilityId,
+               resv_start_time AS resvStartTime,
+               resv_end_time   AS resvEndTime,
+               wait_status     AS waitStatus
+          FROM waitlist_tbl
+         WHERE wait_id = #{waitId}
+        """)
+    Waitlist selectById(@Param("waitId") Long waitId);
+
+    // 회원별 대기 목록(현재 순번 포함)
+    @Select("""
+        SELECT w.wait_id            AS waitId,
+               w.member_id          AS memberId,
+               w.facility_id        AS facilityId,
+               f.facility_name      AS facilityName,
+               TRUNC(w.want_date)   AS wantDate,
+               w.resv_person_count  AS resvPersonCount,
+               w.resv_start_time    AS resvStartTime,
+               w.resv_end_time      AS resvEndTime,
+               w.wait_status        AS waitStatus,
+               w.resv_id            AS resvId,
+               CASE WHEN w.wait_status = '대기' THEN (
+                   SELECT COUNT(1)
+                     FROM waitlist_tbl o
+                    WHERE o.facility_id     = w.facility_id
+                      AND o.resv_start_time = w.resv_start_time
+                      AND o.resv_end_time   = w.resv_end_time
+                      AND o.wait_status     = '대기'
+                      AND o.wait_id        <= w.wait_id
+               ) END                 AS waitOrder,
+               w.wait_reg_date      AS waitRegDate
+          FROM waitlist_tbl w
+          JOIN facility_tbl f ON f.facility_id = w.facility_id
+         WHERE w.member_id = #{memberId}
+         ORDER BY w.wait_id DESC
+        """)
+    List<WaitlistResponse> selectByMember(@Param("memberId") String memberId);
+}
@@ -5,6 +5,7 @@ import com.gym.domain.comments.CommentsResponse;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -15,7 +16,7 @@ public interface CommentsMapper {
 
     /**
      * 댓글 등록
-     * @param comments 댓글 엔티티
+     * @param comments 댓글 엔티티([261019] 등록 후 commentsId 채워짐)
      * @return 영향받은 행 수
      */
     int insertComments(Comments comments);
@@ -27,6 +28,19 @@ public interface CommentsMapper {
      */
     List<CommentsResponse> selectCommentsByPost(@Param("postId") Long postId);
 
+    /**
+     * [261019 신규] 특정 게시글 댓글 키셋 페이지 (created_at DESC, comments_id DESC)
+     * @param postId 게시글 ID
+     * @param cursorCreatedAt 직전 페이지 마지막 댓글 작성일(첫 페이지는 null)
+     * @param cursorId 직전 페이지 마지막 댓글 ID(첫 페이지는 null)
+     * @param limit 조회 건수(다음 페이지 여부 확인용으로 보통 size + 1)
+     * @return 댓글 리스트
+     */
+    List<CommentsResponse> selectCommentsPage(@Param("postId") Long postId,
+                                              @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                              @Param("cursorId") Long cursorId,
+                                              @Param("limit") int limit);
+
     /**
      * 댓글 단건 조회
      * @param commentsId 댓글 ID
@@ -0,0 +1,38 @@
+package com.gym.mapper.xml;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.cursor.Cursor;
+
+import java.time.LocalDate;
+
+import com.gym.domain.member.Member;
+import com.gym.domain.payment.Payment;
+import com.gym.domain.payment.PaylogResponse;
+import com.gym.domain.reservation.ReservationResponse;
+
+/**
+ * [261019 신규] CMS 내보내기(CSV/XLSX) 전용 매퍼
+ * - 반환: Cursor (목록 전체를 메모리에 올리지 않고 한 행씩 읽음)
+ * - fetchSize/결과셋 유형은 XML(export-mapper.xml)에서 지정
+ * - 주의: 커서는 트랜잭션(세션)이 열려 있는 동안만 사용 가능 → 서비스 @Transactional 안에서 소비
+ */
+@Mapper
+public interface ExportMapper {
+
+    // 예약 목록(조회 전용 테이블 기준, 필터 선택)
+    Cursor<ReservationResponse> cursorReservations(@Param("facilityId") Long facilityId,
+                                                   @Param("memberId") String memberId);
+
+    // 결제 목록(필터 선택)
+    Cursor<Payment> cursorPayments(@Param("memberId") String memberId,
+                                   @Param("paymentStatus") String paymentStatus);
+
+    // 회원 목록(비밀번호 제외, 필터 선택)
+    Cursor<Member> cursorMembers(@Param("keyword") String keyword,
+                                 @Param("role") String role);
+
+    // 결제로그 목록(기간 선택: fromDate 이상 ~ toDate 당일까지)
+    Cursor<PaylogResponse> cursorPaylogs(@Param("fromDate") LocalDate fromDate,
+                                         @Param("toDate") LocalDate toDate);
+}
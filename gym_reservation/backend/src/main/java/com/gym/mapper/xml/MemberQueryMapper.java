@@ -3,6 +3,7 @@ package com.gym.mapper.xml;                          // 📦 XML 매퍼 인터
 import com.gym.domain.member.Member;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.session.ResultHandler;
 import java.util.List;
 
 /**
@@ -30,5 +31,14 @@ public interface MemberQueryMapper {
         @Param("adminType") String adminType,
         @Param("name") String name
     );
+
+    // [261019 추가] 검색 인덱스 적재용(ID/이름/이메일/휴대폰/권한만, 스트리밍)
+    void selectSearchRows(ResultHandler<Member> handler);
+
+    // [261019 추가] 검색 인덱스가 고른 현재 페이지 회원만 PK로 조회(최대 1000건)
+    List<Member> selectMembersByIds(@Param("ids") List<String> ids);
+
+    // [261019 추가] 일괄 등록 청크 중 이미 있는 회원ID(최대 1000건)
+    List<String> selectExistingIds(@Param("ids") List<String> ids);
 }
 
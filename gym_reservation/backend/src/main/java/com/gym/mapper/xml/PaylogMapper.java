@@ -16,4 +16,15 @@ public interface PaylogMapper {
      * - XML 쿼리ID: selectByPaymentId
      */
     List<PaylogResponse> selectByPaymentId(@Param("paymentId") Long paymentId);
+
+    /**
+     * [261019 신규] 예약 상태 일괄 변경 이력 기록
+     * - 입력: 예약ID 목록 + 변경 전/후 예약 상태 + 처리자
+     * - 대상: 해당 예약에 연결된 결제(payment_tbl.resv_id) 전체, INSERT ... SELECT 한 문장
+     * - XML 쿼리ID: insertReservationStatusLogs
+     */
+    int insertReservationStatusLogs(@Param("resvIds") List<Long> resvIds,
+                                    @Param("beforeStatus") String beforeStatus,
+                                    @Param("afterStatus") String afterStatus,
+                                    @Param("manager") String manager);
 }
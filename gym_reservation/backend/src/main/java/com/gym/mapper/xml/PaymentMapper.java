@@ -13,10 +13,13 @@ public interface PaymentMapper {
     /**
      * 결제 등록 (INSERT)
      * - 입력: Payment 엔티티 (paymentId는 트리거/시퀀스로 자동 생성)
-     * - 반환: 영향받은 행 수 (성공 시 1, 실패 시 0)
+     * - [old] 반환: 영향받은 행 수 (성공 시 1, 실패 시 0)
+     * - [261019변경] 결과: OUT 파라미터로 p.paymentId 채움 (조건 불일치로 0건이면 null 유지)
+     *   CALLABLE(PL/SQL 블록) 호출이라 반환값은 영향받은 행 수가 아님 → void, 성공 여부는 p.getPaymentId()로 판단
      * - XML 매퍼: insertPayment
      */
-    int insertPayment(@Param("p") Payment p);
+    // int insertPayment(@Param("p") Payment p);
+    void insertPayment(@Param("p") Payment p);
     
 
     /**
@@ -24,8 +27,9 @@ public interface PaymentMapper {
      * - 같은 세션/트랜잭션 내에서만 사용 가능
      * - INSERT 직후 호출하여 방금 생성된 paymentId를 회수하는 용도
      * - XML 매퍼: getPaymentSeqCurrval
+     * - [261019변경] insertPayment가 OUT 파라미터로 p.paymentId를 채우므로 미사용
      */
-    Long getPaymentSeqCurrval(); 
+    // Long getPaymentSeqCurrval(); 
 
     /**
      * 결제 단건 조회 (PK 기준)
@@ -24,7 +24,7 @@ public interface PostMapper {
 
     // ===== [수정본] INSERT는 엔티티(Post)로 받고 영향행수(int) 반환 =====
     //  - XML: VALUES에서 post_seq.NEXTVAL
-    //  - AFTER selectKey로 CURRVAL → Post.postId 주입
+    //  - [261019변경] useGeneratedKeys(RETURNING post_id) → Post.postId 주입
     int insertPost(Post post);   // ✏️수정
 
     /**
@@ -86,4 +86,19 @@ public interface PostMapper {
      */
     void increaseViewCount(Long postId); // [250925추가]
 
+    /**
+     * [261019 신규] 댓글 수 증감
+     * @param postId 게시글 ID
+     * @param delta 증감값(등록 +1, 삭제 -1), 0 미만으로는 내려가지 않음
+     * @return 영향받은 행 수(게시글 없으면 0)
+     */
+    int addCommentCount(@Param("postId") Long postId, @Param("delta") int delta);
+
+    /**
+     * [261019 신규] 회원 삭제 전, 그 회원이 단 댓글 수만큼 게시글별 댓글 수 차감
+     * @param memberId 삭제할 회원 ID
+     * @return 영향받은 게시글 수
+     */
+    int subtractCommentCountsByMember(@Param("memberId") String memberId);
+
 }
@@ -9,6 +9,7 @@ import java.util.List;
 // [추가]
 import com.gym.domain.reservation.ReservationSearchRequest;   // [추가]
 import com.gym.domain.reservation.ReservationResponse;        // [추가]
+import com.gym.domain.reservation.Reservation;                // [261019추가] 점유 집계용 엔티티
 
 @Mapper
 public interface ReservationQueryMapper {
@@ -32,4 +33,35 @@ public interface ReservationQueryMapper {
 
     // [251002 신규] 단건 조회
     ReservationResponse getReservation(Long resvId);
+
+    // [261019 신규] 시설 수용 정보(최대 인원 + 공유 여부)
+    CapacityRow selectFacilityCapacity(@Param("facilityId") Long facilityId);
+
+    // [261019 신규] 시설 행 잠금(FOR UPDATE, 커밋/롤백까지 유지) — 공유 시설 완료 전환 직렬화
+    Long lockFacility(@Param("facilityId") Long facilityId);
+
+    // [261019 신규] 시설의 하루치 '완료' 예약(시간대 + 인원) — 점유 인덱스 적재용
+    List<Reservation> selectCompletedOnDay(@Param("facilityId") Long facilityId,
+                                           @Param("dayStart") LocalDateTime dayStart,
+                                           @Param("dayEnd") LocalDateTime dayEnd);
+
+    // [261019 신규] 예약 시간대/인원/상태만 조회(JOIN 없음)
+    Reservation selectResvSlot(@Param("resvId") Long resvId);
+
+    // [261019 신규] 일괄 상태 변경 대상 행 잠금 조회(FOR UPDATE) — 회원ID/시간대/인원/상태
+    List<Reservation> selectResvSlotsForUpdate(@Param("resvIds") List<Long> resvIds);
+
+    // [내부 static 클래스: selectFacilityCapacity 리턴타입]
+    class CapacityRow {
+        private Integer facilityPersonMax;
+        private String facilityShared;
+
+        public Integer getFacilityPersonMax() { return facilityPersonMax; }
+        public void setFacilityPersonMax(Integer facilityPersonMax) { this.facilityPersonMax = facilityPersonMax; }
+
+        public String getFacilityShared() { return facilityShared; }
+        public void setFacilityShared(String facilityShared) { this.facilityShared = facilityShared; }
+
+        public boolean isShared() { return "Y".equals(facilityShared); }
+    }
 }
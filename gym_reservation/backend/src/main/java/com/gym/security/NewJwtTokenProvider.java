@@ -38,11 +38,20 @@ public class NewJwtTokenProvider {
     private Key secretKey;
 
     // 환경설정 키를 기존 yml과 동일하게 맞춤(jwt.secret). Base64가 아닌 “그대로의 문자열”을 키로 사용.
-    public NewJwtTokenProvider(@Value("${jwt.secret}") String secret) {
+    public NewJwtTokenProvider(String secret) {
+        this(secret, 3600);
+    }
+
+    // [261019변경] 유효시간 yml(jwt.access-token-validity-seconds) 반영 → 리프레시 토큰 도입 후 짧게 운영
+    @Autowired
+    public NewJwtTokenProvider(@Value("${jwt.secret}") String secret,
+                               @Value("${jwt.access-token-validity-seconds:3600}") long accessTokenValiditySeconds) {
         this.secretKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.tokenValidMillisecond = accessTokenValiditySeconds * 1000L;
     }
 
-    private final long tokenValidMillisecond = 1000L * 60 * 60; // 1시간
+    // private final long tokenValidMillisecond = 1000L * 60 * 60; // 1시간
+    private final long tokenValidMillisecond;
 
     @PostConstruct
     protected void init() {
@@ -61,6 +70,16 @@ public class NewJwtTokenProvider {
                    .compact();
     }
 
+    // [261019] 원본 권한값(member_role) → Spring Security ROLE (로그인/토큰 재발급 공용)
+    public static String toSecRole(String raw) {
+        return switch (raw) {
+            //case "admin","관리자","최고관리자","담당자" -> "ROLE_ADMIN"; // old
+            case "admin","관리자","책임자","강사" -> "ROLE_ADMIN"; // new
+            case "user","회원" -> "ROLE_USER";
+            default -> "ROLE_USER";
+        };
+    }
+
     public Authentication getAuthentication(String token) {
         UserDetails userDetails = userDetailsService.loadUserByUsername(this.getUsername(token));
         return new UsernamePasswordAuthenticationToken(userDetails, "", userDetails.getAuthorities());
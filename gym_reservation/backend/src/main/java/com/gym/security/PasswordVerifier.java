@@ -0,0 +1,82 @@
+package com.gym.security;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * [261019 신규] 로그인 비밀번호(BCrypt) 검증 전용 풀
+ * - BCrypt는 건당 수십 ms CPU 사용 → 로그인 몰림 시 요청 스레드에서 돌리면 예약 등 다른 요청까지 굶음
+ * - 고정 스레드 수(threads) + 대기 큐(queue-capacity)로 동시 검증량 제한
+ * - 큐가 가득 차거나 wait-ms 안에 끝나지 않으면 RejectedExecutionException → 호출 측에서 즉시 503
+ */
+@Slf4j
+@Component
+public class PasswordVerifier {
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor pool;
+    private final long waitMs;
+
+    public PasswordVerifier(PasswordEncoder passwordEncoder,
+                            @Value("${gym.auth.bcrypt.threads:0}") int threads,
+                            @Value("${gym.auth.bcrypt.queue-capacity:64}") int queueCapacity,
+                            @Value("${gym.auth.bcrypt.wait-ms:3000}") long waitMs) {
+        int n = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        AtomicInteger seq = new AtomicInteger();
+        this.passwordEncoder = passwordEncoder;
+        this.waitMs = waitMs;
+        this.pool = new ThreadPoolExecutor(n, n, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                r -> {
+                    Thread t = new Thread(r, "bcrypt-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        log.info("[auth] BCrypt 검증 풀 threads={}, queue={}, wait={}ms", n, queueCapacity, waitMs);
+    }
+
+    // 평문 비교는 풀을 거치지 않음(기존 평문 비밀번호 계정 호환)
+    public boolean matches(String raw, String stored) {
+        if (stored == null) return false;
+        if (stored.length() < 60) return raw.equals(stored);
+
+        Future<Boolean> f;
+        try {
+            f = pool.submit(() -> passwordEncoder.matches(raw, stored));
+        } catch (RejectedExecutionException e) {
+            log.debug("[auth] BCrypt 검증 큐 포화 → 거절(queue={})", pool.getQueue().size());
+            throw e;
+        }
+        try {
+            return f.get(waitMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            f.cancel(true);
+            throw new RejectedExecutionException("password verification timed out");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            f.cancel(true);
+            throw new RejectedExecutionException("interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("password verification failed", e.getCause());
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        pool.shutdownNow();
+    }
+}
@@ -0,0 +1,91 @@
+package com.gym.security;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * [261019 신규] 요청 수 제한 필터(JwtAuthenticationFilter 앞)
+ * - 정책이 걸린 경로(예약 신청/결제/로그인 등)만 검사, 그 외는 그대로 통과
+ * - IP 버킷 → 회원 버킷 순서로 소비, 하나라도 비면 429 + Retry-After(초)
+ * - 회원 식별: 로그인은 userId 파라미터, 그 외는 JWT subject(서명 검증 실패 시 IP만 적용)
+ * - DB 조회 전에 거절하므로 검증 쿼리/BCrypt 비용 없음
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(RateLimitFilter.class);
+
+	private final RateLimiter rateLimiter;
+	private final NewJwtTokenProvider jwtTokenProvider;
+
+	public RateLimitFilter(RateLimiter rateLimiter, NewJwtTokenProvider jwtTokenProvider) {
+		this.rateLimiter = rateLimiter;
+		this.jwtTokenProvider = jwtTokenProvider;
+	}
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+			FilterChain filterChain) throws ServletException, IOException {
+
+		RateLimiter.Route route = rateLimiter.match(request.getMethod(), request.getRequestURI());
+		if (route == null) {
+			filterChain.doFilter(request, response);
+			return;
+		}
+
+		// 1) IP 단위(프록시 뒤라면 server.forward-headers-strategy 설정으로 실제 IP 반영)
+		long waitNanos = rateLimiter.tryAcquire(route, "ip", request.getRemoteAddr(),
+				route.getIpInterval(), route.getIpTolerance());
+
+		// 2) 회원 단위
+		if (waitNanos == 0 && route.getPrincipalInterval() > 0) {
+			String principal = principalOf(request);
+			if (principal != null) {
+				waitNanos = rateLimiter.tryAcquire(route, "member", principal,
+						route.getPrincipalInterval(), route.getPrincipalTolerance());
+			}
+		}
+
+		if (waitNanos > 0) {
+			long retryAfter = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L));
+			LOGGER.warn("[rate-limit] 429 route={}, ip={}, retryAfter={}s", route.getName(), request.getRemoteAddr(), retryAfter);
+			response.setStatus(429);
+			response.setHeader("Retry-After", String.valueOf(retryAfter));
+			response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+			response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+			response.getWriter().write("{\"code\":\"429\",\"message\":\"요청이 너무 많습니다. 잠시 후 다시 시도하세요.\"}");
+			return;
+		}
+
+		filterChain.doFilter(request, response);
+	}
+
+	// 회원 식별값: 로그인 요청은 userId 파라미터, 그 외는 토큰 subject
+	private String principalOf(HttpServletRequest request) {
+		String userId = request.getParameter("userId");
+		if (userId != null && !userId.isBlank() && request.getRequestURI().startsWith("/sign-api/")) {
+			return userId;
+		}
+		String token = request.getHeader("X-AUTH-TOKEN");
+		if (token == null || token.isBlank()) {
+			String auth = request.getHeader("Authorization");
+			token = (auth != null && auth.startsWith("Bearer ")) ? auth.substring(7) : null;
+		}
+		if (token == null) return null;
+		try {
+			return jwtTokenProvider.getUsername(token); // 서명/만료 검증 포함
+		} catch (RuntimeException e) {
+			return null; // 잘못된 토큰 → IP 제한만 적용(인증은 뒤 필터가 처리)
+		}
+	}
+}
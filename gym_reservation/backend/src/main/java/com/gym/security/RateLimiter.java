@@ -0,0 +1,158 @@
+package com.gym.security;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * [261019 신규] 경로별 요청 수 제한(토큰 버킷)
+ * - 정책(gym.rate-limit.routes): 메서드 + 경로 패턴별 IP당 / 회원당 분당 허용 수 + 순간 허용(burst)
+ * - 버킷 1개 = AtomicLong 1개(GCRA: 다음 토큰이 쌓이는 이론 시각) → CAS로 잠금 없이 갱신
+ * - 버킷 맵 크기 상한(max-buckets): 넘치면 가득 찬(=새로 만든 것과 같은) 버킷부터 제거
+ *   → [261019변경] 그래도 넘치면 새 키는 제한 없이 통과(fail open, 메모리 상한 보장)
+ *     (공용 버킷 1개를 나눠 쓰면 없는 ID를 바꿔 가며 맵을 채우는 것만으로 새 사용자 전원이 한 버킷에 묶여 로그인 전면 차단)
+ * - 범위(ip / member)별로 맵과 상한을 따로 둠 → 회원 키(로그인 전 userId 등)로 맵을 채워도 IP 제한은 그대로 동작
+ */
+@Slf4j
+@Component
+public class RateLimiter {
+
+    private static final long PURGE_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+    private static final long OVERFLOW_LOG_INTERVAL_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    private final boolean enabled;
+    private final int maxBuckets;
+    private final List<Route> routes;
+    private final AntPathMatcher matcher = new AntPathMatcher();
+    private final Map<String, Buckets> scopes = new ConcurrentHashMap<>(); // 범위(ip/member) → 버킷 맵
+    private final AtomicLong overflows = new AtomicLong();                 // 상한 초과로 통과시킨 횟수
+    private final AtomicLong lastOverflowLog = new AtomicLong(System.nanoTime() - OVERFLOW_LOG_INTERVAL_NANOS);
+
+    public RateLimiter(Environment env,
+                       @Value("${gym.rate-limit.enabled:true}") boolean enabled,
+                       @Value("${gym.rate-limit.max-buckets:100000}") int maxBuckets) {
+        this.enabled = enabled;
+        this.maxBuckets = maxBuckets;
+        this.routes = Binder.get(env)
+                .bind("gym.rate-limit.routes", Bindable.listOf(Route.class))
+                .orElse(List.of());
+        routes.forEach(Route::init);
+        log.info("[rate-limit] enabled={}, routes={}", enabled, routes.stream().map(Route::getName).toList());
+    }
+
+    // 요청에 해당하는 정책(없으면 null)
+    public Route match(String method, String path) {
+        if (!enabled) return null;
+        for (Route r : routes) {
+            if (r.method.equalsIgnoreCase(method) && matcher.match(r.pattern, path)) {
+                return r;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 토큰 1개 소비 시도
+     * @return 0이면 허용, 양수면 거절 + 재시도까지 남은 나노초
+     */
+    public long tryAcquire(Route route, String scope, String key, long intervalNanos, long toleranceNanos) {
+        if (intervalNanos <= 0) return 0; // 해당 범위 제한 없음
+        AtomicLong bucket = scopes.computeIfAbsent(scope, s -> new Buckets()).get(route.name + '|' + key);
+        if (bucket == null) {
+            overflowed(route, scope);
+            return 0; // 상한 초과 → 이 범위는 건너뜀(다른 범위 제한은 그대로)
+        }
+        long now = System.nanoTime();
+        while (true) {
+            long tat = bucket.get();
+            long base = Math.max(tat, now);
+            if (base - now > toleranceNanos) {
+                return base - now - toleranceNanos; // 버킷 비어 있음
+            }
+            if (bucket.compareAndSet(tat, base + intervalNanos)) {
+                return 0;
+            }
+        }
+    }
+
+    // 상한 초과 통과 기록(경고 로그는 분당 1회)
+    private void overflowed(Route route, String scope) {
+        long n = overflows.incrementAndGet();
+        long now = System.nanoTime();
+        long last = lastOverflowLog.get();
+        if (now - last >= OVERFLOW_LOG_INTERVAL_NANOS && lastOverflowLog.compareAndSet(last, now)) {
+            log.warn("[rate-limit] 버킷 상한({}) 초과 → 새 키 제한 생략 route={}, scope={}, 누적 {}회",
+                     maxBuckets, route.name, scope, n);
+        }
+    }
+
+    // 범위 1개의 버킷 맵(상한 max-buckets)
+    private final class Buckets {
+        private final Map<String, AtomicLong> map = new ConcurrentHashMap<>();
+        private final AtomicLong lastPurge = new AtomicLong(System.nanoTime());
+
+        // 기존 버킷 또는 새 버킷(가득 찬 상태로 시작), 상한 초과면 null
+        AtomicLong get(String key) {
+            AtomicLong b = map.get(key);
+            if (b != null) return b;
+            if (map.size() >= maxBuckets) {
+                purgeFull();
+                if (map.size() >= maxBuckets) return null;
+            }
+            return map.computeIfAbsent(key, k -> new AtomicLong(System.nanoTime()));
+        }
+
+        // 이론 시각이 지난 버킷 = 토큰이 가득 찬 상태 → 지워도 동작 동일(최대 1초에 한 번만 훑음)
+        private void purgeFull() {
+            long now = System.nanoTime();
+            long last = lastPurge.get();
+            if (now - last < PURGE_INTERVAL_NANOS || !lastPurge.compareAndSet(last, now)) return;
+            map.values().removeIf(b -> b.get() - now <= 0);
+        }
+    }
+
+    /** 경로별 정책(분당 허용 수, 0이면 해당 범위 제한 없음) */
+    @Getter @Setter
+    public static class Route {
+        private String name;
+        private String method = "POST";
+        private String pattern;
+        private int ipPerMinute;
+        private int ipBurst = 1;
+        private int principalPerMinute;
+        private int principalBurst = 1;
+
+        // 계산값: 토큰 간격 / 순간 허용 오차(나노초)
+        @Setter(AccessLevel.NONE) private long ipInterval;
+        @Setter(AccessLevel.NONE) private long ipTolerance;
+        @Setter(AccessLevel.NONE) private long principalInterval;
+        @Setter(AccessLevel.NONE) private long principalTolerance;
+
+        void init() {
+            if (pattern == null) throw new IllegalStateException("gym.rate-limit.routes[].pattern 필요: " + name);
+            if (name == null) name = method + " " + pattern;
+            ipInterval = intervalOf(ipPerMinute);
+            ipTolerance = ipInterval * Math.max(0, ipBurst - 1);
+            principalInterval = intervalOf(principalPerMinute);
+            principalTolerance = principalInterval * Math.max(0, principalBurst - 1);
+        }
+
+        private static long intervalOf(int perMinute) {
+            return perMinute > 0 ? TimeUnit.MINUTES.toNanos(1) / perMinute : 0;
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.gym.security;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * [261019 신규] 존재하지 않는 회원ID 단기 캐시(로그인 전용)
+ * - 크리덴셜 스터핑처럼 없는 ID로 반복 시도할 때 DB 조회 생략
+ * - TTL(ttl-seconds) 짧게 유지, 회원 가입 시 해당 ID는 즉시 제거(forget)
+ * - 최대 max-entries 초과 시 만료 항목 정리 → 그래도 넘치면 전체 비움(메모리 상한 보장)
+ */
+@Component
+public class UnknownMemberCache {
+
+    private final Map<String, Long> expiresAt = new ConcurrentHashMap<>();
+    private final long ttlNanos;
+    private final int maxEntries;
+
+    public UnknownMemberCache(@Value("${gym.auth.unknown-user-ttl-seconds:30}") long ttlSeconds,
+                              @Value("${gym.auth.unknown-user-max-entries:10000}") int maxEntries) {
+        this.ttlNanos = TimeUnit.SECONDS.toNanos(ttlSeconds);
+        this.maxEntries = maxEntries;
+    }
+
+    public boolean isUnknown(String memberId) {
+        Long exp = expiresAt.get(memberId);
+        if (exp == null) return false;
+        if (System.nanoTime() - exp >= 0) {
+            expiresAt.remove(memberId, exp);
+            return false;
+        }
+        return true;
+    }
+
+    public void markUnknown(String memberId) {
+        if (ttlNanos <= 0) return; // TTL 0 → 비활성
+        if (expiresAt.size() >= maxEntries) {
+            long now = System.nanoTime();
+            expiresAt.values().removeIf(exp -> now - exp >= 0);
+            if (expiresAt.size() >= maxEntries) expiresAt.clear();
+        }
+        expiresAt.put(memberId, System.nanoTime() + ttlNanos);
+    }
+
+    // 회원 가입 직후 바로 로그인 가능하도록 제거(가입 커밋 후 / 다른 노드 가입 알림 수신 시)
+    public void forget(String memberId) {
+        expiresAt.remove(memberId);
+    }
+
+    // 일괄 등록 알림 수신 시 전체 비움
+    public void clear() {
+        expiresAt.clear();
+    }
+}
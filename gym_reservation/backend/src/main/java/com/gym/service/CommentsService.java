@@ -1,7 +1,9 @@
 package com.gym.service;
 
 import com.gym.domain.comments.CommentsCreateRequest;
+import com.gym.domain.comments.CommentsPageResponse;
 import com.gym.domain.comments.CommentsResponse;
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -23,6 +25,17 @@ public interface CommentsService {
      */
     List<CommentsResponse> getCommentsByPost(Long postId);
 
+    /**
+     * [261019 신규] 게시글 별 댓글 키셋 페이지 조회 (최신순)
+     * - 커서 없는 첫 페이지는 게시글별 첫 페이지 캐시에서 응답
+     * @param postId 게시글 ID
+     * @param cursorCreatedAt 직전 페이지의 nextCursorCreatedAt (첫 페이지는 null)
+     * @param cursorId 직전 페이지의 nextCursorId (첫 페이지는 null)
+     * @param size 페이지 크기
+     * @return 댓글 페이지(목록 + 다음 커서)
+     */
+    CommentsPageResponse getCommentsPage(Long postId, LocalDateTime cursorCreatedAt, Long cursorId, int size);
+
     /**
      * 댓글 단건 조회
      * @param commentsId 댓글 ID
@@ -43,4 +56,11 @@ public interface CommentsService {
      * @param commentsId 댓글 ID
      */
     void deleteComments(Long commentsId);
+
+    /**
+     * [261019 신규] 회원 삭제 직전 호출 (같은 트랜잭션)
+     * - 회원 댓글은 FK ON DELETE CASCADE로 함께 삭제 → 게시글별 댓글 수를 미리 차감
+     * @param memberId 삭제할 회원 ID
+     */
+    void onMemberDeleting(String memberId);
 }
@@ -0,0 +1,22 @@
+package com.gym.service; // 서비스 인터페이스 패키지
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+
+/**
+ * [261019 신규] CMS 내보내기 서비스(CSV/XLSX)
+ * - 커서로 한 행씩 읽어 바로 출력 스트림에 기록(건수와 무관하게 메모리 일정)
+ * - format: "csv" 또는 "xlsx"
+ * - 반환: 기록한 데이터 행 수(머리글 제외)
+ */
+public interface ExportService {
+
+    long exportReservations(String format, Long facilityId, String memberId, OutputStream out) throws IOException;
+
+    long exportPayments(String format, String memberId, String paymentStatus, OutputStream out) throws IOException;
+
+    long exportMembers(String format, String keyword, String role, OutputStream out) throws IOException;
+
+    long exportPaylogs(String format, LocalDate fromDate, LocalDate toDate, OutputStream out) throws IOException;
+}
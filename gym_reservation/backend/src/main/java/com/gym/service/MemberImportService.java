@@ -0,0 +1,20 @@
+package com.gym.service; // 서비스 인터페이스 패키지
+
+import com.gym.domain.member.MemberImportJob;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * [261019 신규] 회원 일괄 등록(CSV)
+ * - 업로드는 임시 파일로 흘려 쓰고 즉시 작업ID 반환, 처리는 백그라운드에서 한 행씩 읽어 청크 단위로 수행
+ * - 진행 상황/행 오류는 get(jobId)로 조회
+ */
+public interface MemberImportService {
+
+    // 작업 등록: chunkSize null이면 기본값(gym.member-import.chunk-size)
+    MemberImportJob start(InputStream csv, String fileName, Integer chunkSize) throws IOException;
+
+    // 작업 상태(없으면 null)
+    MemberImportJob get(String jobId);
+}
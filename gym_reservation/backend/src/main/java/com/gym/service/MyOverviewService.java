@@ -0,0 +1,17 @@
+package com.gym.service; // 서비스 인터페이스 패키지
+
+import com.gym.domain.member.MyOverviewResponse;
+
+import java.util.Set;
+
+/**
+ * [261019 신규] 마이페이지 요약 서비스
+ * - 회원/예약/결제/카드/계좌 구역을 병렬 조회해 한 번에 응답(HTTP 6회 → 1회)
+ * - fields: member, reservations, payments, cards, accounts 중 선택(비어 있으면 전체)
+ */
+public interface MyOverviewService {
+
+    Set<String> SECTIONS = Set.of("member", "reservations", "payments", "cards", "accounts");
+
+    MyOverviewResponse overview(String memberId, Set<String> fields, int limit);
+}
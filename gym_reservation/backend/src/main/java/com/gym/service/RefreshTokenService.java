@@ -0,0 +1,21 @@
+package com.gym.service; // 서비스 인터페이스 패키지
+
+/**
+ * 리프레시 토큰 서비스(회전식)
+ * - 로그인 성공 시 발급, 재발급 때마다 새 토큰으로 교체(1회용)
+ * - 이미 사용된 토큰 재사용 감지 시 같은 로그인 계보 전체 폐기
+ */
+public interface RefreshTokenService {
+
+    // 로그인 직후 발급: 원문 토큰 반환(DB에는 해시만 저장)
+    String issue(String memberId);
+
+    // 재발급: 유효하면 새 리프레시 토큰 + 회원ID, 무효/재사용이면 null
+    Rotated rotate(String refreshToken);
+
+    // 로그아웃: 해당 토큰의 계보 전체 폐기
+    void revoke(String refreshToken);
+
+    // 재발급 결과
+    record Rotated(String memberId, String refreshToken) {}
+}
@@ -30,4 +30,8 @@ public interface ReservationService {
     // [251002 신규] 예약단건조회
     ReservationResponse getReservation(Long resvId); 
     // 필요한 이유 : (플로우 구조) 시설정보 조회 후, 예약신청을 진행하는 구조를 구성하기 위해선 단건조회 기능 필요함  
+
+    // [261019 신규] CMS 일괄 상태 변경(한 트랜잭션): 실제 변경된 건수 반환
+    // - 문자 발송/결제로그 기록은 커밋 후 비동기 처리
+    int changeStatusBatch(List<Long> resvIds, String resvStatus, String managerId);
 }
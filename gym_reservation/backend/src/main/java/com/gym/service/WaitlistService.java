@@ -0,0 +1,29 @@
+package com.gym.service; // 서비스 인터페이스 패키지
+
+import com.gym.domain.waitlist.WaitlistCreateRequest; // 대기 신청 DTO
+import com.gym.domain.waitlist.WaitlistResponse;      // 응답 DTO
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 예약 대기열 서비스
+ * - 완료 예약으로 막힌 시간대에 대기 신청
+ * - 예약 취소 시 다음 대기자를 자동 승격('대기' 상태 예약 생성 + 문자 발송)
+ */
+public interface WaitlistService {
+
+    // 대기 신청: 생성된 PK(waitId) 반환
+    Long joinWaitlist(WaitlistCreateRequest request);
+
+    // 내 대기 목록(현재 순번 포함)
+    List<WaitlistResponse> listMyWaitlist(String memberId);
+
+    // 대기 취소(소유자 강제): '대기' 상태일 때만 반영
+    int cancelWaitlist(Long waitId, String memberId);
+
+    // 취소 이벤트 훅: 해당 예약 시간대와 겹치고 지금 들어갈 수 있는 가장 오래된 대기자를 승격, 생성된 예약ID 반환(없으면 null)
+    Long promoteNext(Long cancelledResvId);
+
+    // 취소 이벤트 훅(시간대 지정): 호출 측이 이미 시간대를 알고 있을 때 예약 재조회 없이 승격
+    Long promoteNext(Long facilityId, LocalDateTime resvStartTime, LocalDateTime resvEndTime);
+}
@@ -3,6 +3,9 @@ package com.gym.service.impl;
 import com.gym.domain.account.*;                    // Account, AccountCreateRequest, AccountResponse
 import com.gym.mapper.annotation.AccountMapper;     // 계좌 매퍼(어노테이션) — 변경 금지
 import com.gym.service.AccountService;              // 서비스 인터페이스
+import com.gym.service.support.MemberIdRegistry;    // [261019] 회원ID 존재 인덱스
+import com.gym.service.support.MemberInstrumentCache; // [261019] 회원별 카드/계좌 캐시
+import org.springframework.dao.DuplicateKeyException; // [261019] 대표 동시 지정 충돌(UNIQUE)
 import org.springframework.stereotype.Service;      // @Service
 import org.springframework.transaction.annotation.Transactional; // 트랜잭션
 
@@ -13,14 +16,22 @@ import java.util.stream.Collectors;                 // 변환
  * 계좌 서비스 구현
  * - 유효성 검증(필수값), 트랜잭션 경계, 엔티티↔응답 DTO 변환
  * - DDL 제약/트리거에 의한 예외는 그대로 전파(로그로 원인 확인)
+ * - [261019] 회원별 목록/소유 확인은 MemberInstrumentCache에서 조회, 등록/대표지정/삭제 시 무효화
+ * - [261019] 대표 지정은 단일 UPDATE(CASE) 1회, 첫 계좌 대표 지정도 조건부 UPDATE 1회(건수 조회 제거)
+ *   → 동시 요청에도 커밋 시점마다 대표 정확히 1개(가상 컬럼 UNIQUE 제약이 최종 보장)
  */
 @Service
 public class AccountServiceImpl implements AccountService {
 
     private final AccountMapper accountMapper;      // 매퍼 주입
+    private final MemberIdRegistry memberIdRegistry; // [261019] 회원 존재 확인(메모리 우선)
+    private final MemberInstrumentCache memberInstrumentCache; // [261019] 회원별 계좌 목록 캐시
 
-    public AccountServiceImpl(AccountMapper accountMapper) {
+    public AccountServiceImpl(AccountMapper accountMapper, MemberIdRegistry memberIdRegistry,
+                              MemberInstrumentCache memberInstrumentCache) {
         this.accountMapper = accountMapper;         // 생성자 주입
+        this.memberIdRegistry = memberIdRegistry;
+        this.memberInstrumentCache = memberInstrumentCache;
     }
 
     /** 등록(INSERT) — REQUIRED: 실패 시 롤백 */
@@ -34,21 +45,22 @@ public class AccountServiceImpl implements AccountService {
         if (req.getAccountNumber() == null || req.getAccountNumber().isBlank())
             throw new IllegalArgumentException("accountNumber is required");
 
-        if (!accountMapper.existsMemberId(req.getMemberId()))
+        if (!memberIdRegistry.exists(req.getMemberId(), accountMapper::existsMemberId)) // [261019변경] 메모리 우선
             throw new IllegalArgumentException("memberId not found");
         if (accountMapper.existsByAccountNumber(req.getAccountNumber()))
             throw new IllegalArgumentException("accountNumber already exists");
 
-        long cnt = accountMapper.countAccountsByMember(req.getMemberId()); // 0 = 첫 등록
+        // [old] 건수 조회 → 첫 등록이면 Y로 INSERT, 아니면 Y 지정 후 나머지 N(UPDATE 2회)
+        //       조회와 INSERT/UPDATE 사이에 동시 요청이 끼면 대표 0개/2개 시도 가능
+        // long cnt = accountMapper.countAccountsByMember(req.getMemberId());
+        // [261019변경] 항상 N으로 INSERT → 요청 시 대표 전환(CASE UPDATE), 아니면 대표가 없을 때만 대표로
         boolean requestMain = Boolean.TRUE.equals(req.getAccountMain());
-        boolean insertAsMain = (cnt == 0);                    // 첫 등록은 Y
-        boolean promoteAfterInsert = (cnt > 0 && requestMain);// 이후 승격 필요
 
         Account a = Account.builder()
                 .memberId(req.getMemberId())
                 .accountBank(req.getAccountBank())
                 .accountNumber(req.getAccountNumber())
-                .accountMain(insertAsMain)                    // 첫 등록: Y, 아니면 N
+                .accountMain(false)
                 .build();
 
         int affected = accountMapper.insertAccount(a);
@@ -56,39 +68,48 @@ public class AccountServiceImpl implements AccountService {
 
         Long newId = a.getAccountId();
 
-        // 승격: 대상 Y → 나머지 N (트리거 충돌 회피)
-        if (promoteAfterInsert) {
-            int up1 = accountMapper.setAccountToMain(newId, req.getMemberId());
-            if (up1 == 0) throw new RuntimeException("NOT_FOUND: account member mismatch");
-            accountMapper.unsetOtherMains(newId, req.getMemberId());
+        if (requestMain) {
+            int upd = switchMain(newId, req.getMemberId());
+            if (upd == 0) throw new RuntimeException("NOT_FOUND: account member mismatch");
+        } else {
+            try {
+                accountMapper.promoteAccountIfNoMain(newId, req.getMemberId());
+            } catch (DuplicateKeyException e) {
+                // 동시에 등록된 다른 계좌가 먼저 대표가 됨 → 이 계좌는 'N' 유지(문장 단위 롤백, 등록은 계속)
+            }
         }
 
+        memberInstrumentCache.invalidate(req.getMemberId()); // [261019] 계좌 목록 캐시 무효화
         return newId;
     }
 
-    /** 회원별 목록(SELECT) — readOnly */
+    /** 회원별 목록(SELECT) — readOnly, [261019변경] 회원별 캐시 스냅샷에서 조회(없을 때만 DB) */
     @Override
     @Transactional(readOnly = true)
     public List<AccountResponse> listAccountsByMember(String memberId) {
-        List<Account> rows = accountMapper.selectAccountsByMember(memberId);
+        List<Account> rows = memberInstrumentCache.get(memberId).accounts();
         return rows.stream().map(this::toResp).collect(Collectors.toList());
     }
 
     /** 대표계좌 지정(PATCH) — 대상 Y → 나머지 N */
+    // [old] setAccountToMain(대상 Y) → unsetOtherMains(나머지 N): UPDATE 2회 사이 대표 2개 구간 존재
+    // [261019변경] 단일 CASE UPDATE 1회(회원 계좌 행을 한 문장에서 잠그고 전환)
     @Override
     @Transactional(rollbackFor = Exception.class)
     public void setMainAccount(Long accountId, String memberId) {
-        int up1 = accountMapper.setAccountToMain(accountId, memberId); // 대상 Y
-        if (up1 == 0) throw new RuntimeException("NOT_FOUND: account member mismatch");
-        accountMapper.unsetOtherMains(accountId, memberId);            // 나머지 N
+        int upd = switchMain(accountId, memberId); // 충돌 시 1회 재시도
+        if (upd == 0) throw new RuntimeException("NOT_FOUND: account member mismatch");
+        memberInstrumentCache.invalidate(memberId);                    // [261019]
     }
 
     /** (CMS) 삭제 — 소유자 검증 없음 (대표계좌는 컨트롤러/서비스 레벨에서 이미 차단) */
     @Override
     @Transactional(rollbackFor = Exception.class)
     public void deleteAccountById(Long accountId) {
+        String ownerId = accountMapper.selectMemberIdByAccountId(accountId); // [261019] 캐시 무효화 대상
         int affected = accountMapper.deleteAccountById(accountId);
         if (affected == 0) throw new RuntimeException("NOT_FOUND: account " + accountId);
+        memberInstrumentCache.invalidate(ownerId);
     }
 
     // ============================== [old] 중복 정의 블록(비활성 보존) ==============================
@@ -119,24 +140,36 @@ public class AccountServiceImpl implements AccountService {
     @Override
     @Transactional(rollbackFor = Exception.class)
     public void deleteAccountByIdForOwner(Long accountId, String loginMemberId) {
-        // 1) 내 계좌 목록 조회(기존 매퍼 재활용)
-        List<AccountResponse> my = accountMapper.selectAccountsByMember(loginMemberId)
-                .stream().map(this::toResp).collect(java.util.stream.Collectors.toList());
-
-        // 2) 소유 검증
-        AccountResponse target = my.stream()
-                .filter(a -> java.util.Objects.equals(a.getAccountId(), accountId))
-                .findFirst()
-                .orElseThrow(() -> new RuntimeException("ACCESS_DENIED: 본인 소유 계좌만 삭제할 수 있습니다."));
-
-        // 3) 대표 여부 차단
-        if (target.isAccountMain()) {
-            throw new RuntimeException("대표계좌는 삭제할 수 없습니다.");
+        // [261019변경] 소유/대표 판정은 DELETE 조건으로(캐시 스냅샷은 전파 유실 시 TTL만큼 늦을 수 있음)
+        // Account target = memberInstrumentCache.findAccount(loginMemberId, accountId)
+        //         .orElseThrow(() -> new RuntimeException("ACCESS_DENIED: 본인 소유 계좌만 삭제할 수 있습니다."));
+        // if (target.isAccountMain()) {
+        //     throw new RuntimeException("대표계좌는 삭제할 수 없습니다.");
+        // }
+        // int affected = accountMapper.deleteAccountById(accountId);
+        // if (affected == 0) throw new RuntimeException("NOT_FOUND: account " + accountId);
+
+        // 1~4) 본인 소유 + 대표 아님일 때만 삭제
+        int affected = accountMapper.deleteOwnNonMainAccount(accountId, loginMemberId);
+        if (affected == 0) {
+            // 0건 사유: 내 계좌면 대표, 아니면(없음 포함) 소유 아님
+            if (loginMemberId.equals(accountMapper.selectMemberIdByAccountId(accountId))) {
+                throw new RuntimeException("대표계좌는 삭제할 수 없습니다.");
+            }
+            throw new RuntimeException("ACCESS_DENIED: 본인 소유 계좌만 삭제할 수 있습니다.");
         }
+        memberInstrumentCache.invalidate(loginMemberId); // [261019]
+    }
 
-        // 4) 삭제 실행
-        int affected = accountMapper.deleteAccountById(accountId);
-        if (affected == 0) throw new RuntimeException("NOT_FOUND: account " + accountId);
+    // [261019 신규] 대표 전환(CASE UPDATE)
+    // - 문장 시작 뒤 커밋된 다른 요청의 대표 계좌는 이 문장에서 'N'으로 바뀌지 않음 → UNIQUE 위반
+    // - 그 계좌가 보이는 새 문장으로 1회 재시도하면 정상 전환
+    private int switchMain(Long accountId, String memberId) {
+        try {
+            return accountMapper.updateMainAccount(accountId, memberId);
+        } catch (DuplicateKeyException e) {
+            return accountMapper.updateMainAccount(accountId, memberId);
+        }
     }
 
     /** 엔티티→응답 DTO 변환 */
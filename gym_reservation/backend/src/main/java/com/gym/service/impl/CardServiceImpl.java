@@ -3,6 +3,9 @@ package com.gym.service.impl;
 import com.gym.domain.card.*;                 // Card, CardCreateRequest, CardResponse
 import com.gym.mapper.annotation.CardMapper;  // 카드 매퍼(어노테이션)
 import com.gym.service.CardService;           // 서비스 인터페이스
+import com.gym.service.support.MemberIdRegistry; // [261019] 회원ID 존재 인덱스
+import com.gym.service.support.MemberInstrumentCache; // [261019] 회원별 카드/계좌 캐시
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,14 +26,23 @@ import java.util.stream.Collectors;
  * - UserCardController : 로그인 본인 계정 카드만 등록/조회/수정/삭제
  * - CmsCardController  : 관리자/최고관리자 권한으로 모든 회원 카드 접근 가능
  * - 서비스 계층은 비즈니스 로직만 유지, 권한 검증은 Controller 단에서 수행
+ *
+ * [261019] 회원별 목록/소유 확인은 MemberInstrumentCache에서 조회, 등록/대표변경/삭제 시 무효화
+ * [261019] 대표 전환은 단일 UPDATE(CASE) 1회, 첫 카드 대표 지정도 조건부 UPDATE 1회(건수 조회 제거)
+ *          → 동시 요청에도 커밋 시점마다 대표 정확히 1개(가상 컬럼 UNIQUE 제약이 최종 보장)
  */
 @Service
 public class CardServiceImpl implements CardService {
 
     private final CardMapper cardMapper;
+    private final MemberIdRegistry memberIdRegistry; // [261019] 회원 존재 확인(메모리 우선)
+    private final MemberInstrumentCache memberInstrumentCache; // [261019] 회원별 카드 목록 캐시
 
-    public CardServiceImpl(CardMapper cardMapper) {
+    public CardServiceImpl(CardMapper cardMapper, MemberIdRegistry memberIdRegistry,
+                           MemberInstrumentCache memberInstrumentCache) {
         this.cardMapper = cardMapper; // 생성자 주입
+        this.memberIdRegistry = memberIdRegistry;
+        this.memberInstrumentCache = memberInstrumentCache;
     }
 
     /** 1) 카드 등록 */
@@ -53,7 +65,7 @@ public class CardServiceImpl implements CardService {
         if (req.getCardNumber() == null || req.getCardNumber().isBlank())
             throw new IllegalArgumentException("cardNumber is required");
 
-        if (!cardMapper.existsMemberId(req.getMemberId()))
+        if (!memberIdRegistry.exists(req.getMemberId(), cardMapper::existsMemberId)) // [261019변경] 메모리 우선
             throw new IllegalArgumentException("memberId not found");
         if (cardMapper.existsByCardNumber(req.getCardNumber()))
             throw new IllegalArgumentException("cardNumber already exists");
@@ -70,14 +82,23 @@ public class CardServiceImpl implements CardService {
         if (affected != 1) throw new RuntimeException("INSERT failed");
         Long newId = c.getCardId();
 
-        long postCnt   = cardMapper.countCardsByMember(req.getMemberId());
+        // [old] 건수 조회 후 분기 → 조회와 UPDATE 사이에 동시 등록이 끼면 대표 0개/2개 시도 가능
+        // long postCnt   = cardMapper.countCardsByMember(req.getMemberId());
+        // if (postCnt == 1 || wantMain) { updateMainCard(...) }
+        // [261019변경] 요청 시 대표 전환(CASE UPDATE), 아니면 대표가 없을 때만 이 카드를 대표로
         boolean wantMain = Boolean.TRUE.equals(req.getCardMain());
-
-        if (postCnt == 1 || wantMain) {
-            int upd = cardMapper.updateMainCard(newId, req.getMemberId());
+        if (wantMain) {
+            int upd = switchMain(newId, req.getMemberId());
             if (upd == 0) throw new RuntimeException("NOT_FOUND: card member mismatch");
+        } else {
+            try {
+                cardMapper.promoteCardIfNoMain(newId, req.getMemberId());
+            } catch (DuplicateKeyException e) {
+                // 동시에 등록된 다른 카드가 먼저 대표가 됨 → 이 카드는 'N' 유지(문장 단위 롤백, 등록은 계속)
+            }
         }
 
+        memberInstrumentCache.invalidate(req.getMemberId()); // [261019] 카드 목록 캐시 무효화
         return newId;
     }
 
@@ -93,10 +114,11 @@ public class CardServiceImpl implements CardService {
     }
     */
     // [250917] 서비스 로직 동일, 본인 여부 검증은 UserCardController에서 처리
+    // [261019변경] 회원별 캐시 스냅샷에서 조회(없을 때만 DB)
     @Override
     @Transactional(readOnly = true)
     public List<CardResponse> listCardsByMember(String memberId) {
-        return cardMapper.selectCardsByMember(memberId)
+        return memberInstrumentCache.get(memberId).cards()
                 .stream().map(this::toResp)
                 .collect(Collectors.toList());
     }
@@ -116,10 +138,11 @@ public class CardServiceImpl implements CardService {
     @Override
     @Transactional(rollbackFor = Exception.class)
     public void setMainCard(Long cardId, String memberId) {
-        int upd = cardMapper.updateMainCard(cardId, memberId);
+        int upd = switchMain(cardId, memberId); // [261019변경] 충돌 시 1회 재시도
         if (upd == 0) {
             throw new RuntimeException("NOT_FOUND: card member mismatch");
         }
+        memberInstrumentCache.invalidate(memberId); // [261019]
     }
 
     /** 4) 카드 삭제 */
@@ -136,25 +159,37 @@ public class CardServiceImpl implements CardService {
     @Override
     @Transactional(rollbackFor = Exception.class)
     public void deleteCardById(Long cardId) {
+        String ownerId = cardMapper.selectMemberIdByCardId(cardId); // [261019] 캐시 무효화 대상
         int affected = cardMapper.deleteCardById(cardId);
         if (affected == 0) throw new RuntimeException("NOT_FOUND: card " + cardId);
+        memberInstrumentCache.invalidate(ownerId);
     }
 
     // [250917] 추가 — 본인 소유 카드만 삭제(매퍼 추가 없이 소유 검증)
     @Override
     @Transactional(rollbackFor = Exception.class)
     public void deleteCardByIdForOwner(Long cardId, String loginMemberId) {
-        // 1) 본인 카드 목록 조회(기존 매퍼 재활용)
-        List<CardResponse> myCards = cardMapper.selectCardsByMember(loginMemberId)
-                .stream().map(this::toResp).collect(Collectors.toList());
-
-        // 2) 소유 검증: 내 카드 목록에 해당 cardId가 있는지 확인
-        boolean owns = myCards.stream().anyMatch(c -> java.util.Objects.equals(c.getCardId(), cardId));
-        if (!owns) throw new RuntimeException("ACCESS_DENIED: 본인 소유 카드만 삭제할 수 있습니다.");
+        // [261019변경] 소유 판정은 DELETE 조건으로(캐시 스냅샷은 전파 유실 시 TTL만큼 늦을 수 있음)
+        // boolean owns = memberInstrumentCache.findCard(loginMemberId, cardId).isPresent();
+        // if (!owns) throw new RuntimeException("ACCESS_DENIED: 본인 소유 카드만 삭제할 수 있습니다.");
+        // int affected = cardMapper.deleteCardById(cardId);
+        // if (affected == 0) throw new RuntimeException("NOT_FOUND: card " + cardId);
+
+        // 1~3) 본인 소유일 때만 삭제(0건 → 없거나 남의 카드)
+        int affected = cardMapper.deleteOwnCard(cardId, loginMemberId);
+        if (affected == 0) throw new RuntimeException("ACCESS_DENIED: 본인 소유 카드만 삭제할 수 있습니다.");
+        memberInstrumentCache.invalidate(loginMemberId); // [261019]
+    }
 
-        // 3) 삭제 실행(기존 삭제 메서드 재사용)
-        int affected = cardMapper.deleteCardById(cardId);
-        if (affected == 0) throw new RuntimeException("NOT_FOUND: card " + cardId);
+    // [261019 신규] 대표 전환(CASE UPDATE)
+    // - 문장 시작 뒤 커밋된 다른 요청의 대표 카드는 이 문장에서 'N'으로 바뀌지 않음 → UNIQUE 위반
+    // - 그 카드가 보이는 새 문장으로 1회 재시도하면 정상 전환
+    private int switchMain(Long cardId, String memberId) {
+        try {
+            return cardMapper.updateMainCard(cardId, memberId);
+        } catch (DuplicateKeyException e) {
+            return cardMapper.updateMainCard(cardId, memberId);
+        }
     }
 
     /** 엔티티 → DTO 변환 */
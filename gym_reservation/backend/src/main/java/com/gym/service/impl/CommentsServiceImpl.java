@@ -2,24 +2,35 @@ package com.gym.service.impl;
 
 import com.gym.domain.comments.Comments;
 import com.gym.domain.comments.CommentsCreateRequest;
+import com.gym.domain.comments.CommentsPageResponse;
 import com.gym.domain.comments.CommentsResponse;
 import com.gym.mapper.xml.CommentsMapper;
+import com.gym.mapper.xml.PostMapper;
 import com.gym.service.CommentsService;
+import com.gym.service.support.CommentFirstPageCache;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
  * 댓글 서비스 구현체
+ * - [261019] 등록/삭제 시 post_tbl.post_comment_count 를 같은 트랜잭션에서 ±1
+ * - [261019] 등록/수정/삭제 시 게시글 댓글 첫 페이지 캐시 무효화(커밋 후 다른 노드 전파)
  */
 @Service
 public class CommentsServiceImpl implements CommentsService {
 
     private final CommentsMapper commentsMapper;
+    private final PostMapper postMapper;                       // [261019] 게시글 댓글 수 갱신
+    private final CommentFirstPageCache commentFirstPageCache; // [261019] 댓글 첫 페이지 캐시
 
-    public CommentsServiceImpl(CommentsMapper commentsMapper) {
+    public CommentsServiceImpl(CommentsMapper commentsMapper, PostMapper postMapper,
+                               CommentFirstPageCache commentFirstPageCache) {
         this.commentsMapper = commentsMapper;
+        this.postMapper = postMapper;
+        this.commentFirstPageCache = commentFirstPageCache;
     }
 
     /**
@@ -34,7 +45,9 @@ public class CommentsServiceImpl implements CommentsService {
             .content(request.getContent())
             .build();
         commentsMapper.insertComments(comments);
-        return comments.getCommentsId();
+        postMapper.addCommentCount(comments.getPostId(), 1); // [261019] 댓글 수 +1
+        commentFirstPageCache.invalidate(comments.getPostId());
+        return comments.getCommentsId(); // [261019] RETURNING comments_id 로 채워짐
     }
 
     /**
@@ -46,6 +59,21 @@ public class CommentsServiceImpl implements CommentsService {
         return commentsMapper.selectCommentsByPost(postId);
     }
 
+    /**
+     * [261019 신규] 특정 게시글 댓글 키셋 페이지 조회
+     * - 첫 페이지(커서 없음, size ≤ 캐시 페이지 크기): 첫 페이지 캐시
+     * - 그 외: size + 1건 조회 → 초과분으로 다음 페이지 여부 판단
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public CommentsPageResponse getCommentsPage(Long postId, LocalDateTime cursorCreatedAt, Long cursorId, int size) {
+        if (cursorCreatedAt == null && cursorId == null && size <= commentFirstPageCache.pageSize()) {
+            return CommentsPageResponse.of(commentFirstPageCache.firstPage(postId), size);
+        }
+        return CommentsPageResponse.of(
+                commentsMapper.selectCommentsPage(postId, cursorCreatedAt, cursorId, size + 1), size);
+    }
+
     /**
      * 댓글 단건 조회
      */
@@ -65,6 +93,13 @@ public class CommentsServiceImpl implements CommentsService {
         if (updated == 0) {
             throw new RuntimeException("수정할 댓글이 없습니다. 회원ID=" + memberId + ", 댓글ID=" + commentsId);
         }
+        // [261019] 첫 페이지 캐시 무효화(요청에 게시글ID가 없으면 댓글에서 확인)
+        Long postId = request.getPostId();
+        if (postId == null) {
+            CommentsResponse updatedComment = commentsMapper.selectCommentsById(commentsId);
+            postId = (updatedComment == null) ? null : updatedComment.getPostId();
+        }
+        commentFirstPageCache.invalidate(postId);
     }
 
     /**
@@ -73,9 +108,24 @@ public class CommentsServiceImpl implements CommentsService {
     @Override
     @Transactional
     public void deleteComments(Long commentsId) {
-        int deleted = commentsMapper.deleteCommentsById(commentsId);
+        // [261019] 댓글 수 차감 대상 게시글 확인
+        CommentsResponse target = commentsMapper.selectCommentsById(commentsId);
+        int deleted = (target == null) ? 0 : commentsMapper.deleteCommentsById(commentsId);
         if (deleted == 0) {
             throw new RuntimeException("삭제할 댓글이 없습니다. ID=" + commentsId);
         }
+        postMapper.addCommentCount(target.getPostId(), -1); // [261019] 댓글 수 -1
+        commentFirstPageCache.invalidate(target.getPostId());
+    }
+
+    /**
+     * [261019 신규] 회원 삭제 직전: 회원 댓글 수만큼 게시글별 댓글 수 차감 + 첫 페이지 캐시 전체 무효화(커밋 후)
+     */
+    @Override
+    @Transactional
+    public void onMemberDeleting(String memberId) {
+        if (postMapper.subtractCommentCountsByMember(memberId) > 0) {
+            commentFirstPageCache.invalidateAll();
+        }
     }
 }
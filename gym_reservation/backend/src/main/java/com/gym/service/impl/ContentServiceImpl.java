@@ -24,7 +24,7 @@ public class ContentServiceImpl implements ContentService {
 
     /**
      * 콘텐츠 등록 (PK 반환)
-     * - INSERT 성공 시 오라클 시퀀스 NEXTVAL → CURRVAL 사용
+     * - INSERT 성공 시 오라클 시퀀스 NEXTVAL → RETURNING으로 PK 회수(추가 조회 없음)
      * - 실패 시 롤백 처리되어 PK 증가하지 않음
      */
     @Override
@@ -39,7 +39,8 @@ public class ContentServiceImpl implements ContentService {
                 throw new RuntimeException("콘텐츠 등록 실패");
             }
             //return contentMapper.getLastContentId();
-            result = contentMapper.getLastContentId();
+            // result = contentMapper.getLastContentId();
+            result = request.getContentId(); // [261019변경] INSERT 시 함께 회수된 PK
         } catch (DuplicateKeyException e) {
             // 그대로 던져서 ControllerAdvice가 409로 매핑하게 한다
             throw e;
@@ -0,0 +1,166 @@
+package com.gym.service.impl;
+
+import com.gym.domain.member.Member;
+import com.gym.domain.payment.Payment;
+import com.gym.domain.payment.PaylogResponse;
+import com.gym.domain.reservation.ReservationResponse;
+import com.gym.mapper.xml.ExportMapper;
+import com.gym.service.ExportService;
+import com.gym.service.support.export.CsvExportWriter;
+import com.gym.service.support.export.ExportColumn;
+import com.gym.service.support.export.ExportWriter;
+import com.gym.service.support.export.XlsxExportWriter;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.apache.ibatis.cursor.Cursor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * [261019 신규] CMS 내보내기 서비스 구현
+ * - 커서는 트랜잭션 안에서만 열려 있으므로 읽기 전용 트랜잭션으로 감싸고 끝까지 소비
+ * - 행 객체는 기록 직후 버려짐 → 힙 사용량은 fetchSize(1000행) + 출력 버퍼 수준으로 일정
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ExportServiceImpl implements ExportService {
+
+    private final ExportMapper exportMapper;
+
+    // 예약 컬럼(CMS 목록 화면과 동일 항목)
+    private static final List<ExportColumn<ReservationResponse>> RESERVATION_COLUMNS = List.of(
+            ExportColumn.of("예약ID",   ReservationResponse::getResvId),
+            ExportColumn.of("회원ID",   ReservationResponse::getMemberId),
+            ExportColumn.of("회원명",   ReservationResponse::getMemberName),
+            ExportColumn.of("시설ID",   ReservationResponse::getFacilityId),
+            ExportColumn.of("시설명",   ReservationResponse::getFacilityName),
+            ExportColumn.of("요구사항", ReservationResponse::getResvContent),
+            ExportColumn.of("희망일",   ReservationResponse::getWantDate),
+            ExportColumn.of("신청일",   ReservationResponse::getResvDate),
+            ExportColumn.of("인원",     ReservationResponse::getResvPersonCount),
+            ExportColumn.of("상태",     ReservationResponse::getResvStatus),
+            ExportColumn.of("이용료",   ReservationResponse::getFacilityMoney),
+            ExportColumn.of("시작일시", ReservationResponse::getResvStartTime),
+            ExportColumn.of("종료일시", ReservationResponse::getResvEndTime),
+            ExportColumn.of("총금액",   ReservationResponse::getResvMoney),
+            ExportColumn.of("취소신청", ReservationResponse::getResvCancel),
+            ExportColumn.of("취소사유", ReservationResponse::getResvCancelReason));
+
+    private static final List<ExportColumn<Payment>> PAYMENT_COLUMNS = List.of(
+            ExportColumn.of("결제ID",   Payment::getPaymentId),
+            ExportColumn.of("회원ID",   Payment::getMemberId),
+            ExportColumn.of("계좌ID",   Payment::getAccountId),
+            ExportColumn.of("카드ID",   Payment::getCardId),
+            ExportColumn.of("예약ID",   Payment::getResvId),
+            ExportColumn.of("결제금액", Payment::getPaymentMoney),
+            ExportColumn.of("결제수단", Payment::getPaymentMethod),
+            ExportColumn.of("결제상태", Payment::getPaymentStatus),
+            ExportColumn.of("결제일시", Payment::getPaymentDate),
+            ExportColumn.of("할부",     Payment::getCardInstallment));
+
+    // 회원 컬럼(비밀번호 제외)
+    private static final List<ExportColumn<Member>> MEMBER_COLUMNS = List.of(
+            ExportColumn.of("회원ID",   Member::getMemberId),
+            ExportColumn.of("이름",     Member::getMemberName),
+            ExportColumn.of("성별",     Member::getMemberGender),
+            ExportColumn.of("이메일",   Member::getMemberEmail),
+            ExportColumn.of("휴대폰",   Member::getMemberMobile),
+            ExportColumn.of("전화",     Member::getMemberPhone),
+            ExportColumn.of("우편번호", Member::getZip),
+            ExportColumn.of("도로명주소", Member::getRoadAddress),
+            ExportColumn.of("지번주소", Member::getJibunAddress),
+            ExportColumn.of("상세주소", Member::getDetailAddress),
+            ExportColumn.of("생년월일", Member::getMemberBirthday),
+            ExportColumn.of("결제수단", Member::getMemberManipay),
+            ExportColumn.of("가입일",   Member::getMemberJoindate),
+            ExportColumn.of("권한",     Member::getMemberRole),
+            ExportColumn.of("관리자유형", Member::getAdminType));
+
+    private static final List<ExportColumn<PaylogResponse>> PAYLOG_COLUMNS = List.of(
+            ExportColumn.of("로그ID",   PaylogResponse::getPaylogId),
+            ExportColumn.of("결제ID",   PaylogResponse::getPaymentId),
+            ExportColumn.of("금액",     PaylogResponse::getPaylogMoney),
+            ExportColumn.of("방식",     PaylogResponse::getPaylogMethod),
+            ExportColumn.of("처리자",   PaylogResponse::getPaylogManager),
+            ExportColumn.of("메모",     PaylogResponse::getPaylogMemo),
+            ExportColumn.of("변경전",   PaylogResponse::getBeforeStatus),
+            ExportColumn.of("변경후",   PaylogResponse::getAfterStatus),
+            ExportColumn.of("일시",     PaylogResponse::getPaylogDate),
+            ExportColumn.of("할부",     PaylogResponse::getCardInstallment));
+
+    @Override
+    @Transactional(readOnly = true)
+    public long exportReservations(String format, Long facilityId, String memberId, OutputStream out) throws IOException {
+        try (Cursor<ReservationResponse> cursor = exportMapper.cursorReservations(facilityId, memberId)) {
+            return write("reservations", cursor, RESERVATION_COLUMNS, writerFor(format, out));
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long exportPayments(String format, String memberId, String paymentStatus, OutputStream out) throws IOException {
+        try (Cursor<Payment> cursor = exportMapper.cursorPayments(memberId, paymentStatus)) {
+            return write("payments", cursor, PAYMENT_COLUMNS, writerFor(format, out));
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long exportMembers(String format, String keyword, String role, OutputStream out) throws IOException {
+        try (Cursor<Member> cursor = exportMapper.cursorMembers(keyword, role)) {
+            return write("members", cursor, MEMBER_COLUMNS, writerFor(format, out));
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long exportPaylogs(String format, LocalDate fromDate, LocalDate toDate, OutputStream out) throws IOException {
+        if (fromDate != null && toDate != null && fromDate.isAfter(toDate)) {
+            throw new IllegalArgumentException("조회 기간 오류: 시작일이 종료일보다 늦습니다.");
+        }
+        try (Cursor<PaylogResponse> cursor = exportMapper.cursorPaylogs(fromDate, toDate)) {
+            return write("paylogs", cursor, PAYLOG_COLUMNS, writerFor(format, out));
+        }
+    }
+
+    /* ============================== 내부 유틸 ============================== */
+
+    private static ExportWriter writerFor(String format, OutputStream out) throws IOException {
+        if ("csv".equalsIgnoreCase(format)) return new CsvExportWriter(out);
+        if ("xlsx".equalsIgnoreCase(format)) return new XlsxExportWriter(out);
+        throw new IllegalArgumentException("지원하지 않는 형식입니다. (csv/xlsx)");
+    }
+
+    private static <T> long write(String target, Cursor<T> cursor, List<ExportColumn<T>> columns,
+                                  ExportWriter writer) throws IOException {
+        long started = System.currentTimeMillis();
+
+        List<String> headers = new ArrayList<>(columns.size());
+        columns.forEach(c -> headers.add(c.header()));
+        writer.header(headers);
+
+        long rows = 0;
+        List<Object> values = new ArrayList<>(columns.size()); // 행마다 재사용
+        for (T item : cursor) {
+            values.clear();
+            for (ExportColumn<T> c : columns) {
+                values.add(c.value().apply(item));
+            }
+            writer.row(values);
+            rows++;
+        }
+        writer.finish();
+
+        log.info("[export] {} {}건 - {}ms", target, rows, System.currentTimeMillis() - started);
+        return rows;
+    }
+}
@@ -62,13 +62,13 @@ public class FacilityServiceImpl implements FacilityService {
                 .facilityType(req.getFacilityType())                 // 시설종류(스펙 값 사용)
                 .build();
 
-        // [5] INSERT 수행: 시퀀스(NEXTVAL)로 PK 생성, @SelectKey로 방금 PK(CURRVAL) 주입
+        // [5] INSERT 수행: 시퀀스(NEXTVAL)로 PK 생성, RETURNING(getGeneratedKeys)으로 PK 주입
         int affected = facilityMapper.insertFacility(f);
 
         // [6] 영향 행수 검증: 1건이 아니면 예외(트랜잭션 롤백)
         if (affected != 1) throw new RuntimeException("INSERT failed");
 
-        // [7] PK 반환: mapper의 @SelectKey가 f.facilityId 에 CURRVAL 주입 완료
+        // [7] PK 반환: mapper의 @Options(useGeneratedKeys)가 f.facilityId 주입 완료
         return f.getFacilityId();
     }
 
@@ -62,7 +62,7 @@ public class FileServiceImpl implements FileService {
     @Override
     public List<FileResponse> listFiles(FileRequest req) {
     	//[250923추가]
-    	log.info("listFiles:{}", req );
+    	log.debug("listFiles:{}", req );
         return fileQueryMapper.selectFiles(req);
     }
 }
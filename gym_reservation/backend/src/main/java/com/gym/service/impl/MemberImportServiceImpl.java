@@ -0,0 +1,383 @@
+package com.gym.service.impl;
+
+import com.gym.common.TransactionHooks;
+import com.gym.domain.member.Member;
+import com.gym.domain.member.MemberImportJob;
+import com.gym.mapper.annotation.MemberMapper;
+import com.gym.mapper.xml.MemberQueryMapper;
+import com.gym.security.UnknownMemberCache;
+import com.gym.service.MemberImportService;
+import com.gym.service.support.CsvReader;
+import com.gym.service.support.MemberIdRegistry;
+import com.gym.service.support.MemberSearchIndex;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+
+/**
+ * [261019 신규] 회원 일괄 등록(CSV) 구현
+ * - 읽기: 임시 파일을 CsvReader로 한 행씩 → 청크(chunk-size, 최대 1000)만 메모리에 보관
+ * - 검증: 행 단위 필수값/형식(CMS 단건 등록과 동일 규칙) → 파일 안 중복 ID → 청크당 IN 조회 1회로 기존 ID 제외
+ * - 암호화: 전용 풀(hash-threads)에서 BCrypt 병렬 처리(로그인 검증 풀과 분리), 이미 BCrypt 해시면 그대로
+ * - 등록: MyBatis BATCH 실행기로 청크당 트랜잭션 1개, 실패 청크는 행 단위로 다시 넣어 원인 행만 오류 처리
+ * - 작업은 한 번에 1개만 실행(대기 max-queued개), 완료 작업은 최근 20개까지 조회 가능
+ */
+@Slf4j
+@Service
+public class MemberImportServiceImpl implements MemberImportService {
+
+    private static final int MAX_CHUNK = 1000;   // Oracle IN 목록 한도
+    private static final int KEEP_JOBS = 20;
+    private static final Pattern BCRYPT = Pattern.compile("^\\$2[aby]\\$\\d{2}\\$[./A-Za-z0-9]{53}$");
+
+    // 머리글 → 필드(영문 필드명 또는 CMS 내보내기 머리글)
+    private static final Map<String, String> HEADERS = Map.ofEntries(
+            Map.entry("memberid", "memberId"),         Map.entry("회원id", "memberId"),
+            Map.entry("memberpw", "memberPw"),         Map.entry("비밀번호", "memberPw"),
+            Map.entry("membername", "memberName"),     Map.entry("이름", "memberName"),
+            Map.entry("membergender", "memberGender"), Map.entry("성별", "memberGender"),
+            Map.entry("memberemail", "memberEmail"),   Map.entry("이메일", "memberEmail"),
+            Map.entry("membermobile", "memberMobile"), Map.entry("휴대폰", "memberMobile"),
+            Map.entry("memberphone", "memberPhone"),   Map.entry("전화", "memberPhone"),
+            Map.entry("zip", "zip"),                   Map.entry("우편번호", "zip"),
+            Map.entry("roadaddress", "roadAddress"),   Map.entry("도로명주소", "roadAddress"),
+            Map.entry("jibunaddress", "jibunAddress"), Map.entry("지번주소", "jibunAddress"),
+            Map.entry("detailaddress", "detailAddress"), Map.entry("상세주소", "detailAddress"),
+            Map.entry("memberbirthday", "memberBirthday"), Map.entry("생년월일", "memberBirthday"),
+            Map.entry("membermanipay", "memberManipay"),   Map.entry("결제수단", "memberManipay"),
+            Map.entry("memberrole", "memberRole"),     Map.entry("권한", "memberRole"),
+            Map.entry("admintype", "adminType"),       Map.entry("관리자유형", "adminType"));
+
+    private static final List<String> REQUIRED = List.of(
+            "memberId", "memberPw", "memberName", "memberGender", "memberEmail", "memberMobile", "memberBirthday");
+
+    private final MemberQueryMapper memberQueryMapper;
+    private final SqlSessionTemplate batchSession;
+    private final TransactionTemplate tx;
+    private final PasswordEncoder passwordEncoder;
+    private final UnknownMemberCache unknownMemberCache;
+    private final MemberIdRegistry memberIdRegistry;
+    private final MemberSearchIndex memberSearchIndex;
+    private final int defaultChunkSize;
+    private final ThreadPoolExecutor hashPool;
+    private final ThreadPoolExecutor jobRunner;
+
+    private final Map<String, MemberImportJob> jobs = new LinkedHashMap<>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, MemberImportJob> eldest) {
+            return size() > KEEP_JOBS && eldest.getValue().isFinished();
+        }
+    };
+
+    public MemberImportServiceImpl(MemberQueryMapper memberQueryMapper,
+                                   SqlSessionFactory sqlSessionFactory,
+                                   PlatformTransactionManager transactionManager,
+                                   PasswordEncoder passwordEncoder,
+                                   UnknownMemberCache unknownMemberCache,
+                                   MemberIdRegistry memberIdRegistry,
+                                   MemberSearchIndex memberSearchIndex,
+                                   @Value("${gym.member-import.chunk-size:500}") int defaultChunkSize,
+                                   @Value("${gym.member-import.hash-threads:0}") int hashThreads,
+                                   @Value("${gym.member-import.max-queued:2}") int maxQueued) {
+        this.memberQueryMapper = memberQueryMapper;
+        this.batchSession = new SqlSessionTemplate(sqlSessionFactory, ExecutorType.BATCH);
+        this.tx = new TransactionTemplate(transactionManager);
+        this.passwordEncoder = passwordEncoder;
+        this.unknownMemberCache = unknownMemberCache;
+        this.memberIdRegistry = memberIdRegistry;
+        this.memberSearchIndex = memberSearchIndex;
+        this.defaultChunkSize = Math.min(Math.max(1, defaultChunkSize), MAX_CHUNK);
+
+        int n = hashThreads > 0 ? hashThreads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        AtomicInteger seq = new AtomicInteger();
+        this.hashPool = new ThreadPoolExecutor(n, n, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(MAX_CHUNK),
+                r -> daemon(r, "member-import-hash-" + seq.incrementAndGet()),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        this.jobRunner = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, maxQueued)),
+                r -> daemon(r, "member-import"),
+                new ThreadPoolExecutor.AbortPolicy());
+        log.info("[member-import] hash threads={}, chunk={}", n, this.defaultChunkSize);
+    }
+
+    @Override
+    public MemberImportJob start(InputStream csv, String fileName, Integer chunkSize) throws IOException {
+        int chunk = chunkSize == null ? defaultChunkSize : Math.min(Math.max(1, chunkSize), MAX_CHUNK);
+        Path tmp = Files.createTempFile("member-import-", ".csv");
+        try {
+            Files.copy(csv, tmp, StandardCopyOption.REPLACE_EXISTING); // 업로드 → 디스크(메모리에 올리지 않음)
+        } catch (IOException e) {
+            Files.deleteIfExists(tmp);
+            throw e;
+        }
+
+        MemberImportJob job = new MemberImportJob(UUID.randomUUID().toString(), fileName);
+        try {
+            jobRunner.execute(() -> run(job, tmp, chunk));
+        } catch (RejectedExecutionException e) {
+            Files.deleteIfExists(tmp);
+            throw new IllegalStateException("진행 중인 일괄 등록 작업이 많습니다. 잠시 후 다시 시도하세요.");
+        }
+        synchronized (jobs) {
+            jobs.put(job.getJobId(), job);
+        }
+        log.info("[member-import] 작업 등록 - jobId: {}, file: {}, chunk: {}", job.getJobId(), fileName, chunk);
+        return job;
+    }
+
+    @Override
+    public MemberImportJob get(String jobId) {
+        synchronized (jobs) {
+            return jobs.get(jobId);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        jobRunner.shutdownNow();
+        hashPool.shutdownNow();
+    }
+
+    /* ============================== 작업 실행 ============================== */
+
+    private record Row(long rowNo, Member member, String rawPw) {}
+
+    private void run(MemberImportJob job, Path file, int chunkSize) {
+        job.start();
+        try (CsvReader csv = new CsvReader(Files.newBufferedReader(file, StandardCharsets.UTF_8))) {
+            List<String> header = csv.next();
+            if (header == null) {
+                job.fail("빈 파일입니다.");
+                return;
+            }
+            Map<String, Integer> columns = columns(header);
+
+            Set<String> seen = new HashSet<>(); // 파일 안 중복 ID(ID 문자열만 보관)
+            List<Row> chunk = new ArrayList<>(chunkSize);
+            List<String> cells;
+            while ((cells = csv.next()) != null) {
+                job.getRowsRead().incrementAndGet();
+                Row row;
+                try {
+                    row = parse(csv.record(), cells, columns);
+                } catch (IllegalArgumentException e) {
+                    job.error(csv.record(), cell(cells, columns, "memberId"), e.getMessage());
+                    continue;
+                }
+                if (!seen.add(row.member().getMemberId())) {
+                    job.error(row.rowNo(), row.member().getMemberId(), "파일 안에서 중복된 회원ID");
+                    continue;
+                }
+                chunk.add(row);
+                if (chunk.size() >= chunkSize) {
+                    processChunk(job, chunk);
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) processChunk(job, chunk);
+
+            job.finish("완료: 등록 " + job.getInserted().get() + "건, 오류 " + job.getFailed().get() + "건");
+        } catch (IllegalArgumentException e) {
+            job.fail(e.getMessage());
+        } catch (Exception e) {
+            log.error("[member-import] 작업 실패 - jobId: {}", job.getJobId(), e);
+            job.fail("처리 중 오류: " + e.getMessage());
+        } finally {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                log.warn("[member-import] 임시 파일 삭제 실패 - {}", file);
+            }
+            if (job.getInserted().get() > 0) memberIdRegistry.notifyPeersAll(); // 다른 노드 인덱스는 한 번에 재구성
+            log.info("[member-import] 작업 종료 - jobId: {}, status: {}, read: {}, inserted: {}, failed: {}",
+                     job.getJobId(), job.getStatus(), job.getRowsRead().get(), job.getInserted().get(), job.getFailed().get());
+        }
+    }
+
+    private void processChunk(MemberImportJob job, List<Row> chunk) throws InterruptedException {
+        // 1) 기존 회원ID 제외(청크당 조회 1회)
+        Set<String> existing = new HashSet<>(memberQueryMapper.selectExistingIds(
+                chunk.stream().map(r -> r.member().getMemberId()).toList()));
+        List<Row> fresh = new ArrayList<>(chunk.size());
+        for (Row r : chunk) {
+            if (existing.contains(r.member().getMemberId())) job.error(r.rowNo(), r.member().getMemberId(), "이미 존재하는 회원ID");
+            else fresh.add(r);
+        }
+        if (fresh.isEmpty()) return;
+
+        // 2) 비밀번호 해시(전용 풀 병렬, 큐가 차면 이 스레드가 직접 처리)
+        List<Future<String>> hashes = new ArrayList<>(fresh.size());
+        for (Row r : fresh) hashes.add(hashPool.submit(() -> encode(r.rawPw())));
+        for (int i = 0; i < fresh.size(); i++) {
+            try {
+                fresh.get(i).member().setMemberPw(hashes.get(i).get());
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("password hashing failed", e.getCause());
+            }
+        }
+
+        // 3) 배치 INSERT, 실패하면 행 단위로 다시 넣어 원인 행 특정
+        try {
+            insertBatch(fresh);
+            job.getInserted().addAndGet(fresh.size());
+        } catch (DataAccessException e) {
+            log.debug("[member-import] 청크 실패 → 행 단위 재시도({}건): {}", fresh.size(), e.getMessage());
+            for (Row r : fresh) {
+                try {
+                    insertBatch(List.of(r));
+                    job.getInserted().incrementAndGet();
+                } catch (DataAccessException ex) {
+                    job.error(r.rowNo(), r.member().getMemberId(), reason(ex));
+                }
+            }
+        }
+    }
+
+    // 청크 1개 = 트랜잭션 1개(BATCH 실행기: 커밋 전 flush로 오류를 이 자리에서 확인)
+    private void insertBatch(List<Row> rows) {
+        tx.executeWithoutResult(status -> {
+            MemberMapper mapper = batchSession.getMapper(MemberMapper.class);
+            for (Row r : rows) mapper.insert(r.member());
+            batchSession.flushStatements();
+            List<String> ids = new ArrayList<>(rows.size());
+            for (Row r : rows) {
+                String id = r.member().getMemberId();
+                ids.add(id);
+                memberIdRegistry.onImported(id);        // 존재 인덱스(전파는 작업 끝에 한 번)
+                memberSearchIndex.onSaved(r.member());  // 검색 인덱스(커밋 후)
+            }
+            // [261019변경] 로그인 '회원 없음' 캐시는 커밋 후 제거(다른 노드는 "member-id:*" 수신 시 전체 비움)
+            TransactionHooks.afterCommit(() -> ids.forEach(unknownMemberCache::forget));
+        });
+    }
+
+    private String encode(String raw) {
+        return BCRYPT.matcher(raw).matches() ? raw : passwordEncoder.encode(raw);
+    }
+
+    /* ============================== 행 해석/검증 ============================== */
+
+    private static Map<String, Integer> columns(List<String> header) {
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            String field = HEADERS.get(header.get(i).trim().toLowerCase().replace(" ", ""));
+            if (field != null) columns.putIfAbsent(field, i);
+        }
+        List<String> missing = REQUIRED.stream().filter(f -> !columns.containsKey(f)).toList();
+        if (!missing.isEmpty()) {
+            throw new IllegalArgumentException("필수 열 없음: " + String.join(", ", missing));
+        }
+        return columns;
+    }
+
+    private static String cell(List<String> cells, Map<String, Integer> columns, String field) {
+        Integer i = columns.get(field);
+        if (i == null || i >= cells.size()) return null;
+        String v = cells.get(i);
+        return (v == null || v.isBlank()) ? null : v.trim();
+    }
+
+    // CMS 단건 등록(CmsMemberController.createMemberCms) + MemberServiceImpl.createMember 와 같은 규칙
+    private static Row parse(long rowNo, List<String> cells, Map<String, Integer> columns) {
+        for (String f : REQUIRED) {
+            if (cell(cells, columns, f) == null) throw new IllegalArgumentException(f + " 값 없음");
+        }
+        String gender = cell(cells, columns, "memberGender").toLowerCase();
+        if (!gender.equals("m") && !gender.equals("f")) {
+            throw new IllegalArgumentException("memberGender는 'm' 또는 'f'만 허용");
+        }
+        LocalDate birthday;
+        try {
+            birthday = LocalDate.parse(cell(cells, columns, "memberBirthday"), DateTimeFormatter.ISO_DATE);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("memberBirthday는 YYYY-MM-DD 형식이어야 합니다.");
+        }
+        String zip = cell(cells, columns, "zip");
+        if (zip != null && zip.length() > 5) {
+            throw new IllegalArgumentException("우편번호는 최대 5자리까지 입력 가능합니다.");
+        }
+        String role = cell(cells, columns, "memberRole");
+        if (role == null) role = "user";
+        if (!"user".equals(role) && !"admin".equals(role)) {
+            throw new IllegalArgumentException("memberRole은 'user' 또는 'admin'만 허용됩니다.");
+        }
+        String adminType = cell(cells, columns, "adminType");
+        if (adminType != null && !("책임자".equals(adminType) || "관리자".equals(adminType) || "강사".equals(adminType))) {
+            throw new IllegalArgumentException("adminType은 책임자/관리자/강사 중 하나여야 합니다.");
+        }
+        String manipay = cell(cells, columns, "memberManipay");
+
+        Member m = Member.builder()
+                .memberId(cell(cells, columns, "memberId"))
+                .memberName(cell(cells, columns, "memberName"))
+                .memberGender(gender)
+                .memberEmail(cell(cells, columns, "memberEmail"))
+                .memberMobile(cell(cells, columns, "memberMobile"))
+                .memberBirthday(birthday)
+                // null 허용 컬럼은 빈 문자열(MemberServiceImpl.createMember와 동일)
+                .memberPhone(orEmpty(cell(cells, columns, "memberPhone")))
+                .zip(orEmpty(zip))
+                .roadAddress(orEmpty(cell(cells, columns, "roadAddress")))
+                .jibunAddress(orEmpty(cell(cells, columns, "jibunAddress")))
+                .detailAddress(orEmpty(cell(cells, columns, "detailAddress")))
+                .memberManipay(manipay == null ? "account" : manipay)
+                .memberRole(role)
+                .adminType(adminType)
+                .build();
+        return new Row(rowNo, m, cell(cells, columns, "memberPw"));
+    }
+
+    private static String orEmpty(String s) {
+        return s == null ? "" : s;
+    }
+
+    private static String reason(DataAccessException e) {
+        if (e instanceof DuplicateKeyException) return "중복(회원ID/이메일/휴대폰)";
+        Throwable cause = e.getMostSpecificCause();
+        return "등록 실패: " + (cause != null ? cause.getMessage() : e.getMessage());
+    }
+
+    private static Thread daemon(Runnable r, String name) {
+        Thread t = new Thread(r, name);
+        t.setDaemon(true);
+        return t;
+    }
+}
@@ -1,9 +1,15 @@
 package com.gym.service.impl;                                      // 📦 서비스 구현
 
+import com.gym.common.TransactionHooks;
 import com.gym.domain.member.Member;
 import com.gym.mapper.annotation.MemberMapper;
 import com.gym.mapper.xml.MemberQueryMapper;
+import com.gym.security.UnknownMemberCache;
+import com.gym.service.CommentsService;
 import com.gym.service.MemberService;
+import com.gym.service.support.MemberIdRegistry;
+import com.gym.service.support.MemberInstrumentCache;
+import com.gym.service.support.MemberSearchIndex;
 
 import lombok.extern.log4j.Log4j2;
 
@@ -11,7 +17,11 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * 회원 서비스 구현
@@ -24,10 +34,25 @@ public class MemberServiceImpl implements MemberService {
 
     private final MemberMapper memberMapper;
     private final MemberQueryMapper memberQueryMapper;
-
-    public MemberServiceImpl(MemberMapper memberMapper, MemberQueryMapper memberQueryMapper) {
+    private final UnknownMemberCache unknownMemberCache; // [261019] 로그인 '회원 없음' 캐시(가입 시 제거)
+    private final MemberIdRegistry memberIdRegistry;     // [261019] 회원ID 존재 인덱스(가입/삭제 시 갱신)
+    private final MemberSearchIndex memberSearchIndex;   // [261019] CMS 회원 검색 인덱스(가입/수정/삭제 시 갱신)
+    private final MemberInstrumentCache memberInstrumentCache; // [261019] 회원별 카드/계좌 캐시(삭제 시 제거)
+    private final CommentsService commentsService;             // [261019] 회원 삭제 시 게시글 댓글 수 차감
+
+    private static final int IN_LIST_MAX = 1000; // [261019] PK IN 조회 1회당 ID 수(Oracle IN 목록 한도)
+
+    public MemberServiceImpl(MemberMapper memberMapper, MemberQueryMapper memberQueryMapper,
+                             UnknownMemberCache unknownMemberCache, MemberIdRegistry memberIdRegistry,
+                             MemberSearchIndex memberSearchIndex, MemberInstrumentCache memberInstrumentCache,
+                             CommentsService commentsService) {
         this.memberMapper = memberMapper;
         this.memberQueryMapper = memberQueryMapper;
+        this.unknownMemberCache = unknownMemberCache;
+        this.memberIdRegistry = memberIdRegistry;
+        this.memberSearchIndex = memberSearchIndex;
+        this.memberInstrumentCache = memberInstrumentCache;
+        this.commentsService = commentsService;
     }
 
     // 🔎 단건 조회
@@ -75,13 +100,20 @@ public class MemberServiceImpl implements MemberService {
         member.setDetailAddress(tempDetailAddress);
         
         
-        log.info("회원등록 서비스:{}", member);
+        log.debug("회원등록 서비스:{}", member);
         // ---------------------- 250930 ---------------------- 
         
         
         // INSERT
         try {
-            return memberMapper.insert(member);
+            int rows = memberMapper.insert(member);
+            // unknownMemberCache.forget(member.getMemberId()); // [261019] 가입 직후 로그인 가능
+            // [261019변경] 커밋 후 제거(커밋 전 로그인 시도가 '없음'을 다시 기록하지 않도록), 다른 노드는 "member-id:{id}" 수신 시 제거
+            String createdId = member.getMemberId();
+            TransactionHooks.afterCommit(() -> unknownMemberCache.forget(createdId));
+            memberIdRegistry.onCreated(member.getMemberId()); // [261019]
+            memberSearchIndex.onSaved(member);                // [261019]
+            return rows;
         } catch (org.springframework.dao.DuplicateKeyException e) {
             throw new RuntimeException("CONFLICT: PK/이메일/휴대폰 중복");
         } catch (org.springframework.dao.DataIntegrityViolationException e) {
@@ -134,6 +166,8 @@ public class MemberServiceImpl implements MemberService {
 
         int affected = memberMapper.update(target);
         if (affected == 0) throw new RuntimeException("NOT_FOUND: member " + memberId);
+        memberSearchIndex.onSaved(target);       // [261019] 이름/이메일/휴대폰/권한 변경 반영
+        memberIdRegistry.notifyPeers(memberId);  // [261019] 다른 노드 검색 인덱스 갱신
         return affected;
     }
 
@@ -141,8 +175,12 @@ public class MemberServiceImpl implements MemberService {
     @Override
     @Transactional(rollbackFor = Exception.class)
     public int deleteMember(String memberId) {
+        commentsService.onMemberDeleting(memberId); // [261019] 연쇄 삭제될 댓글 수만큼 게시글 댓글 수 차감
         int affected = memberMapper.delete(memberId);
         if (affected == 0) throw new RuntimeException("NOT_FOUND: member " + memberId);
+        memberIdRegistry.onDeleted(memberId); // [261019] 커밋 후 인덱스에서 제거
+        memberSearchIndex.onDeleted(memberId);
+        memberInstrumentCache.onMemberDeleted(memberId); // [261019] 트리거로 함께 삭제된 카드/계좌
         return affected;
     }
 
@@ -150,13 +188,43 @@ public class MemberServiceImpl implements MemberService {
     @Override
     @Transactional(readOnly = true)
     public List<Member> listMembers(Integer page, Integer size, String keyword, String role) {
+        // [261019변경] 검색 인덱스가 순위/페이징까지 처리 → DB는 해당 회원만 PK 조회
+        //  - 일치 판정은 countMembers와 같은 경로: 인덱스 적재 시 목록/건수 모두 인덱스, 미적재 시 모두 LIKE 쿼리
+        //    (인덱스는 휴대폰 포함 + 대소문자 무시라 LIKE와 결과가 다름 → 섞으면 총 건수와 목록 불일치)
+        //  - 전체조회(page/size 없음)·큰 페이지도 인덱스 경로, PK 조회만 IN 목록 한도로 나눠서 실행
+        if (memberSearchIndex.isReady()) {
+            List<String> ids;
+            if (page != null && size != null) {
+                ids = memberSearchIndex.search(keyword, role, Math.max(1, page), Math.max(1, size)).memberIds();
+            } else {
+                long total = memberSearchIndex.search(keyword, role, 1, 0).total();
+                ids = memberSearchIndex.search(keyword, role, 1, (int) total).memberIds();
+            }
+            return selectMembersInOrder(ids);
+        }
         return memberQueryMapper.selectMembers(page, size, keyword, role);
     }
 
+    // [261019] 인덱스 순위 순서대로 회원 행 조회(IN 목록 한도 단위로 나눠 조회)
+    private List<Member> selectMembersInOrder(List<String> ids) {
+        if (ids.isEmpty()) return List.of();
+        Map<String, Integer> order = new HashMap<>();
+        for (int i = 0; i < ids.size(); i++) order.put(ids.get(i), i);
+        List<Member> rows = new ArrayList<>(ids.size());
+        for (int from = 0; from < ids.size(); from += IN_LIST_MAX) {
+            rows.addAll(memberQueryMapper.selectMembersByIds(ids.subList(from, Math.min(from + IN_LIST_MAX, ids.size()))));
+        }
+        rows.sort(Comparator.comparingInt(m -> order.get(m.getMemberId())));
+        return rows;
+    }
+
     // 🔢 총 개수
     @Override
     @Transactional(readOnly = true)
     public long countMembers(String keyword, String role) {
+        if (memberSearchIndex.isReady()) { // [261019] 인덱스 건수(COUNT(*) LIKE 스캔 생략, listMembers와 같은 판정)
+            return memberSearchIndex.search(keyword, role, 1, 0).total();
+        }
         return memberQueryMapper.countMembers(keyword, role); // MemberQueryMapper랑 연동되어 있음
     }
     
@@ -165,8 +233,11 @@ public class MemberServiceImpl implements MemberService {
     public boolean existsById(String memberId) {
         log.info("[existsById] 중복확인 요청 memberId={}", memberId);
 
-        Member member = memberMapper.selectMemberById(memberId);
-        boolean exists = (member != null);
+        // [261019변경] 회원 전체 행 조회 → 메모리 인덱스(판정 불가 시에만 존재 확인 쿼리)
+        //  - 다른 노드 가입 직후 등 '사용 가능' 오판이 나도 INSERT의 PK 제약이 CONFLICT로 막음
+        // Member member = memberMapper.selectMemberById(memberId);
+        // boolean exists = (member != null);
+        boolean exists = memberIdRegistry.exists(memberId, memberMapper::existsMemberById);
 
         log.info("[existsById] 결과: {}", exists ? "존재함" : "사용 가능");
         return exists;
@@ -0,0 +1,127 @@
+package com.gym.service.impl;
+
+import com.gym.domain.account.AccountResponse;
+import com.gym.domain.card.CardResponse;
+import com.gym.domain.member.MemberResponse;
+import com.gym.domain.member.MyOverviewResponse;
+import com.gym.domain.member.MyOverviewResponse.Section;
+import com.gym.domain.payment.PaymentResponse;
+import com.gym.domain.payment.PaymentSearchRequest;
+import com.gym.domain.reservation.ReservationResponse;
+import com.gym.domain.reservation.ReservationSearchRequest;
+import com.gym.service.AccountService;
+import com.gym.service.CardService;
+import com.gym.service.MemberService;
+import com.gym.service.MyOverviewService;
+import com.gym.service.PaymentService;
+import com.gym.service.ReservationService;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * [261019 신규] 마이페이지 요약 구현
+ * - 구역별 조회를 overviewExecutor에서 동시에 실행 → 응답 시간 ≈ 가장 느린 구역 1개
+ * - 전체 대기 상한(gym.overview.timeout-ms): 넘긴 구역은 취소하고 errors에 기록
+ * - 예약/결제는 SQL에서 limit+1건만 조회(FETCH FIRST), 카드/계좌는 회원당 몇 건 수준이라 조회 후 자름
+ * - 구역 간 트랜잭션은 묶지 않음(각 서비스의 기존 조회 트랜잭션 그대로)
+ */
+@Slf4j
+@Service
+public class MyOverviewServiceImpl implements MyOverviewService {
+
+    private final MemberService memberService;
+    private final ReservationService reservationService;
+    private final PaymentService paymentService;
+    private final CardService cardService;
+    private final AccountService accountService;
+    private final Executor executor;
+    private final long timeoutMs;
+
+    public MyOverviewServiceImpl(MemberService memberService,
+                                 ReservationService reservationService,
+                                 PaymentService paymentService,
+                                 CardService cardService,
+                                 AccountService accountService,
+                                 @Qualifier("overviewExecutor") Executor executor,
+                                 @Value("${gym.overview.timeout-ms:3000}") long timeoutMs) {
+        this.memberService = memberService;
+        this.reservationService = reservationService;
+        this.paymentService = paymentService;
+        this.cardService = cardService;
+        this.accountService = accountService;
+        this.executor = executor;
+        this.timeoutMs = timeoutMs;
+    }
+
+    @Override
+    public MyOverviewResponse overview(String memberId, Set<String> fields, int limit) {
+        Set<String> want = (fields == null || fields.isEmpty()) ? SECTIONS : fields;
+
+        // 1) 요청한 구역 동시 시작
+        CompletableFuture<MemberResponse> member = want.contains("member")
+                ? submit(() -> MemberResponse.from(memberService.getMemberById(memberId))) : null;
+        CompletableFuture<Section<ReservationResponse>> reservations = want.contains("reservations")
+                ? submit(() -> Section.of(reservationService.listReservations(ReservationSearchRequest.builder()
+                        .memberId(memberId).limit(limit + 1).build()), limit)) : null;
+        CompletableFuture<Section<PaymentResponse>> payments = want.contains("payments")
+                ? submit(() -> Section.of(paymentService.findList(PaymentSearchRequest.builder()
+                        .memberId(memberId).limit(limit + 1).build()), limit)) : null;
+        CompletableFuture<Section<CardResponse>> cards = want.contains("cards")
+                ? submit(() -> Section.of(cardService.listCardsByMember(memberId), limit)) : null;
+        CompletableFuture<Section<AccountResponse>> accounts = want.contains("accounts")
+                ? submit(() -> Section.of(accountService.listAccountsByMember(memberId), limit)) : null;
+
+        // 2) 공통 마감 시각까지 수거
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+        Map<String, String> errors = new LinkedHashMap<>();
+        MyOverviewResponse response = MyOverviewResponse.builder()
+                .member(await("member", member, deadline, errors))
+                .reservations(await("reservations", reservations, deadline, errors))
+                .payments(await("payments", payments, deadline, errors))
+                .cards(await("cards", cards, deadline, errors))
+                .accounts(await("accounts", accounts, deadline, errors))
+                .errors(errors.isEmpty() ? null : errors)
+                .build();
+        if (!errors.isEmpty()) {
+            log.warn("[overview] 일부 구역 실패 - memberId: {}, errors: {}", memberId, errors);
+        }
+        return response;
+    }
+
+    private <T> CompletableFuture<T> submit(Supplier<T> task) {
+        return CompletableFuture.supplyAsync(task, executor);
+    }
+
+    private static <T> T await(String section, CompletableFuture<T> future, long deadline, Map<String, String> errors) {
+        if (future == null) return null;
+        try {
+            return future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            errors.put(section, "시간 초과");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            log.debug("[overview] {} 조회 실패", section, cause);
+            errors.put(section, cause.getMessage() != null ? cause.getMessage() : "조회 실패");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            errors.put(section, "중단됨");
+        }
+        return null;
+    }
+}
@@ -19,6 +19,12 @@ import org.springframework.jdbc.core.JdbcTemplate; // 예약/결제 보조 조
 //[250925추가] 문자 전송
 import com.gym.service.MessageService; // 기존 서비스 인터페이스 사용
 import com.gym.domain.message.Message; // 메시지 엔티티(이력/전송용)
+//[261019추가] 취소 전 예약 행 잠금/조회
+import com.gym.domain.reservation.Reservation;
+//[261019추가] 취소 시 대기자 자동 승격
+import com.gym.service.WaitlistService;
+//[261019추가] 공유 시설 점유 인덱스
+import com.gym.service.support.ReservationCapacityIndex;
 
 
 
@@ -31,11 +37,13 @@ public class PaymentServiceImpl implements PaymentService {
 	private final PaymentMapper paymentMapper;
 	private final JdbcTemplate jdbcTemplate; // [250925추가] 보조 SQL
     private final MessageService messageService; // [250925추가] 문자 서비스
+    private final WaitlistService waitlistService; // [261019추가] 대기열 승격 훅
+    private final ReservationCapacityIndex capacityIndex; // [261019추가] 공유 시설 점유 반영
 	/**
      * 결제 등록
      * - paymentMethod 미입력 시 accountId/cardId로 자동 유추
      * - paymentStatus 미입력 시 '예약' 기본값 적용
-     * - INSERT 성공 시 같은 세션에서 CURRVAL 회수
+     * - INSERT 성공 시 같은 PL/SQL 블록에서 PK 회수(OUT 파라미터, 추가 왕복 없음)
      */
 	@Override
     @Transactional(rollbackFor = Exception.class)
@@ -82,16 +90,17 @@ public class PaymentServiceImpl implements PaymentService {
                 .cardInstallment(req.getCardInstallment())   // ⚠️ [251004 추가] 카드 할부개월 매핑
                 .build();
 
-        // [4] INSERT 실행 (조건 불일치 시 0 반환)
-        int rows = paymentMapper.insertPayment(p);
-        if (rows != 1) {
+        // [4] INSERT 실행 (조건 불일치 시 paymentId 미세팅)
+        // [261019변경] CALLABLE 블록 → 영향행수 대신 OUT 파라미터(paymentId)로 성공 판단
+        paymentMapper.insertPayment(p);
+        if (p.getPaymentId() == null) {
             throw new IllegalArgumentException("결제 등록 실패: 잘못된 값 또는 존재하지 않는 참조");
         }
 
-        // [5] 같은 세션에서 CURRVAL 회수
-        Long id = paymentMapper.getPaymentSeqCurrval();
-        p.setPaymentId(id);
-        return id;
+        // [5] PK는 INSERT와 같은 호출에서 회수됨
+        // Long id = paymentMapper.getPaymentSeqCurrval();
+        // p.setPaymentId(id);
+        return p.getPaymentId();
     }
 
 	/**
@@ -139,15 +148,25 @@ public class PaymentServiceImpl implements PaymentService {
 
         // 2) 예약 상태 동기화(트리거 보정은 남기되, 서비스 계층에서 먼저 반영)
         if ("완료".equals(status)) {
-            jdbcTemplate.update(
+            int completed = jdbcTemplate.update(
                     "UPDATE reservation_tbl SET resv_status = '완료' WHERE resv_id = ? AND resv_status <> '완료' AND resv_status <> '취소'",
                     resvId
             ); // 취소된 예약은 되살리지 않음
+            // [261019추가] 실제로 완료 전환된 경우 공유 시설 점유 반영(잔여 초과면 예외 → 롤백)
+            if (completed == 1) {
+                capacityIndex.onCompleted(resvId);
+            }
         } else if ("취소".equals(status)) {
-            jdbcTemplate.update(
+            Reservation before = capacityIndex.lockSlot(resvId); // [261019추가] 변경 전 상태(점유 차감 여부)
+            int cancelled = jdbcTemplate.update(
                     "UPDATE reservation_tbl SET resv_status = '취소' WHERE resv_id = ? AND resv_status <> '취소'",
                     resvId
             );
+            // [261019추가] 실제로 취소 전환된 경우에만 같은 시간대 대기자 승격
+            if (cancelled == 1) {
+                capacityIndex.onReleased(before); // [261019변경] 완료였던 예약만 공유 시설 점유 차감
+                waitlistService.promoteNext(resvId);
+            }
         } // '예약'은 동기화 불필요
 
         // 3) 문자 발송(상태별 고정 문구) — MessageService 시그니처 유지
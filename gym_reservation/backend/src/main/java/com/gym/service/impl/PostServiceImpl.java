@@ -4,6 +4,7 @@ import com.gym.domain.post.PostResponse;
 import com.gym.domain.post.Post;                 // ★ 추가
 import com.gym.mapper.xml.PostMapper;
 import com.gym.service.PostService;
+import com.gym.service.support.MemberIdRegistry; // [261019] 회원ID 존재 인덱스
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import java.util.List;
@@ -12,9 +13,11 @@ import java.util.List;
 public class PostServiceImpl implements PostService {
 
     private final PostMapper postMapper;
+    private final MemberIdRegistry memberIdRegistry; // [261019] 회원 존재 확인(메모리 우선)
 
-    public PostServiceImpl(PostMapper postMapper) {
+    public PostServiceImpl(PostMapper postMapper, MemberIdRegistry memberIdRegistry) {
         this.postMapper = postMapper;
+        this.memberIdRegistry = memberIdRegistry;
     }
 
     /**
@@ -31,7 +34,7 @@ public class PostServiceImpl implements PostService {
     //     return postMapper.insertPost(postResponse);
     // }
 
-    // ===== [수정본] ✏️ INSERT 전 사전검증 + 엔티티 변환 + AFTER CURRVAL 회수 =====
+    // ===== [수정본] ✏️ INSERT 전 사전검증 + 엔티티 변환 + PK 회수([261019] RETURNING) =====
     @Override
     @Transactional(rollbackFor = Exception.class)
     public Long createPost(PostResponse postResponse) {
@@ -48,7 +51,7 @@ public class PostServiceImpl implements PostService {
         // [2] FK 사전검증 (실패 시 INSERT 진입 금지 → NEXTVAL 미호출)
         if (!postMapper.existsBoardId(postResponse.getBoardId()))
             throw new IllegalArgumentException("boardId not found");
-        if (!postMapper.existsMemberId(postResponse.getMemberId()))
+        if (!memberIdRegistry.exists(postResponse.getMemberId(), postMapper::existsMemberId)) // [261019변경] 메모리 우선
             throw new IllegalArgumentException("memberId not found");
 
         // [3] DTO → 엔티티(Post) 변환
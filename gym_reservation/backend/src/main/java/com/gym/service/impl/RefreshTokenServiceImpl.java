@@ -0,0 +1,144 @@
+package com.gym.service.impl;
+
+import com.gym.common.TransactionHooks;                  // 커밋/롤백 훅
+import com.gym.domain.token.RefreshToken;               // 리프레시 토큰 엔티티
+import com.gym.mapper.annotation.RefreshTokenMapper;
+import com.gym.service.RefreshTokenService;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * [261019 신규] 리프레시 토큰 서비스 구현
+ * - 토큰: 32바이트 난수(Base64URL), DB에는 SHA-256 해시만 저장
+ * - 메모리 캐시: 발급한 미사용 토큰(해시 → 행) 보관 → 재발급 시 SELECT 생략
+ *   (사용 여부 판단은 항상 DB의 조건부 UPDATE가 기준 → 다중 인스턴스에서도 1회용 보장)
+ * - 재사용 감지: 사용/선점 실패한 토큰이 만료 전 다시 오면 계보 전체 폐기(WARN 로그)
+ * - 비밀번호 검증 없음 → 로그인보다 훨씬 가벼운 경로(해시 1회 + 단건 쿼리)
+ */
+@Slf4j
+@Service
+public class RefreshTokenServiceImpl implements RefreshTokenService {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+    private static final long REUSE_GRACE_SECONDS = 5; // 동시 탭/재전송으로 같은 토큰이 연달아 오는 경우 허용 간격
+
+    private final RefreshTokenMapper refreshTokenMapper;
+    private final long validitySeconds;
+    private final int cacheMaxEntries;
+
+    // 토큰 해시 → 미사용 토큰 행
+    private final Map<String, RefreshToken> unused = new ConcurrentHashMap<>();
+
+    public RefreshTokenServiceImpl(RefreshTokenMapper refreshTokenMapper,
+                                   @Value("${jwt.refresh-token-validity-seconds:1209600}") long validitySeconds,
+                                   @Value("${gym.auth.refresh-cache-max-entries:50000}") int cacheMaxEntries) {
+        this.refreshTokenMapper = refreshTokenMapper;
+        this.validitySeconds = validitySeconds;
+        this.cacheMaxEntries = cacheMaxEntries;
+    }
+
+    @Override
+    @Transactional
+    public String issue(String memberId) {
+        refreshTokenMapper.deleteExpiredByMember(memberId);
+        return insertNew(memberId, UUID.randomUUID().toString());
+    }
+
+    @Override
+    @Transactional
+    public Rotated rotate(String refreshToken) {
+        if (refreshToken == null || refreshToken.isBlank()) return null;
+        String hash = sha256(refreshToken);
+
+        RefreshToken row = unused.get(hash);
+        if (row == null) {
+            row = refreshTokenMapper.selectByHash(hash);
+            if (row == null) return null; // 모르는 토큰
+        }
+
+        // 1회용 선점: 미사용 + 미폐기 + 미만료일 때만 성공
+        if (refreshTokenMapper.claimToken(hash) != 1) {
+            unused.remove(hash);
+            RefreshToken current = refreshTokenMapper.selectByHash(hash);
+            LocalDateTime now = LocalDateTime.now();
+            if (current != null && current.getUsedAt() != null && "N".equals(current.getRevoked())
+                    && current.getExpiresAt().isAfter(now)
+                    && current.getUsedAt().isBefore(now.minusSeconds(REUSE_GRACE_SECONDS))) {
+                // 이미 쓰인 토큰이 다시 옴 → 탈취 의심, 계보 전체 폐기(이 트랜잭션은 정상 커밋)
+                int revoked = refreshTokenMapper.revokeFamily(current.getFamilyId());
+                log.warn("[token] 리프레시 토큰 재사용 감지 - memberId: {}, family: {}, 폐기 {}건",
+                         current.getMemberId(), current.getFamilyId(), revoked);
+            }
+            return null;
+        }
+        unused.remove(hash);
+
+        String next = insertNew(row.getMemberId(), row.getFamilyId());
+        return new Rotated(row.getMemberId(), next);
+    }
+
+    @Override
+    @Transactional
+    public void revoke(String refreshToken) {
+        if (refreshToken == null || refreshToken.isBlank()) return;
+        String hash = sha256(refreshToken);
+        RefreshToken row = refreshTokenMapper.selectByHash(hash);
+        if (row == null) return;
+        refreshTokenMapper.revokeFamily(row.getFamilyId());
+        TransactionHooks.afterCommit(() ->
+                unused.values().removeIf(t -> t.getFamilyId().equals(row.getFamilyId())));
+    }
+
+    /* ============================== 내부 유틸 ============================== */
+
+    private String insertNew(String memberId, String familyId) {
+        byte[] raw = new byte[32];
+        RANDOM.nextBytes(raw);
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(raw);
+
+        RefreshToken row = RefreshToken.builder()
+                .tokenHash(sha256(token))
+                .memberId(memberId)
+                .familyId(familyId)
+                .expiresAt(LocalDateTime.now().plusSeconds(validitySeconds))
+                .revoked("N")
+                .build();
+        refreshTokenMapper.insertToken(row);
+        TransactionHooks.afterCommit(() -> cache(row)); // 롤백된 토큰은 캐시에 넣지 않음
+        return token;
+    }
+
+    // 상한 초과 시 만료 항목 정리 → 그래도 넘치면 전체 비움(캐시 미스는 DB 조회로 대체됨)
+    private void cache(RefreshToken row) {
+        if (unused.size() >= cacheMaxEntries) {
+            LocalDateTime now = LocalDateTime.now();
+            unused.values().removeIf(t -> !t.getExpiresAt().isAfter(now));
+            if (unused.size() >= cacheMaxEntries) unused.clear();
+        }
+        unused.put(row.getTokenHash(), row);
+    }
+
+    private static String sha256(String token) {
+        try {
+            MessageDigest md = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(md.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
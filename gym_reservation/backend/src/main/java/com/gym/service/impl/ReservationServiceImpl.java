@@ -24,6 +24,16 @@ import java.util.List;
 import com.gym.service.MessageService; // 메시지 서비스(프로젝트 보유 인터페이스 사용)
 import com.gym.domain.message.Message; // 메시지 엔티티 (이력 저장용)
 
+import com.gym.service.WaitlistService; // [261019추가] 취소 시 대기자 자동 승격
+import com.gym.service.support.ReservationCapacityIndex; // [261019추가] 공유 시설 점유 인덱스
+import com.gym.service.support.MemberIdRegistry; // [261019추가] 회원ID 존재 인덱스
+import com.gym.mapper.xml.ReservationQueryMapper.CapacityRow; // [261019추가] 시설 수용 정보
+import com.gym.common.TransactionHooks; // [261019추가] 커밋 후 후속 처리
+import com.gym.service.support.ReservationStatusFanout; // [261019추가] 일괄 변경 후속 처리(비동기)
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.Objects;
+
 
 @Service
 @RequiredArgsConstructor
@@ -34,6 +44,12 @@ public class ReservationServiceImpl implements ReservationService {
     private final MemberMapper memberMapper; // 회원 검증
     private final JdbcTemplate jdbcTemplate; //[250919] 추가 (부트 자동 구성)
     private final MessageService messageService; // [250925추가] 메시지 서비스 빈 주입(기존 구현체 사용, 새로운 메서드 생성 금지)
+    private final WaitlistService waitlistService; // [261019추가] 대기열 승격 훅
+    private final ReservationCapacityIndex capacityIndex; // [261019추가] 공유 시설 수용량 판정
+    private final ReservationStatusFanout statusFanout; // [261019추가] 일괄 변경 후속 처리
+    private final MemberIdRegistry memberIdRegistry; // [261019추가] 회원 존재 확인(메모리 우선)
+
+    private static final int BATCH_LIMIT = 1000; // [261019추가] 일괄 변경 최대 건수(Oracle IN 목록 한도)
     
     
     // 예약신청
@@ -41,7 +57,8 @@ public class ReservationServiceImpl implements ReservationService {
     @Transactional
     public Long createReservation(ReservationCreateRequest request) {
         // 1) 회원 존재 확인: 없으면 중단
-        if (!memberMapper.existsMemberById(request.getMemberId())) {
+        // [261019변경] 메모리 인덱스 우선(판정 불가 시에만 DB), 삭제 경합은 FK가 최종 차단
+        if (!memberIdRegistry.exists(request.getMemberId(), memberMapper::existsMemberById)) {
             throw new IllegalArgumentException("존재하지 않는 회원 ID: " + request.getMemberId());
         }
 
@@ -55,8 +72,14 @@ public class ReservationServiceImpl implements ReservationService {
         LocalDateTime start = LocalDateTime.parse(request.getResvStartTime(), dt);
         LocalDateTime end   = LocalDateTime.parse(request.getResvEndTime(), dt);
 
+        // [261019변경] 공유 시설(facility_shared='Y')은 인원 합산으로, 그 외는 기존처럼 시간대 독점으로 판정
+        CapacityRow capacity = capacityIndex.capacityOf(request.getFacilityId());
+        if (capacity != null && capacity.isShared()) {
+            capacityIndex.checkRoom(request.getFacilityId(), capacity.getFacilityPersonMax(),
+                    start, end, request.getResvPersonCount());
+        }
         // INSERT 전에 겹치는 예약 여부 확인 (완료 상태만 막히도록 XML에서 resv_status='완료' 조건 포함)
-        if (reservationQueryMapper.existsOverlapReservation(
+        else if (reservationQueryMapper.existsOverlapReservation(
                 request.getFacilityId(), start, end)) {
             throw new IllegalStateException("이미 예약되어 있는 상태입니다.");
         }
@@ -110,16 +133,43 @@ public class ReservationServiceImpl implements ReservationService {
             throw new IllegalArgumentException("NOT_FOUND_OR_FORBIDDEN: reservation=" + resvId + ", user=" + userId);
         }
 
+        // [261019변경] '취소'는 조건부 UPDATE로 따로 처리(이미 취소된 예약이면 영향행 0 → 승격 없음)
+        boolean cancelling = "취소".equals(request.getResvStatus());
+
         // 2) 부분수정 엔티티 구성(null 필드는 미반영)
         Reservation patch = Reservation.builder()
                 .resvId(resvId)
                 .memberId(userId)
                 .resvContent(request.getResvContent())
                 .resvPersonCount(request.getResvPersonCount())
-                .resvStatus(request.getResvStatus())
+                .resvStatus(cancelling ? null : request.getResvStatus())
                 .build();
 
-        return reservationMapper.updateByIdAndMemberId(patch);
+        if (!cancelling) {
+            // [261019추가] 상태 변경 시 공유 시설 점유 반영(완료 전환은 잔여 초과면 예외)
+            //  - 변경 전 상태가 필요하고 완료 입장 판정은 UPDATE 전에 끝나야 하므로 먼저 호출
+            //  - 소유권 확인된 행에 대한 무조건 UPDATE라 항상 반영됨(같은 상태면 훅이 무시)
+            if (request.getResvStatus() != null) {
+                capacityIndex.onStatusChange(resvId, request.getResvStatus());
+            }
+            return reservationMapper.updateByIdAndMemberId(patch);
+        }
+
+        // [261019변경] 내용/인원 변경이 함께 오면 먼저 반영(상태 외 필드가 없으면 빈 SET이라 생략)
+        // 반환값: 기존 계약대로 소유권 확인된 예약 1건 수정 = 1
+        //  - 이미 취소된 예약의 재취소도 오류가 아니므로 취소 UPDATE 영향행(0/1)은 반환하지 않고 승격 여부 판단에만 사용
+        //  - 내용/인원 변경이 있으면 그 UPDATE 영향행을 반환
+        int updated = 1;
+        if (patch.getResvContent() != null || patch.getResvPersonCount() != null) {
+            updated = reservationMapper.updateByIdAndMemberId(patch);
+        }
+        // 변경 전 행 잠금 조회(완료였는지) → 실제로 '취소'로 전환된 경우에만 점유 차감 + 대기자 승격(같은 트랜잭션)
+        Reservation before = capacityIndex.lockSlot(resvId);
+        if (reservationMapper.cancelByIdAndMemberId(resvId, userId) == 1) {
+            capacityIndex.onReleased(before);
+            waitlistService.promoteNext(resvId);
+        }
+        return updated;
     }
 
     // 예약정보 삭제하기...이제 안씀
@@ -183,9 +233,69 @@ public class ReservationServiceImpl implements ReservationService {
 
             messageService.sendMessage(msg); // ✅ 기존 시그니처 그대로 사용
         }
+
+        // [261019변경] 취소신청(resv_cancel='Y')은 자리를 비우지 않음 → 승격은 실제 '취소' 전환 시에만
+        //  (회원 상태 변경 / CMS 일괄 변경 / 결제 취소 경로)
+        // waitlistService.promoteNext(resvId);
     }
     
     return updated; // 기존 반환 계약 유지
 }
 
+    /**
+     * [261019 신규] CMS 일괄 상태 변경
+     * - 대상 행을 한 번에 잠금 조회 → 한 문장 UPDATE (건별 소유자 조회/검증 없음)
+     * - 없는 예약ID가 섞여 있으면 전체 중단(부분 반영 없음)
+     * - 이미 같은 상태인 건은 건너뜀(변경 건수에서 제외)
+     * - 공유 시설 점유/대기열 승격은 같은 트랜잭션, 문자/결제로그는 커밋 후 비동기
+     */
+    @Override
+    @Transactional
+    public int changeStatusBatch(List<Long> resvIds, String resvStatus, String managerId) {
+        // 1) 입력 정리: null 제거 + 중복 제거(순서 유지)
+        List<Long> ids = new ArrayList<>(new LinkedHashSet<>(resvIds));
+        ids.removeIf(Objects::isNull);
+        if (ids.isEmpty()) {
+            throw new IllegalArgumentException("변경할 예약ID가 없습니다.");
+        }
+        if (ids.size() > BATCH_LIMIT) {
+            throw new IllegalArgumentException("한 번에 변경할 수 있는 예약은 최대 " + BATCH_LIMIT + "건입니다.");
+        }
+
+        // 2) 대상 잠금 조회(변경 전 상태 확정)
+        List<Reservation> rows = reservationQueryMapper.selectResvSlotsForUpdate(ids);
+        if (rows.size() != ids.size()) {
+            List<Long> missing = new ArrayList<>(ids);
+            rows.forEach(r -> missing.remove(r.getResvId()));
+            throw new IllegalArgumentException("존재하지 않는 예약ID: " + missing);
+        }
+
+        List<Reservation> changed = new ArrayList<>();
+        for (Reservation r : rows) {
+            if (!resvStatus.equals(r.getResvStatus())) {
+                changed.add(r);
+            }
+        }
+        if (changed.isEmpty()) {
+            return 0;
+        }
+
+        // 3) 공유 시설 점유 반영(완료 전환은 잔여 초과면 예외 → 전체 롤백)
+        capacityIndex.onBatchStatusChange(changed, resvStatus);
+
+        // 4) 한 문장 UPDATE
+        int updated = reservationMapper.updateStatusByIds(ids, resvStatus);
+
+        // 5) 취소 전환 건은 겹치는 시간대 대기자 승격
+        if ("취소".equals(resvStatus)) {
+            for (Reservation r : changed) {
+                waitlistService.promoteNext(r.getFacilityId(), r.getResvStartTime(), r.getResvEndTime());
+            }
+        }
+
+        // 6) 문자/결제로그는 커밋 이후 비동기
+        TransactionHooks.afterCommit(() -> statusFanout.dispatch(changed, resvStatus, managerId));
+        return updated;
+    }
+
 }
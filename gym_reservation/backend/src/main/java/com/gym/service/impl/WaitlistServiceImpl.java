@@ -0,0 +1,195 @@
+package com.gym.service.impl;
+
+import com.gym.domain.message.Message;                  // 문자 이력 엔티티
+import com.gym.domain.reservation.Reservation;          // 예약 엔티티
+import com.gym.domain.reservation.ReservationResponse;  // 예약 단건 조회 결과
+import com.gym.domain.waitlist.Waitlist;
+import com.gym.domain.waitlist.WaitlistCreateRequest;
+import com.gym.domain.waitlist.WaitlistResponse;
+import com.gym.mapper.annotation.MemberMapper;
+import com.gym.mapper.annotation.ReservationMapper;
+import com.gym.mapper.annotation.WaitlistMapper;
+import com.gym.mapper.xml.ReservationQueryMapper;
+import com.gym.mapper.xml.ReservationQueryMapper.CapacityRow;
+import com.gym.service.MessageService;
+import com.gym.service.WaitlistService;
+import com.gym.service.support.ReservationCapacityIndex;
+import com.gym.service.support.MemberIdRegistry;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * [261019 신규] 예약 대기열 서비스 구현
+ * - DB(waitlist_tbl)가 원본
+ * - 승격은 취소와 같은 트랜잭션 안에서 처리(claim UPDATE로 1건만 선점)
+ * - [261019변경] 승격 후보 = 비워진 시간대와 겹치는 대기 건 중 지금 들어갈 수 있는 가장 오래된 1건
+ *   (대기 신청은 막고 있는 예약과 겹치기만 하면 접수되므로 정확히 같은 시간대로 한정하지 않음)
+ * - [261019변경] 노드별 '대기 건수' 메모리 미러 제거: 가입을 못 본 노드가 승격을 건너뛰던 문제 → 항상 DB 확인
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class WaitlistServiceImpl implements WaitlistService {
+
+    private static final int PROMOTE_CANDIDATES = 50; // 취소 1건당 확인할 최대 대기 건수(순번순)
+
+    private final WaitlistMapper waitlistMapper;                 // 대기열 매퍼
+    private final ReservationMapper reservationMapper;           // 예약 등록
+    private final ReservationQueryMapper reservationQueryMapper; // 예약 조회/중복 확인
+    private final MemberMapper memberMapper;                     // 회원 검증
+    private final MessageService messageService;                 // 승격 문자 발송
+    private final ReservationCapacityIndex capacityIndex;        // 공유 시설 잔여 인원
+    private final MemberIdRegistry memberIdRegistry;             // 회원 존재 확인(메모리 우선)
+
+    // 대기 신청
+    @Override
+    @Transactional
+    public Long joinWaitlist(WaitlistCreateRequest request) {
+        // 1) 회원 존재 확인
+        if (!memberIdRegistry.exists(request.getMemberId(), memberMapper::existsMemberById)) {
+            throw new IllegalArgumentException("존재하지 않는 회원 ID: " + request.getMemberId());
+        }
+
+        // 2) 문자열 → 도메인 타입 변환(예약 등록과 동일 포맷)
+        DateTimeFormatter d  = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+        DateTimeFormatter dt = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+        LocalDate wantDate = LocalDate.parse(request.getWantDate(), d);
+        LocalDateTime start = LocalDateTime.parse(request.getResvStartTime(), dt);
+        LocalDateTime end   = LocalDateTime.parse(request.getResvEndTime(), dt);
+
+        // 3) 비어있는 시간대는 대기 대상 아님 → 바로 예약신청 유도
+        //    (공유 시설은 잔여 인원 기준, 그 외는 완료 예약 중복 기준)
+        CapacityRow capacity = capacityIndex.capacityOf(request.getFacilityId());
+        boolean available = (capacity != null && capacity.isShared())
+                ? capacityIndex.hasRoom(request.getFacilityId(), capacity.getFacilityPersonMax(),
+                                        start, end, request.getResvPersonCount())
+                : !reservationQueryMapper.existsOverlapReservation(request.getFacilityId(), start, end);
+        if (available) {
+            throw new IllegalStateException("현재 예약 가능한 시간대입니다. 예약신청을 이용하세요.");
+        }
+
+        // 4) 같은 시간대 중복 대기 차단
+        if (waitlistMapper.existsWaiting(request.getMemberId(), request.getFacilityId(), start, end)) {
+            throw new IllegalStateException("이미 대기 신청한 시간대입니다.");
+        }
+
+        Waitlist entity = Waitlist.builder()
+                .memberId(request.getMemberId())
+                .facilityId(request.getFacilityId())
+                .resvContent(request.getResvContent())
+                .wantDate(wantDate)
+                .resvPersonCount(request.getResvPersonCount())
+                .resvStartTime(start)
+                .resvEndTime(end)
+                .build();
+
+        waitlistMapper.insertWaitlist(entity);
+        return entity.getWaitId();
+    }
+
+    // 내 대기 목록
+    @Override
+    @Transactional(readOnly = true)
+    public List<WaitlistResponse> listMyWaitlist(String memberId) {
+        return waitlistMapper.selectByMember(memberId);
+    }
+
+    // 대기 취소(본인만)
+    @Override
+    @Transactional
+    public int cancelWaitlist(Long waitId, String memberId) {
+        int updated = waitlistMapper.cancelByIdAndMemberId(waitId, memberId);
+        if (updated == 0) {
+            throw new IllegalArgumentException("NOT_FOUND_OR_FORBIDDEN: waitlist=" + waitId + ", user=" + memberId);
+        }
+        return updated;
+    }
+
+    /**
+     * 취소 이벤트 훅
+     * - 호출 측(예약 취소/결제 취소) 트랜잭션에 참여 → 취소가 롤백되면 승격도 롤백
+     * - 호출 측은 '취소' 전환 UPDATE 이후에 호출(같은 트랜잭션에서 비워진 자리 기준으로 판정)
+     */
+    @Override
+    @Transactional
+    public Long promoteNext(Long cancelledResvId) {
+        ReservationResponse cancelled = reservationQueryMapper.getReservation(cancelledResvId);
+        if (cancelled == null) {
+            return null;
+        }
+        return promoteNext(cancelled.getFacilityId(), cancelled.getResvStartTime(), cancelled.getResvEndTime());
+    }
+
+    // 시간대 지정 승격(일괄 상태 변경 등 호출 측이 시간대를 이미 조회한 경우)
+    @Override
+    @Transactional
+    public Long promoteNext(Long facilityId, LocalDateTime resvStartTime, LocalDateTime resvEndTime) {
+        // [261019변경] 메모리 미러로 건너뛰지 않음 → 겹치는 대기 건을 DB에서 순번대로 조회
+        List<Waitlist> candidates = waitlistMapper.selectWaitingOverlapping(
+                facilityId, resvStartTime, resvEndTime, PROMOTE_CANDIDATES);
+        if (candidates.isEmpty()) {
+            return null; // 대기자 없음
+        }
+        CapacityRow capacity = capacityIndex.capacityOf(facilityId);
+
+        for (Waitlist next : candidates) {
+            // 아직 다른 완료 예약과 겹치거나(독점) 잔여 인원이 부족하면(공유) 다음 대기 건
+            if (!fitsNow(next, capacity)) {
+                continue;
+            }
+
+            // 선점: 다른 트랜잭션이 먼저 승격했으면 0 → 다음 대기자
+            if (waitlistMapper.claimWaiting(next.getWaitId()) != 1) {
+                continue;
+            }
+
+            Reservation entity = Reservation.builder()
+                    .memberId(next.getMemberId())
+                    .facilityId(next.getFacilityId())
+                    .resvContent(next.getResvContent())
+                    .wantDate(next.getWantDate())
+                    .resvPersonCount(next.getResvPersonCount())
+                    .resvStartTime(next.getResvStartTime())
+                    .resvEndTime(next.getResvEndTime())
+                    .resvStatus("대기")
+                    .build();
+            reservationMapper.insertReservation(entity);
+            waitlistMapper.updateResvId(next.getWaitId(), entity.getResvId());
+
+            Message msg = Message.builder()
+                    .memberId(next.getMemberId())
+                    .resvId(entity.getResvId())
+                    .messageType("예약확인")
+                    .messageContent("대기하신 시간대가 승격되어 예약신청이 접수되었습니다.")
+                    .build();
+            messageService.sendMessage(msg);
+
+            log.info("[waitlist] 승격 완료 - waitId: {}, resvId: {}", next.getWaitId(), entity.getResvId());
+            return entity.getResvId();
+        }
+        return null;
+    }
+
+    /* ============================== 내부 유틸 ============================== */
+
+    // 대기 건 시간대가 지금 비어 있는지(대기 신청 판정과 같은 기준, 현재 트랜잭션의 DB 기준)
+    private boolean fitsNow(Waitlist w, CapacityRow capacity) {
+        if (capacity != null && capacity.isShared()) {
+            int persons = w.getResvPersonCount() == null ? 0 : w.getResvPersonCount();
+            return capacityIndex.hasRoomNow(w.getFacilityId(), capacity.getFacilityPersonMax(),
+                                            w.getResvStartTime(), w.getResvEndTime(), persons);
+        }
+        return !reservationQueryMapper.existsOverlapReservation(
+                w.getFacilityId(), w.getResvStartTime(), w.getResvEndTime());
+    }
+}
@@ -0,0 +1,100 @@
+package com.gym.service.support;
+
+import com.gym.common.LocalTtlCache;                    // 공통 LRU + TTL 저장소
+import com.gym.common.TransactionHooks;                 // 커밋 후 훅
+import com.gym.config.mybatis.CacheInvalidationBus;     // 노드 간 변경 전파
+import com.gym.domain.comments.CommentsResponse;
+import com.gym.mapper.xml.CommentsMapper;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * [261019 신규] 게시글별 댓글 첫 페이지 캐시
+ * - 게시글 상세를 열 때마다 나가는 댓글 첫 페이지 조회를 메모리에서 처리(커서 있는 다음 페이지는 항상 DB)
+ * - 항목: 게시글ID → 최신 댓글 page-size + 1건(마지막 1건은 다음 페이지 여부 판단용)
+ * - max-entries가 작아 자주 열리는 게시글만 남음
+ * - 회원 삭제(댓글 연쇄 삭제)는 대상 게시글을 찾지 않고 전체 비움("comments:*")
+ * - [261019변경] 적재는 호출 측 트랜잭션/커넥션에서 그대로 읽음(두 번째 커넥션 없음),
+ *   쓰기 트랜잭션 안에서 읽은 값은 저장하지 않음, 복제 DB 지연 값은 TTL 안에서만 남음
+ */
+@Component
+public class CommentFirstPageCache {
+
+    public static final String PEER_PREFIX = "comments:"; // 무효화 수신 시 네임스페이스 구분
+    public static final String PEER_ALL = "*";            // 전체 비움
+
+    private final CommentsMapper commentsMapper;
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final boolean enabled;
+    private final int pageSize;
+    private final LocalTtlCache<Long, List<CommentsResponse>> cache; // 게시글ID → 첫 페이지
+
+    public CommentFirstPageCache(CommentsMapper commentsMapper,
+                                 CacheInvalidationBus cacheInvalidationBus,
+                                 @Value("${gym.comment-cache.enabled:true}") boolean enabled,
+                                 @Value("${gym.comment-cache.max-entries:200}") int maxEntries,
+                                 @Value("${gym.comment-cache.ttl-seconds:60}") long ttlSeconds,
+                                 @Value("${gym.comment-cache.page-size:20}") int pageSize) {
+        this.commentsMapper = commentsMapper;
+        this.cacheInvalidationBus = cacheInvalidationBus;
+        this.enabled = enabled;
+        this.pageSize = Math.max(1, pageSize);
+        this.cache = new LocalTtlCache<>("comment-first-page", Math.max(1, maxEntries), Math.max(1, ttlSeconds));
+    }
+
+    /** 캐시하는 첫 페이지 크기(이보다 큰 size 요청은 DB 직접 조회) */
+    public int pageSize() {
+        return pageSize;
+    }
+
+    /** 게시글 최신 댓글 최대 page-size + 1건(불변 리스트, 원소는 공유 객체 → 읽기 전용) */
+    public List<CommentsResponse> firstPage(Long postId) {
+        if (!enabled) return load(postId);
+        return TransactionHooks.inWriteTransaction()
+                ? cache.getOrLoadUnstored(postId, this::load)
+                : cache.get(postId, this::load);
+    }
+
+    // 댓글 등록/수정/삭제: 즉시 + 커밋 후 로컬 제거, 커밋 후 다른 노드에 "comments:{postId}" 전파
+    public void invalidate(Long postId) {
+        if (postId == null) return;
+        evictLocal(postId);
+        TransactionHooks.afterCommit(() -> {
+            evictLocal(postId);
+            cacheInvalidationBus.publish(PEER_PREFIX + postId);
+        });
+    }
+
+    // 여러 게시글 댓글이 한 번에 바뀐 경우(회원 삭제): 커밋 후 이 노드 + 다른 노드 전체 비움
+    public void invalidateAll() {
+        TransactionHooks.afterCommit(() -> {
+            clearLocal();
+            cacheInvalidationBus.publish(PEER_PREFIX + PEER_ALL);
+        });
+    }
+
+    // 다른 노드 변경 수신/내부 무효화 → 재전파 없이 로컬만 제거
+    public void evictLocal(Long postId) {
+        cache.invalidate(postId);
+    }
+
+    public void clearLocal() {
+        cache.invalidateAll();
+    }
+
+    public Map<String, Object> snapshot() {
+        Map<String, Object> s = cache.stats();
+        s.put("enabled", enabled);
+        s.put("pageSize", pageSize);
+        return s;
+    }
+
+    // 호출 측 트랜잭션/커넥션에서 조회
+    private List<CommentsResponse> load(Long postId) {
+        return List.copyOf(commentsMapper.selectCommentsPage(postId, null, null, pageSize + 1));
+    }
+}
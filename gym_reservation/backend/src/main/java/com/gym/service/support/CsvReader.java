@@ -0,0 +1,110 @@
+package com.gym.service.support;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * [261019 신규] CSV 읽기 (RFC 4180, 한 행씩)
+ * - 따옴표 안의 쉼표/따옴표("")/줄바꿈 지원, 줄 끝은 \r\n 또는 \n
+ * - 첫 글자 BOM(엑셀 UTF-8 저장) 제거
+ * - CsvExportWriter의 수식 주입 방지 접두어(' + =,+,-,@)는 되돌림 → 내보낸 파일을 그대로 다시 읽을 수 있음
+ * - 파일 전체를 올리지 않음(호출 측 Reader 버퍼만 사용)
+ */
+public class CsvReader implements Closeable {
+
+    private final Reader in;
+    private final StringBuilder field = new StringBuilder();
+    private int peeked = -2;  // -2: 없음
+    private long record;      // 지금까지 읽은 행 수(머리글 포함)
+
+    public CsvReader(Reader in) throws IOException {
+        this.in = in;
+        int first = in.read();
+        if (first != '\uFEFF') peeked = first;
+    }
+
+    /** 다음 행(파일 끝이면 null), 빈 줄은 건너뜀 */
+    public List<String> next() throws IOException {
+        while (true) {
+            List<String> row = readRow();
+            if (row == null) return null;
+            record++;
+            if (row.size() == 1 && row.get(0).isEmpty()) continue;
+            return row;
+        }
+    }
+
+    /** 방금 읽은 행 번호(1부터, 머리글 포함) */
+    public long record() {
+        return record;
+    }
+
+    private List<String> readRow() throws IOException {
+        int c = read();
+        if (c == -1) return null;
+        List<String> row = new ArrayList<>();
+        boolean quoted = false;
+        boolean wasQuoted = false;
+        field.setLength(0);
+        while (true) {
+            if (quoted) {
+                if (c == -1) throw new IOException("CSV 따옴표가 닫히지 않음(" + (record + 1) + "행)");
+                if (c == '"') {
+                    int n = read();
+                    if (n == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        c = n;
+                        continue;
+                    }
+                } else {
+                    field.append((char) c);
+                }
+            } else if (c == -1 || c == '\n') {
+                row.add(value(wasQuoted));
+                return row;
+            } else if (c == '\r') {
+                int n = read();
+                if (n != '\n' && n != -1) peeked = n;
+                row.add(value(wasQuoted));
+                return row;
+            } else if (c == ',') {
+                row.add(value(wasQuoted));
+                field.setLength(0);
+                wasQuoted = false;
+            } else if (c == '"' && field.length() == 0) {
+                quoted = true;
+                wasQuoted = true;
+            } else {
+                field.append((char) c);
+            }
+            c = read();
+        }
+    }
+
+    private String value(boolean wasQuoted) {
+        String s = wasQuoted ? field.toString() : field.toString().trim();
+        if (s.length() > 1 && s.charAt(0) == '\'' && "=+-@".indexOf(s.charAt(1)) >= 0) {
+            s = s.substring(1);
+        }
+        return s;
+    }
+
+    private int read() throws IOException {
+        if (peeked != -2) {
+            int c = peeked;
+            peeked = -2;
+            return c;
+        }
+        return in.read();
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+}
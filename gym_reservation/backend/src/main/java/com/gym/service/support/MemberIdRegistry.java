@@ -0,0 +1,324 @@
+package com.gym.service.support;
+
+import com.gym.common.TransactionHooks;                 // 커밋/롤백 훅
+import com.gym.config.mybatis.CacheInvalidationBus;     // 노드 간 변경 전파
+import com.gym.mapper.annotation.MemberMapper;          // 회원ID 전체 적재 / 단건 확인
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Predicate;
+
+/**
+ * [261019 신규] 회원ID 존재 여부 메모리 인덱스(블룸 필터 + 정확 집합)
+ * - 예약/대기/카드/계좌/게시글 등록, 회원ID 중복확인에서 매번 나가던 존재 확인 쿼리 대체
+ * - 블룸 필터에 없으면 → 없음(DB 조회 없음), 단 마지막 재구성 후 negative-ttl-seconds 이내일 때만
+ * - 정확 집합(exact-max-entries 이하일 때 유지)에 있으면 → 있음(DB 조회 없음, 등록 쿼리는 FK가 최종 보장)
+ * - 회원 수가 상한을 넘어 블룸 필터만 남은 경우 → '있을 수도 있음'만 DB로 1회 확인
+ * - 적재: 기동 시 member_tbl 전체 ID 스트리밍, 이후 가입/삭제 시 갱신
+ * - 다중 인스턴스: 커밋 후 gym.cache.peers 로 "member-id:{id}" 전파 → 수신 노드는 해당 ID만 DB 재확인
+ * - [261019변경] 전파 유실/피어 미설정 대비: 재구성 후 negative-ttl-seconds가 지나면 '없음'도 DB로 확인하고
+ *   백그라운드 재구성 1회 시작 → 다른 노드에서 가입한 회원이 영구히 '없음'으로 판정되지 않음
+ * - [261019변경] 재구성은 잠금 없이 새 구조를 따로 만든 뒤 volatile 교체 1회로 공개
+ *   (전체 스캔 동안 가입/일괄 등록/재확인이 기다리지 않음, 그동안 판정은 이전 구조로 계속)
+ *   스캔 중/직후 반영분은 최근 변경 목록(changes)으로 기록해 교체 후 새 구조에 다시 적용
+ * - 백그라운드 재구성은 indexRebuildExecutor(전용 1스레드)에서 실행, 진행 중 요청은 끝난 뒤 한 번만 더
+ */
+@Slf4j
+@Component
+public class MemberIdRegistry {
+
+    public static final String PEER_PREFIX = "member-id:"; // 무효화 수신 시 네임스페이스 구분
+    public static final String PEER_ALL = "*";             // "member-id:*" → 수신 노드 전체 재구성(일괄 등록 후)
+
+    private static final int PRUNE_EVERY = 4096; // 변경 기록 N건마다 오래된 기록 정리(2의 거듭제곱)
+
+    private final MemberMapper memberMapper;
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final boolean enabled;
+    private final int expectedMembers;
+    private final int exactMaxEntries;
+    private final double falsePositiveRate;
+    private final long negativeTtlNanos; // 메모리 '없음' 판정을 믿는 기간(마지막 재구성 기준)
+
+    private final Executor rebuildExecutor;                         // 백그라운드 재구성 전용
+    private final AtomicBoolean rebuildQueued = new AtomicBoolean(); // 대기 중인 재구성 중복 방지
+
+    private volatile State state; // null → 적재 전/비활성(항상 DB 확인)
+
+    // 최근 변경(회원ID → 있음/없음 + 기록 시각): 재구성 교체 후 새 구조에 다시 적용, negative-ttl 지나면 정리
+    private final Map<String, Change> changes = new ConcurrentHashMap<>();
+    private final AtomicLong recorded = new AtomicLong();
+
+    // 통계: DB 없이 '없음' / DB 없이 '있음' / DB 확인
+    private final AtomicLong negatives = new AtomicLong();
+    private final AtomicLong positives = new AtomicLong();
+    private final AtomicLong confirms = new AtomicLong();
+
+    public MemberIdRegistry(MemberMapper memberMapper,
+                            CacheInvalidationBus cacheInvalidationBus,
+                            @Value("${gym.member-registry.enabled:true}") boolean enabled,
+                            @Value("${gym.member-registry.expected-members:100000}") int expectedMembers,
+                            @Value("${gym.member-registry.exact-max-entries:200000}") int exactMaxEntries,
+                            @Value("${gym.member-registry.false-positive-rate:0.01}") double falsePositiveRate,
+                            @Value("${gym.member-registry.negative-ttl-seconds:300}") long negativeTtlSeconds,
+                            @Qualifier("indexRebuildExecutor") Executor rebuildExecutor) {
+        this.memberMapper = memberMapper;
+        this.cacheInvalidationBus = cacheInvalidationBus;
+        this.enabled = enabled;
+        this.expectedMembers = expectedMembers;
+        this.exactMaxEntries = exactMaxEntries;
+        this.falsePositiveRate = falsePositiveRate;
+        this.negativeTtlNanos = TimeUnit.SECONDS.toNanos(Math.max(1, negativeTtlSeconds));
+        this.rebuildExecutor = rebuildExecutor;
+    }
+
+    // [261019변경] DB 기준 재구성: 새 구조를 지역 변수로 만든 뒤 교체(잠금 없음, 기동 시에는 호출 스레드에서)
+    @PostConstruct
+    public void rebuild() {
+        if (!enabled) return;
+        int total = memberMapper.countMemberIds();
+        Bloom b = new Bloom(Math.max(total * 2, expectedMembers), falsePositiveRate);
+        Set<String> e = total <= exactMaxEntries ? ConcurrentHashMap.newKeySet(Math.max(16, total * 2)) : null;
+        int[] loaded = {0};
+        memberMapper.selectAllMemberIds(ctx -> {
+            String id = ctx.getResultObject();
+            b.add(id);
+            if (e != null) e.add(id);
+            loaded[0]++;
+        });
+        State built = new State(b, e, System.nanoTime());
+        state = built;
+
+        // 스캔이 못 본 변경(스캔 중 커밋/아직 미커밋 가입, 스캔 후 삭제) 다시 적용 → 교체 이후 변경은 기록 측이 새 구조에 직접 반영
+        pruneChanges();
+        changes.forEach((id, c) -> built.apply(id, c.present()));
+        log.info("[member-registry] 회원ID {}건 적재(bloom bits={}, hashes={}, exact={})",
+                 loaded[0], b.bitCount, b.hashes, e != null);
+    }
+
+    // 재구성 요청(전용 실행기, 호출 측은 기다리지 않음) — 피어 "member-id:*" 수신, TTL 지난 '없음' 확인
+    public void rebuildInBackground() {
+        if (!enabled || !rebuildQueued.compareAndSet(false, true)) return;
+        try {
+            rebuildExecutor.execute(() -> {
+                rebuildQueued.set(false); // 실행 중 들어온 요청은 끝난 뒤 한 번 더
+                try {
+                    rebuild();
+                } catch (RuntimeException ex) {
+                    log.warn("[member-registry] 재구성 실패(다음 요청 시 재시도)", ex);
+                }
+            });
+        } catch (RejectedExecutionException ex) {
+            rebuildQueued.set(false);
+            log.warn("[member-registry] 재구성 요청 거절: {}", ex.getMessage());
+        }
+    }
+
+    /**
+     * 회원ID 존재 여부
+     * @param dbCheck 메모리로 판정할 수 없을 때만 호출(예: mapper::existsMemberId)
+     */
+    public boolean exists(String memberId, Predicate<String> dbCheck) {
+        if (memberId == null) return false;
+        State s = state;
+        if (s != null) {
+            // [261019변경] '없음'은 재구성 후 TTL 이내일 때만 메모리로 확정, 지나면 DB 확인
+            boolean fresh = System.nanoTime() - s.builtAt() < negativeTtlNanos;
+            if (!s.bloom().mightContain(memberId)) {
+                if (fresh) {
+                    negatives.incrementAndGet();
+                    return false;
+                }
+                return confirmMissing(memberId, dbCheck);
+            }
+            Set<String> e = s.exact();
+            if (e != null) {
+                if (e.contains(memberId)) {
+                    positives.incrementAndGet();
+                    return true;
+                }
+                if (fresh) {
+                    negatives.incrementAndGet();
+                    return false;
+                }
+                return confirmMissing(memberId, dbCheck);
+            }
+        }
+        confirms.incrementAndGet();
+        return dbCheck.test(memberId);
+    }
+
+    // TTL 지난 '없음' → DB 확인(있으면 바로 반영) + 백그라운드 재구성 1회
+    private boolean confirmMissing(String memberId, Predicate<String> dbCheck) {
+        confirms.incrementAndGet();
+        rebuildInBackground();
+        boolean found = dbCheck.test(memberId);
+        if (found) {
+            onImported(memberId); // 전파를 놓친 가입 → 이 노드에 반영(롤백 시 정확 집합에서 제거)
+        }
+        return found;
+    }
+
+    // 가입(INSERT 직후): 바로 반영, 롤백되면 정확 집합에서만 제거(블룸 필터 오탐은 DB 확인으로 흡수)
+    public void onCreated(String memberId) {
+        onImported(memberId);
+        notifyPeers(memberId);
+    }
+
+    // 일괄 등록: 이 노드만 반영(다른 노드는 작업 끝에 notifyPeersAll 한 번)
+    public void onImported(String memberId) {
+        if (record(memberId, true)) {
+            TransactionHooks.afterRollback(() -> record(memberId, false));
+        }
+    }
+
+    // 삭제: 커밋 후 제거(블룸 필터는 지울 수 없음 → 정확 집합이 없으면 DB 확인으로 판정)
+    public void onDeleted(String memberId) {
+        TransactionHooks.afterCommit(() -> record(memberId, false));
+        notifyPeers(memberId);
+    }
+
+    // 일괄 변경 알림: 다른 노드는 존재/검색 인덱스 전체 재구성
+    public void notifyPeersAll() {
+        cacheInvalidationBus.publish(PEER_PREFIX + PEER_ALL);
+    }
+
+    // 회원 행 변경 알림(커밋 후): 다른 노드는 해당 ID만 DB 재확인(존재 인덱스 + 검색 인덱스)
+    public void notifyPeers(String memberId) {
+        TransactionHooks.afterCommit(() -> cacheInvalidationBus.publish(PEER_PREFIX + memberId));
+    }
+
+    // 다른 노드에서 가입/삭제된 ID → DB 기준으로 이 노드만 갱신(재전파 없음)
+    public void recheck(String memberId) {
+        if (state == null) return;
+        record(memberId, memberMapper.existsMemberById(memberId));
+    }
+
+    /**
+     * 변경 기록 + 현재 구조에 반영(잠금 없음)
+     * - 기록을 먼저 남기고 구조에 반영 → 재구성 교체 전이면 교체 후 다시 적용, 교체 후면 새 구조를 다시 읽어 반영
+     * @return 정확 집합에 새로 추가됐으면 true(롤백 시 되돌릴 대상)
+     */
+    private boolean record(String memberId, boolean present) {
+        if (!enabled) return false;
+        changes.put(memberId, new Change(present, System.nanoTime()));
+        if ((recorded.incrementAndGet() & (PRUNE_EVERY - 1)) == 0) pruneChanges();
+        State s = state;
+        if (s == null) return false; // 첫 적재 전 → 적재 후 다시 적용
+        boolean added = s.apply(memberId, present);
+        State now = state;
+        if (now != s) now.apply(memberId, present); // 그 사이 재구성 교체됨
+        return added;
+    }
+
+    // negative-ttl 지난 변경 정리(그 뒤 시작한 재구성 스캔은 이미 커밋 결과를 읽음)
+    private void pruneChanges() {
+        long expired = System.nanoTime() - negativeTtlNanos;
+        changes.values().removeIf(c -> c.at() - expired < 0);
+    }
+
+    public Map<String, Object> snapshot() {
+        Map<String, Object> m = new LinkedHashMap<>();
+        State s = state;
+        Bloom b = s != null ? s.bloom() : null;
+        Set<String> e = s != null ? s.exact() : null;
+        m.put("namespace", "member-registry");
+        m.put("ready", s != null);
+        m.put("ageSeconds", s != null ? TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - s.builtAt()) : -1);
+        m.put("exactSize", e != null ? e.size() : -1);
+        m.put("bloomBits", b != null ? b.bitCount : 0);
+        m.put("negatives", negatives.get());
+        m.put("positives", positives.get());
+        m.put("dbConfirms", confirms.get());
+        m.put("pendingChanges", changes.size());
+        return m;
+    }
+
+    /* ============================== 구조 ============================== */
+
+    // 한 번에 공개되는 블룸 필터 + 정확 집합(exact null → 상한 초과) + 완료 시각(nanoTime)
+    private record State(Bloom bloom, Set<String> exact, long builtAt) {
+        // 있음: 블룸 필터 + 정확 집합 추가 / 없음: 정확 집합에서만 제거
+        boolean apply(String memberId, boolean present) {
+            if (present) {
+                bloom.add(memberId);
+                return exact != null && exact.add(memberId);
+            }
+            if (exact != null) exact.remove(memberId);
+            return false;
+        }
+    }
+
+    private record Change(boolean present, long at) {}
+
+    /* ============================== 블룸 필터 ============================== */
+
+    // 비트 배열(AtomicLongArray) + 64비트 해시 1회로 k개 위치 생성(h1 + i*h2)
+    private static final class Bloom {
+        private final AtomicLongArray words;
+        private final long bitCount;
+        private final int hashes;
+
+        Bloom(int n, double p) {
+            long m = (long) Math.ceil(-n * Math.log(p) / (Math.log(2) * Math.log(2)));
+            this.words = new AtomicLongArray((int) Math.max(1, (m + 63) >>> 6));
+            this.bitCount = (long) words.length() << 6;
+            this.hashes = Math.max(1, (int) Math.round((double) bitCount / n * Math.log(2)));
+        }
+
+        void add(String id) {
+            long h = hash(id);
+            long h1 = h, h2 = (h >>> 32) | 1;
+            for (int i = 0; i < hashes; i++) {
+                long bit = Math.floorMod(h1 + i * h2, bitCount);
+                int w = (int) (bit >>> 6);
+                long mask = 1L << bit;
+                long cur;
+                while (((cur = words.get(w)) & mask) == 0 && !words.compareAndSet(w, cur, cur | mask)) {
+                    // CAS 재시도
+                }
+            }
+        }
+
+        boolean mightContain(String id) {
+            long h = hash(id);
+            long h1 = h, h2 = (h >>> 32) | 1;
+            for (int i = 0; i < hashes; i++) {
+                long bit = Math.floorMod(h1 + i * h2, bitCount);
+                if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) return false;
+            }
+            return true;
+        }
+
+        // FNV-1a 64 + 최종 섞기(murmur3 fmix64)
+        private static long hash(String id) {
+            long h = 0xcbf29ce484222325L;
+            for (byte c : id.getBytes(StandardCharsets.UTF_8)) {
+                h ^= (c & 0xff);
+                h *= 0x100000001b3L;
+            }
+            h ^= h >>> 33;
+            h *= 0xff51afd7ed558ccdL;
+            h ^= h >>> 33;
+            h *= 0xc4ceb9fe1a85ec53L;
+            h ^= h >>> 33;
+            return h;
+        }
+    }
+}
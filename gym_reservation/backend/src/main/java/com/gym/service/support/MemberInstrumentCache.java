@@ -0,0 +1,130 @@
+package com.gym.service.support;
+
+import com.gym.common.LocalTtlCache;                    // 공통 LRU + TTL 저장소
+import com.gym.common.TransactionHooks;                 // 커밋 후 훅
+import com.gym.config.mybatis.CacheInvalidationBus;     // 노드 간 변경 전파
+import com.gym.domain.account.Account;
+import com.gym.domain.card.Card;
+import com.gym.mapper.annotation.AccountMapper;
+import com.gym.mapper.annotation.CardMapper;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * [261019 신규] 회원별 결제수단(카드/계좌) 스냅샷 캐시
+ * - 결제 화면 목록, 결제 신청/삭제 시 소유 확인을 매번 card_tbl/account_tbl 조회 대신 메모리에서 처리
+ * - 항목: 회원ID → 카드 목록 + 계좌 목록(불변 리스트, 조회 시 두 테이블 1회씩)
+ * - 무효화: 카드/계좌 등록·삭제·대표 변경 시 즉시 + 커밋 후 한 번 더, 다른 노드에는 "instruments:{id}" 전파
+ * - 크기(max-entries, LRU) + TTL 제한 → 전파가 유실돼도 TTL 경과 후 일치(저장/만료/통계는 LocalTtlCache)
+ * - [261019변경] 적재는 호출 측 트랜잭션/커넥션에서 그대로 읽음(두 번째 커넥션을 잡지 않음 → 풀 고갈 교착 방지)
+ *   쓰기 트랜잭션 안에서 읽은 값은 저장하지 않음(커밋 전 데이터가 캐시에 남지 않도록),
+ *   읽기 전용 트랜잭션이 복제 DB에서 읽은 지연 값은 TTL 안에서만 남음
+ * - 주의: 스냅샷의 Card/Account는 공유 객체 → 읽기 전용으로만 사용(응답은 서비스에서 DTO로 변환)
+ */
+@Component
+public class MemberInstrumentCache {
+
+    public static final String PEER_PREFIX = "instruments:"; // 무효화 수신 시 네임스페이스 구분
+
+    private final CardMapper cardMapper;
+    private final AccountMapper accountMapper;
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final boolean enabled;
+    private final LocalTtlCache<String, Instruments> cache; // 회원ID → 스냅샷
+
+    public MemberInstrumentCache(CardMapper cardMapper,
+                                 AccountMapper accountMapper,
+                                 CacheInvalidationBus cacheInvalidationBus,
+                                 @Value("${gym.instrument-cache.enabled:true}") boolean enabled,
+                                 @Value("${gym.instrument-cache.max-entries:10000}") int maxEntries,
+                                 @Value("${gym.instrument-cache.ttl-seconds:600}") long ttlSeconds) {
+        this.cardMapper = cardMapper;
+        this.accountMapper = accountMapper;
+        this.cacheInvalidationBus = cacheInvalidationBus;
+        this.enabled = enabled;
+        this.cache = new LocalTtlCache<>("member-instruments", Math.max(1, maxEntries), Math.max(1, ttlSeconds));
+    }
+
+    /** 회원의 카드/계좌 스냅샷(없거나 만료면 DB 조회 후 저장, 쓰기 트랜잭션 안이면 저장 안 함) */
+    public Instruments get(String memberId) {
+        if (!enabled) return load(memberId);
+        return TransactionHooks.inWriteTransaction()
+                ? cache.getOrLoadUnstored(memberId, this::load)
+                : cache.get(memberId, this::load);
+    }
+
+    // 소유 카드 조회: 캐시에 없으면 1회 다시 읽음(다른 노드 등록 직후 전파 지연 대비)
+    public Optional<Card> findCard(String memberId, Long cardId) {
+        Optional<Card> hit = get(memberId).findCard(cardId);
+        return hit.isPresent() || !enabled ? hit : reload(memberId).findCard(cardId);
+    }
+
+    // 소유 계좌 조회: findCard와 동일
+    public Optional<Account> findAccount(String memberId, Long accountId) {
+        Optional<Account> hit = get(memberId).findAccount(accountId);
+        return hit.isPresent() || !enabled ? hit : reload(memberId).findAccount(accountId);
+    }
+
+    /**
+     * 카드/계좌 변경(등록/삭제/대표 변경) 알림
+     * - 즉시 + 커밋 후 로컬 제거, 커밋 후 다른 노드에 전파
+     */
+    public void invalidate(String memberId) {
+        if (memberId == null) return;
+        evictLocal(memberId);
+        TransactionHooks.afterCommit(() -> {
+            evictLocal(memberId);
+            cacheInvalidationBus.publish(PEER_PREFIX + memberId);
+        });
+    }
+
+    // 회원 삭제(트리거로 카드/계좌도 삭제): 커밋 후 로컬만 제거(다른 노드는 "member-id:{id}" 수신 시 제거)
+    public void onMemberDeleted(String memberId) {
+        TransactionHooks.afterCommit(() -> evictLocal(memberId));
+    }
+
+    // 다른 노드 변경 수신/내부 무효화 → 재전파 없이 로컬만 제거
+    public void evictLocal(String memberId) {
+        cache.invalidate(memberId);
+    }
+
+    public void clearLocal() {
+        cache.invalidateAll();
+    }
+
+    public Map<String, Object> snapshot() {
+        Map<String, Object> s = cache.stats();
+        s.put("enabled", enabled);
+        return s;
+    }
+
+    // 캐시를 건너뛰고 다시 읽음(쓰기 트랜잭션 안이면 저장 안 함)
+    private Instruments reload(String memberId) {
+        return TransactionHooks.inWriteTransaction() ? load(memberId) : cache.reload(memberId, this::load);
+    }
+
+    // 호출 측 트랜잭션/커넥션에서 조회
+    private Instruments load(String memberId) {
+        return new Instruments(
+                List.copyOf(cardMapper.selectCardsByMember(memberId)),
+                List.copyOf(accountMapper.selectAccountsByMember(memberId)));
+    }
+
+    /** 회원 1명의 결제수단 스냅샷(DB 정렬 순서 유지) */
+    public record Instruments(List<Card> cards, List<Account> accounts) {
+
+        public Optional<Card> findCard(Long cardId) {
+            return cards.stream().filter(c -> Objects.equals(c.getCardId(), cardId)).findFirst();
+        }
+
+        public Optional<Account> findAccount(Long accountId) {
+            return accounts.stream().filter(a -> Objects.equals(a.getAccountId(), accountId)).findFirst();
+        }
+    }
+}
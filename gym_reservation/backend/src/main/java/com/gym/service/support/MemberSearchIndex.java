@@ -0,0 +1,341 @@
+package com.gym.service.support;
+
+import com.gym.common.TransactionHooks;          // 커밋 후 반영
+import com.gym.domain.member.Member;             // 회원 행
+import com.gym.mapper.annotation.MemberMapper;   // 단건 재조회(다른 노드 변경)
+import com.gym.mapper.xml.MemberQueryMapper;     // 전체 적재
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * [261019 신규] CMS 회원 목록 검색 인덱스(메모리)
+ * - 대상 필드: 회원ID / 이름 / 이메일 / 휴대폰(숫자만) → 소문자 정규화
+ * - 2-gram 역색인: 검색어의 2-gram 중 후보가 가장 적은 목록만 훑고 실제 포함 여부로 확정(앞/중간 일치 모두)
+ *   (검색어 1글자는 전체 훑기 — 메모리 문자열 비교라 DB LIKE보다 빠름)
+ * - 정렬: ID 일치 > ID 앞부분 > 이름 일치 > 이름 앞부분 > 이메일/휴대폰 앞부분 > 중간 일치, 같은 순위는 ID 순
+ * - 결과는 현재 페이지 ID 목록 + 전체 건수 → 회원 행은 PK IN 조회로 그 페이지만 가져옴
+ * - 갱신: 가입/수정/삭제 커밋 후 반영, 다른 노드 변경은 "member-id:{id}" 알림으로 해당 ID만 재조회
+ * - 삭제/수정으로 남는 옛 2-gram 항목은 검색 시 확정 단계에서 걸러지고, 일정량 쌓이면 재색인
+ */
+@Slf4j
+@Component
+public class MemberSearchIndex {
+
+    private static final char SEP = '\u0001'; // 필드 구분(구분자를 걸친 2-gram은 만들지 않음)
+
+    private final MemberQueryMapper memberQueryMapper;
+    private final MemberMapper memberMapper;
+    private final boolean enabled;
+    private final Executor rebuildExecutor;                          // [261019] 백그라운드 재구성 전용
+    private final AtomicBoolean rebuildQueued = new AtomicBoolean(); // 대기 중인 재구성 중복 방지
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final TreeMap<String, Entry> byId = new TreeMap<>(); // ID 순 → 검색어 없을 때 그대로 페이징
+    private final Map<Integer, IntList> grams = new HashMap<>();  // 2-gram → 슬롯 번호 목록
+    private final List<Entry> slots = new ArrayList<>();
+    private final IntList freeSlots = new IntList();
+    private long livePostings;
+    private long stalePostings;
+    private volatile boolean ready;
+
+    public MemberSearchIndex(MemberQueryMapper memberQueryMapper,
+                             MemberMapper memberMapper,
+                             @Value("${gym.member-search.enabled:true}") boolean enabled,
+                             @Qualifier("indexRebuildExecutor") Executor rebuildExecutor) {
+        this.memberQueryMapper = memberQueryMapper;
+        this.memberMapper = memberMapper;
+        this.enabled = enabled;
+        this.rebuildExecutor = rebuildExecutor;
+    }
+
+    // 기동 시 전체 적재
+    @PostConstruct
+    public void rebuild() {
+        if (!enabled) return;
+        lock.writeLock().lock();
+        try {
+            ready = false;
+            clearAll();
+            memberQueryMapper.selectSearchRows(ctx -> put(ctx.getResultObject()));
+            ready = true;
+            log.info("[member-search] 회원 {}명 색인(2-gram {}종, 항목 {}개)", byId.size(), grams.size(), livePostings);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // [261019] 재구성 요청(전용 실행기, 호출 측은 기다리지 않음) — 피어 "member-id:*" 수신
+    public void rebuildInBackground() {
+        if (!enabled || !rebuildQueued.compareAndSet(false, true)) return;
+        try {
+            rebuildExecutor.execute(() -> {
+                rebuildQueued.set(false); // 실행 중 들어온 요청은 끝난 뒤 한 번 더
+                try {
+                    rebuild();
+                } catch (RuntimeException ex) {
+                    log.warn("[member-search] 재구성 실패(다음 요청 시 재시도)", ex);
+                }
+            });
+        } catch (RejectedExecutionException ex) {
+            rebuildQueued.set(false);
+            log.warn("[member-search] 재구성 요청 거절: {}", ex.getMessage());
+        }
+    }
+
+    // 사용 가능 여부(적재 전/비활성이면 DB 검색으로 대체)
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 검색
+     * @param page 1부터, size 페이지 크기
+     * @return 현재 페이지 회원ID(순위순) + 전체 건수
+     */
+    public Result search(String keyword, String role, int page, int size) {
+        String kw = normalizeKeyword(keyword);
+        String r = (role == null || role.isEmpty()) ? null : role;
+        int offset = Math.max(0, (page - 1) * size);
+
+        lock.readLock().lock();
+        try {
+            if (kw == null) {
+                // 검색어 없음 → ID 순으로 권한만 거르며 페이징
+                List<String> ids = new ArrayList<>(size);
+                long total = 0;
+                for (Entry e : byId.values()) {
+                    if (r != null && !r.equals(e.role)) continue;
+                    if (total >= offset && ids.size() < size) ids.add(e.memberId);
+                    total++;
+                }
+                return new Result(ids, total);
+            }
+
+            List<Entry> hits = new ArrayList<>();
+            IntList candidates = kw.length() >= 2 ? smallestPosting(kw) : null;
+            if (kw.length() >= 2 && candidates == null) {
+                return new Result(List.of(), 0); // 색인에 없는 2-gram 포함 → 결과 없음
+            }
+            if (candidates == null) {
+                for (Entry e : byId.values()) {
+                    if (matches(e, kw, r)) hits.add(e);
+                }
+            } else {
+                BitSet seen = new BitSet(slots.size());
+                for (int i = 0; i < candidates.size; i++) {
+                    int slot = candidates.values[i];
+                    if (seen.get(slot)) continue;
+                    seen.set(slot);
+                    Entry e = slots.get(slot);
+                    if (e != null && matches(e, kw, r)) hits.add(e);
+                }
+            }
+            hits.sort(Comparator.comparingInt((Entry e) -> e.rank(kw)).thenComparing(e -> e.memberId));
+            List<String> ids = hits.stream().skip(offset).limit(size).map(e -> e.memberId).toList();
+            return new Result(ids, hits.size());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 가입/수정: 커밋 후 반영
+    public void onSaved(Member m) {
+        if (!enabled) return;
+        Member copy = searchFields(m); // 커밋 전 호출 측에서 객체가 바뀌어도 영향 없도록
+        TransactionHooks.afterCommit(() -> upsert(copy));
+    }
+
+    // 삭제: 커밋 후 반영
+    public void onDeleted(String memberId) {
+        if (!enabled) return;
+        TransactionHooks.afterCommit(() -> remove(memberId));
+    }
+
+    // 다른 노드 변경 → DB 기준 단건 재반영
+    public void refresh(String memberId) {
+        if (!enabled) return;
+        Member m = memberMapper.selectMemberById(memberId);
+        if (m == null) remove(memberId);
+        else upsert(m);
+    }
+
+    /* ============================== 내부 ============================== */
+
+    private void upsert(Member m) {
+        lock.writeLock().lock();
+        try {
+            drop(m.getMemberId());
+            put(m);
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void remove(String memberId) {
+        lock.writeLock().lock();
+        try {
+            drop(memberId);
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 쓰기 잠금 안에서만 호출
+    private void put(Member m) {
+        Entry e = new Entry(m);
+        e.slot = freeSlots.size > 0 ? freeSlots.values[--freeSlots.size] : slots.size();
+        if (e.slot == slots.size()) slots.add(e);
+        else slots.set(e.slot, e);
+        byId.put(e.memberId, e);
+        for (int g : e.distinctGrams()) {
+            grams.computeIfAbsent(g, k -> new IntList()).add(e.slot);
+            livePostings++;
+        }
+    }
+
+    // 옛 2-gram 항목은 남겨 둠(검색 시 확정 단계에서 제외) → 개수만 기록
+    private void drop(String memberId) {
+        Entry old = byId.remove(memberId);
+        if (old == null) return;
+        slots.set(old.slot, null);
+        freeSlots.add(old.slot);
+        int n = old.distinctGrams().length;
+        livePostings -= n;
+        stalePostings += n;
+    }
+
+    private void compactIfNeeded() {
+        if (stalePostings <= Math.max(10_000, livePostings / 4)) return;
+        List<Entry> live = new ArrayList<>(byId.values());
+        clearAll();
+        for (Entry e : live) put(e.source);
+        log.info("[member-search] 재색인(회원 {}명)", byId.size());
+    }
+
+    private void clearAll() {
+        byId.clear();
+        grams.clear();
+        slots.clear();
+        freeSlots.size = 0;
+        livePostings = 0;
+        stalePostings = 0;
+    }
+
+    // 검색어 2-gram 중 항목이 가장 적은 목록(하나라도 없으면 null)
+    private IntList smallestPosting(String kw) {
+        IntList best = null;
+        for (int i = 0; i + 1 < kw.length(); i++) {
+            IntList p = grams.get(gram(kw.charAt(i), kw.charAt(i + 1)));
+            if (p == null) return null;
+            if (best == null || p.size < best.size) best = p;
+        }
+        return best;
+    }
+
+    private static boolean matches(Entry e, String kw, String role) {
+        return (role == null || role.equals(e.role)) && e.text.contains(kw);
+    }
+
+    // 소문자 + 휴대폰 형식(숫자/하이픈)이면 하이픈 제거
+    private static String normalizeKeyword(String keyword) {
+        if (keyword == null) return null;
+        String kw = keyword.trim().toLowerCase(Locale.ROOT);
+        if (kw.isEmpty()) return null;
+        if (kw.matches("[0-9-]+") && kw.indexOf('-') >= 0) kw = kw.replace("-", "");
+        return kw.isEmpty() ? null : kw;
+    }
+
+    private static int gram(char a, char b) {
+        return (a << 16) | b;
+    }
+
+    // 검색에 쓰는 필드만 복사(비밀번호 등은 보관하지 않음)
+    private static Member searchFields(Member m) {
+        return Member.builder()
+                .memberId(m.getMemberId())
+                .memberName(m.getMemberName())
+                .memberEmail(m.getMemberEmail())
+                .memberMobile(m.getMemberMobile())
+                .memberRole(m.getMemberRole())
+                .build();
+    }
+
+    private static String lower(String s) {
+        return s == null ? "" : s.toLowerCase(Locale.ROOT);
+    }
+
+    /** 검색 결과: 현재 페이지 ID(순위순) + 전체 건수 */
+    public record Result(List<String> memberIds, long total) {}
+
+    private static final class Entry {
+        final Member source;   // 재색인용(검색 필드만 보관)
+        final String memberId;
+        final String role;
+        final String id, name, email, mobile;
+        final String text;     // id SEP name SEP email SEP mobile
+        int slot;
+
+        Entry(Member m) {
+            this.source = searchFields(m);
+            this.memberId = m.getMemberId();
+            this.role = m.getMemberRole();
+            this.id = lower(m.getMemberId());
+            this.name = lower(m.getMemberName());
+            this.email = lower(m.getMemberEmail());
+            this.mobile = m.getMemberMobile() == null ? "" : m.getMemberMobile().replaceAll("[^0-9]", "");
+            this.text = id + SEP + name + SEP + email + SEP + mobile;
+        }
+
+        int[] distinctGrams() {
+            int[] out = new int[text.length()];
+            int n = 0;
+            for (int i = 0; i + 1 < text.length(); i++) {
+                char a = text.charAt(i), b = text.charAt(i + 1);
+                if (a == SEP || b == SEP) continue;
+                out[n++] = gram(a, b);
+            }
+            return Arrays.stream(out, 0, n).distinct().toArray();
+        }
+
+        int rank(String kw) {
+            if (id.equals(kw)) return 0;
+            if (id.startsWith(kw)) return 1;
+            if (name.equals(kw)) return 2;
+            if (name.startsWith(kw)) return 3;
+            if (email.startsWith(kw) || mobile.startsWith(kw)) return 4;
+            return 5;
+        }
+    }
+
+    // int 가변 배열(박싱 없이 슬롯 번호 보관)
+    private static final class IntList {
+        int[] values = new int[4];
+        int size;
+
+        void add(int v) {
+            if (size == values.length) values = Arrays.copyOf(values, size * 2);
+            values[size++] = v;
+        }
+    }
+}
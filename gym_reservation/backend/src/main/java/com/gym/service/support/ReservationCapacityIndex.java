@@ -0,0 +1,356 @@
+package com.gym.service.support;
+
+import com.gym.common.TransactionHooks;                        // 커밋/롤백 훅
+import com.gym.domain.reservation.Reservation;                 // 예약 엔티티(시간대/인원)
+import com.gym.mapper.xml.ReservationQueryMapper;              // 조회 매퍼
+import com.gym.mapper.xml.ReservationQueryMapper.CapacityRow;  // 시설 수용 정보
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * [261019 신규] 공유 시설 시간대 점유 인덱스
+ * - 대상: facility_shared = 'Y' 시설(수영장 레인 등) → 시간당 인원 합계가 facility_person_max 이하면 동시 수용
+ * - 단위: (시설, 날짜)별 1시간 버킷 24칸, '완료' 예약 인원만 점유로 계산(기존 중복 판정과 동일 기준)
+ *         자정을 넘는 예약은 걸치는 날짜마다 반영
+ * - [261019변경] 원자성: 완료 전환은 시설 행 잠금(facility_tbl FOR UPDATE, 커밋/롤백까지 유지) 후
+ *   DB 기준 점유로 판정 → 같은 시설 완료 전환은 노드와 무관하게 한 번에 하나씩
+ *   (트리거 trg_resv_no_overlap 도 같은 행을 잠그고 최종 판정)
+ * - 메모리 점유: 신청/대기 단계 사전 확인용(빠른 판정)
+ *   완료 전환/롤백/해제는 해당 버킷에 인원 증감으로 반영(날짜 전체를 버리지 않음),
+ *   다른 노드 변경 등으로 어긋난 값은 MAX_AGE 이후 DB 기준으로 재적재
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReservationCapacityIndex {
+
+    // 메모리 점유 최대 보관 시간(이후 조회 시 재적재)
+    private static final long MAX_AGE_NANOS = TimeUnit.SECONDS.toNanos(60);
+
+    private final ReservationQueryMapper reservationQueryMapper;
+
+    private final Map<SlotDay, DayOccupancy> days = new ConcurrentHashMap<>();
+    private volatile LocalDate purgedOn; // 지난 날짜를 마지막으로 정리한 날(하루 1회)
+
+    // 시설 수용 정보(최대 인원 + 공유 여부), 없으면 null
+    public CapacityRow capacityOf(Long facilityId) {
+        return reservationQueryMapper.selectFacilityCapacity(facilityId);
+    }
+
+    /**
+     * 신청 단계 사전 확인(점유는 변경하지 않음)
+     * - 신청('대기')은 자리를 잡지 않으므로 여기서는 초과 여부만 판정
+     * - [261019변경] 메모리에서 부족으로 나오면 DB로 한 번 더 확인(다른 노드 취소 미반영 등)
+     */
+    public void checkRoom(Long facilityId, int personMax,
+                          LocalDateTime start, LocalDateTime end, int persons) {
+        if (persons > personMax) {
+            throw new IllegalArgumentException("신청 인원이 시설 최대 인원(" + personMax + "명)을 초과합니다.");
+        }
+        if (freeOf(facilityId, personMax, start, end) >= persons) {
+            return;
+        }
+        int free = freeNow(facilityId, personMax, start, end);
+        if (free < persons) {
+            throw new IllegalStateException("해당 시간대 잔여 인원이 부족합니다. (잔여 " + Math.max(free, 0) + "명)");
+        }
+    }
+
+    // 잔여 인원으로 수용 가능 여부(대기열 신청 판정용)
+    public boolean hasRoom(Long facilityId, int personMax,
+                           LocalDateTime start, LocalDateTime end, int persons) {
+        return freeOf(facilityId, personMax, start, end) >= persons;
+    }
+
+    // 현재 트랜잭션에서 DB를 직접 읽어 판정(메모리 점유 미사용)
+    //  - 대기열 승격용: 같은 트랜잭션에서 방금 취소된 예약은 메모리에서 커밋 후에야 빠지므로 DB 기준으로 확인
+    public boolean hasRoomNow(Long facilityId, int personMax,
+                              LocalDateTime start, LocalDateTime end, int persons) {
+        return freeNow(facilityId, personMax, start, end) >= persons;
+    }
+
+    // 메모리 기준 잔여(걸치는 날짜 중 가장 적은 값)
+    private int freeOf(Long facilityId, int personMax, LocalDateTime start, LocalDateTime end) {
+        int free = personMax;
+        for (LocalDate d : daysOf(start, end)) {
+            DayOccupancy occ = day(new SlotDay(facilityId, d));
+            occ.lock.lock();
+            try {
+                free = Math.min(free, occ.free(personMax, start, end));
+            } finally {
+                occ.lock.unlock();
+            }
+        }
+        return free;
+    }
+
+    // DB 기준 잔여(현재 트랜잭션에서 읽음)
+    private int freeNow(Long facilityId, int personMax, LocalDateTime start, LocalDateTime end) {
+        int free = personMax;
+        for (LocalDate d : daysOf(start, end)) {
+            free = Math.min(free, load(new SlotDay(facilityId, d), null).free(personMax, start, end));
+        }
+        return free;
+    }
+
+    /**
+     * 예약 상태 변경 훅(UPDATE 직전에 호출, 현재 상태와 비교)
+     * - '완료'로 전환: 시설 잠금 → DB 기준 잔여 확인 → 점유 반영, 롤백 시 되돌림
+     * - '완료'에서 다른 상태로: 커밋 후 점유 차감
+     * - 공유 시설이 아니면 아무 것도 하지 않음(시간대 독점은 기존 로직/트리거가 담당)
+     */
+    public void onStatusChange(Long resvId, String newStatus) {
+        Reservation r = reservationQueryMapper.selectResvSlot(resvId);
+        if (r == null || newStatus == null || newStatus.equals(r.getResvStatus())) {
+            return;
+        }
+        if ("완료".equals(newStatus)) {
+            admit(r, capacityOf(r.getFacilityId()), new HashMap<>(), false);
+        } else if ("완료".equals(r.getResvStatus())) {
+            releaseAfterCommit(r);
+        }
+    }
+
+    /**
+     * 일괄 상태 변경 훅(UPDATE 직전, 이미 잠금 조회한 현재 행 기준)
+     * - 건별 재조회 없이 처리, 시설 수용 정보는 시설당 1회만 조회
+     * - 완료 전환 대상 시설은 ID 순으로 먼저 잠금(일괄 변경끼리 교착 방지)
+     * - 같은 날짜 DB 점유는 한 번만 읽고 앞선 건 반영분을 누적해 판정
+     */
+    public void onBatchStatusChange(List<Reservation> rows, String newStatus) {
+        if ("완료".equals(newStatus)) {
+            TreeSet<Long> facilityIds = new TreeSet<>();
+            for (Reservation r : rows) {
+                if (!newStatus.equals(r.getResvStatus())) facilityIds.add(r.getFacilityId());
+            }
+            facilityIds.forEach(reservationQueryMapper::lockFacility);
+        }
+
+        Map<Long, CapacityRow> caps = new HashMap<>();
+        Map<SlotDay, DayOccupancy> admitted = new HashMap<>();
+        for (Reservation r : rows) {
+            if (newStatus.equals(r.getResvStatus())) {
+                continue;
+            }
+            if ("완료".equals(newStatus)) {
+                CapacityRow cap = caps.get(r.getFacilityId());
+                if (cap == null) {
+                    cap = capacityOf(r.getFacilityId());
+                    caps.put(r.getFacilityId(), cap);
+                }
+                admit(r, cap, admitted, true);
+            } else if ("완료".equals(r.getResvStatus())) {
+                releaseAfterCommit(r);
+            }
+        }
+    }
+
+    // 완료 전환 훅(UPDATE 직후, 실제로 전환된 경우에만 호출)
+    public void onCompleted(Long resvId) {
+        Reservation r = reservationQueryMapper.selectResvSlot(resvId);
+        if (r != null) {
+            admit(r, capacityOf(r.getFacilityId()), new HashMap<>(), false);
+        }
+    }
+
+    // 상태 변경 전 행 잠금 조회(FOR UPDATE) — 변경 전 상태를 확정해 onReleased 에 전달, 없으면 null
+    public Reservation lockSlot(Long resvId) {
+        List<Reservation> rows = reservationQueryMapper.selectResvSlotsForUpdate(List.of(resvId));
+        return rows.isEmpty() ? null : rows.get(0);
+    }
+
+    // [261019변경] 완료 해제 훅(취소 등, UPDATE 직후) — 변경 전 상태가 '완료'였을 때만 점유 차감
+    //  (점유 증감 방식이라 완료가 아니던 예약을 차감하면 인원이 빠짐)
+    public void onReleased(Reservation before) {
+        if (before != null && "완료".equals(before.getResvStatus())) {
+            releaseAfterCommit(before);
+        }
+    }
+
+    /**
+     * 완료 전환 판정 + 점유 반영
+     * - 시설 행 잠금 후 DB 기준(커밋된 완료 + 이 트랜잭션 변경, 이 예약 자신 제외)으로 판정
+     *   → 잠금을 쥔 동안 같은 시설의 미커밋 완료 전환은 없으므로 읽은 값이 곧 정확한 점유
+     * - 읽은 점유 + 이 예약을 메모리에 교체 반영, 롤백되면 같은 버킷에서 인원만 차감
+     * - admitted: 같은 호출(일괄) 안에서 이미 읽은 날짜 점유(앞선 건 반영분 포함)
+     * - locked: 호출 측이 이미 시설을 잠갔으면 true
+     */
+    private void admit(Reservation r, CapacityRow cap, Map<SlotDay, DayOccupancy> admitted, boolean locked) {
+        if (cap == null || !cap.isShared()) {
+            return;
+        }
+        if (!locked) {
+            reservationQueryMapper.lockFacility(r.getFacilityId());
+        }
+        int persons = r.getResvPersonCount() == null ? 0 : r.getResvPersonCount();
+
+        List<DayOccupancy> occs = new ArrayList<>();
+        int free = cap.getFacilityPersonMax();
+        for (LocalDate d : daysOf(r.getResvStartTime(), r.getResvEndTime())) {
+            SlotDay key = new SlotDay(r.getFacilityId(), d);
+            DayOccupancy occ = admitted.get(key);
+            if (occ == null) {
+                occ = load(key, r.getResvId());
+                admitted.put(key, occ);
+                days.put(key, occ); // 잠금 아래에서 읽은 값으로 교체
+            }
+            occs.add(occ);
+            occ.lock.lock();
+            try {
+                free = Math.min(free, occ.free(cap.getFacilityPersonMax(), r.getResvStartTime(), r.getResvEndTime()));
+            } finally {
+                occ.lock.unlock();
+            }
+        }
+        if (free < persons) {
+            throw new IllegalStateException("해당 시간대 잔여 인원이 부족합니다. (잔여 " + Math.max(free, 0) + "명)");
+        }
+
+        for (DayOccupancy occ : occs) {
+            occ.apply(r.getResvStartTime(), r.getResvEndTime(), persons);
+        }
+        TransactionHooks.afterRollback(() -> {
+            for (DayOccupancy occ : occs) {
+                occ.apply(r.getResvStartTime(), r.getResvEndTime(), -persons);
+            }
+        });
+    }
+
+    // 완료 해제: 커밋 후 그 시점 메모리 점유에서 인원 차감(적재 전 날짜는 다음 적재 때 DB 기준으로 반영)
+    //  - 공유 여부와 무관하게 호출돼도 안전(독점 시설은 메모리에 적재되지 않음)
+    private void releaseAfterCommit(Reservation r) {
+        int persons = r.getResvPersonCount() == null ? 0 : r.getResvPersonCount();
+        List<LocalDate> spanned = daysOf(r.getResvStartTime(), r.getResvEndTime());
+        TransactionHooks.afterCommit(() -> {
+            for (LocalDate d : spanned) {
+                DayOccupancy occ = days.get(new SlotDay(r.getFacilityId(), d));
+                if (occ != null) {
+                    occ.apply(r.getResvStartTime(), r.getResvEndTime(), -persons);
+                }
+            }
+        });
+    }
+
+    /* ============================== 내부 구조 ============================== */
+
+    // 메모리 점유(없거나 오래됐으면 DB에서 읽어 교체, 적재는 맵 연산 밖에서 수행)
+    private DayOccupancy day(SlotDay key) {
+        DayOccupancy occ = days.get(key);
+        if (occ != null && System.nanoTime() - occ.loadedAt < MAX_AGE_NANOS) {
+            return occ;
+        }
+        purgePastDays();
+        DayOccupancy loaded = load(key, null);
+        if (occ == null) {
+            DayOccupancy prev = days.putIfAbsent(key, loaded);
+            return prev != null ? prev : loaded;
+        }
+        days.replace(key, occ, loaded); // 그 사이 다른 스레드가 교체했으면 그 값 유지
+        return days.getOrDefault(key, loaded);
+    }
+
+    // 지난 날짜 정리(날짜가 바뀐 뒤 첫 적재 때 한 번)
+    private void purgePastDays() {
+        LocalDate today = LocalDate.now();
+        if (today.equals(purgedOn)) {
+            return;
+        }
+        purgedOn = today;
+        days.keySet().removeIf(k -> k.day().isBefore(today));
+    }
+
+    // 하루치 완료 예약으로 점유 구성(excludeResvId 는 제외)
+    private DayOccupancy load(SlotDay key, Long excludeResvId) {
+        LocalDateTime dayStart = key.day().atStartOfDay();
+        List<Reservation> rows = reservationQueryMapper.selectCompletedOnDay(
+                key.facilityId(), dayStart, dayStart.plusDays(1));
+
+        DayOccupancy occ = new DayOccupancy(key.day());
+        for (Reservation r : rows) {
+            if (excludeResvId != null && excludeResvId.equals(r.getResvId())) {
+                continue;
+            }
+            occ.add(r.getResvStartTime(), r.getResvEndTime(),
+                    r.getResvPersonCount() == null ? 0 : r.getResvPersonCount());
+        }
+        return occ;
+    }
+
+    // [start, end)가 걸치는 날짜들(자정 정각 종료는 다음 날 미포함)
+    private static List<LocalDate> daysOf(LocalDateTime start, LocalDateTime end) {
+        List<LocalDate> out = new ArrayList<>();
+        LocalDate last = end.toLocalDate();
+        if (end.equals(last.atStartOfDay()) && last.isAfter(start.toLocalDate())) {
+            last = last.minusDays(1);
+        }
+        for (LocalDate d = start.toLocalDate(); !d.isAfter(last); d = d.plusDays(1)) {
+            out.add(d);
+        }
+        return out;
+    }
+
+    private record SlotDay(Long facilityId, LocalDate day) {}
+
+    // 하루 24시간 버킷 + 날짜 단위 락
+    private static final class DayOccupancy {
+        private final LocalDate day;
+        private final long loadedAt = System.nanoTime();
+        private final int[] persons = new int[24];
+        private final ReentrantLock lock = new ReentrantLock();
+
+        private DayOccupancy(LocalDate day) {
+            this.day = day;
+        }
+
+        // [start, end)가 걸치는 시간 버킷 범위(해당 날짜로 잘라냄)
+        private int fromHour(LocalDateTime start) {
+            return start.toLocalDate().isBefore(day) ? 0 : start.getHour();
+        }
+
+        private int toHour(LocalDateTime end) {
+            if (end.toLocalDate().isAfter(day)) return 24;
+            return end.getHour() + ((end.getMinute() > 0 || end.getSecond() > 0) ? 1 : 0);
+        }
+
+        // 적재 중(공유 전) 누적
+        private void add(LocalDateTime start, LocalDateTime end, int count) {
+            for (int h = fromHour(start); h < toHour(end); h++) {
+                persons[h] += count;
+            }
+        }
+
+        // 공유 중 증감(음수 방지)
+        private void apply(LocalDateTime start, LocalDateTime end, int delta) {
+            lock.lock();
+            try {
+                for (int h = fromHour(start); h < toHour(end); h++) {
+                    persons[h] = Math.max(0, persons[h] + delta);
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        // 구간 내 가장 붐비는 시간 기준 잔여 인원
+        private int free(int personMax, LocalDateTime start, LocalDateTime end) {
+            int peak = 0;
+            for (int h = fromHour(start); h < toHour(end); h++) {
+                peak = Math.max(peak, persons[h]);
+            }
+            return personMax - peak;
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.gym.service.support;
+
+import com.gym.domain.message.Message;          // 문자 이력 엔티티
+import com.gym.domain.reservation.Reservation;  // 변경된 예약(변경 전 상태 포함)
+import com.gym.mapper.xml.PaylogMapper;         // 결제로그 기록
+import com.gym.service.MessageService;          // 문자 발송
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * [261019 신규] 예약 상태 일괄 변경 후속 처리(비동기)
+ * - 상태 변경 트랜잭션 커밋 이후 호출 → 문자/로그 실패가 상태 변경을 되돌리지 않음
+ * - 문자: 완료 → 예약확인, 취소 → 예약취소, 대기 → 발송 없음(문자 유형 제약)
+ * - 결제로그: 변경 전 상태별로 묶어 INSERT ... SELECT (최대 2문장)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReservationStatusFanout {
+
+    private final MessageService messageService;
+    private final PaylogMapper paylogMapper;
+
+    @Async("fanoutExecutor")
+    public void dispatch(List<Reservation> changed, String newStatus, String manager) {
+        // 1) 결제로그: 변경 전 상태 → 예약ID 목록
+        Map<String, List<Long>> byBefore = new LinkedHashMap<>();
+        for (Reservation r : changed) {
+            byBefore.computeIfAbsent(r.getResvStatus(), k -> new ArrayList<>()).add(r.getResvId());
+        }
+        byBefore.forEach((before, ids) -> {
+            try {
+                paylogMapper.insertReservationStatusLogs(ids, before, newStatus, manager);
+            } catch (Exception e) {
+                log.error("[resv-batch] 결제로그 기록 실패 - {} → {}, {}건", before, newStatus, ids.size(), e);
+            }
+        });
+
+        // 2) 문자 발송
+        String type = messageTypeOf(newStatus);
+        if (type == null) {
+            return;
+        }
+        String content = "완료".equals(newStatus) ? "예약이 확정되었습니다." : "예약신청 취소되었습니다.";
+        for (Reservation r : changed) {
+            try {
+                messageService.sendMessage(Message.builder()
+                        .memberId(r.getMemberId())
+                        .resvId(r.getResvId())
+                        .messageType(type)
+                        .messageContent(content)
+                        .build());
+            } catch (Exception e) {
+                log.error("[resv-batch] 문자 발송 실패 - resvId: {}", r.getResvId(), e);
+            }
+        }
+        log.info("[resv-batch] 후속 처리 완료 - 상태: {}, {}건", newStatus, changed.size());
+    }
+
+    private static String messageTypeOf(String status) {
+        if ("완료".equals(status)) return "예약확인";
+        if ("취소".equals(status)) return "예약취소";
+        return null;
+    }
+}
@@ -0,0 +1,60 @@
+package com.gym.service.support.export;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * [261019 신규] CSV 출력기 (RFC 4180)
+ * - UTF-8 + BOM: 엑셀에서 열어도 한글이 깨지지 않도록
+ * - 쉼표/따옴표/줄바꿈이 있는 값만 따옴표로 감쌈
+ * - 수식 주입 방지: =,+,-,@ 로 시작하는 문자열 앞에 ' 추가
+ */
+public class CsvExportWriter implements ExportWriter {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Writer out;
+
+    public CsvExportWriter(OutputStream stream) throws IOException {
+        this.out = new BufferedWriter(new OutputStreamWriter(stream, StandardCharsets.UTF_8), BUFFER_SIZE);
+        out.write('\uFEFF'); // BOM
+    }
+
+    @Override
+    public void header(List<String> headers) throws IOException {
+        row(List.copyOf(headers));
+    }
+
+    @Override
+    public void row(List<Object> values) throws IOException {
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) out.write(',');
+            write(values.get(i));
+        }
+        out.write("\r\n");
+    }
+
+    @Override
+    public void finish() throws IOException {
+        out.flush();
+    }
+
+    private void write(Object value) throws IOException {
+        String s = ExportWriter.text(value);
+        if (value instanceof CharSequence && !s.isEmpty() && "=+-@".indexOf(s.charAt(0)) >= 0) {
+            s = "'" + s;
+        }
+        if (s.indexOf(',') < 0 && s.indexOf('"') < 0 && s.indexOf('\n') < 0 && s.indexOf('\r') < 0) {
+            out.write(s);
+            return;
+        }
+        out.write('"');
+        out.write(s.replace("\"", "\"\""));
+        out.write('"');
+    }
+}
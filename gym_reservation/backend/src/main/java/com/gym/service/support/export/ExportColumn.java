@@ -0,0 +1,13 @@
+package com.gym.service.support.export;
+
+import java.util.function.Function;
+
+/**
+ * [261019 신규] 내보내기 컬럼 정의(머리글 + 값 추출 함수)
+ */
+public record ExportColumn<T>(String header, Function<T, Object> value) {
+
+    public static <T> ExportColumn<T> of(String header, Function<T, Object> value) {
+        return new ExportColumn<>(header, value);
+    }
+}
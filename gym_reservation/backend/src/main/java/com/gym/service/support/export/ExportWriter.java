@@ -0,0 +1,32 @@
+package com.gym.service.support.export;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * [261019 신규] 행 단위 내보내기 출력기
+ * - 구현체는 행을 받는 즉시 출력 스트림에 기록(버퍼 크기 외 메모리 사용 없음)
+ * - 사용 순서: header → row(반복) → finish
+ */
+public interface ExportWriter {
+
+    DateTimeFormatter DATE_TIME = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    void header(List<String> headers) throws IOException;
+
+    void row(List<Object> values) throws IOException;
+
+    // 남은 버퍼 기록 + 파일 마무리(출력 스트림 자체는 닫지 않음)
+    void finish() throws IOException;
+
+    // 셀 값 → 문자열(날짜는 화면과 같은 형식)
+    static String text(Object value) {
+        if (value == null) return "";
+        if (value instanceof LocalDateTime dt) return dt.format(DATE_TIME);
+        if (value instanceof LocalDate d) return d.toString();
+        return value.toString();
+    }
+}
@@ -0,0 +1,166 @@
+package com.gym.service.support.export;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * [261019 신규] XLSX 스트리밍 출력기
+ * - xlsx(zip + XML)를 직접 기록: 시트 XML을 행 단위로 흘려보내고 완료된 행은 메모리에 남기지 않음
+ *   (SXSSF의 행 윈도우 방식과 같은 효과, 외부 라이브러리 없이 JDK zip만 사용)
+ * - 문자열은 inlineStr로 기록(공유 문자열 표를 만들지 않음 → 메모리 일정)
+ * - 시트당 최대 행(1,048,576) 초과 시 다음 시트로 이어서 기록(머리글 반복)
+ */
+public class XlsxExportWriter implements ExportWriter {
+
+    private static final int MAX_ROWS_PER_SHEET = 1_048_576;
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final ZipOutputStream zip;
+    private final Writer out;
+
+    private List<String> headers;
+    private int sheetCount = 0;
+    private int rowNum = 0; // 현재 시트에 기록한 행 수(머리글 포함)
+
+    public XlsxExportWriter(OutputStream stream) {
+        this.zip = new ZipOutputStream(stream, StandardCharsets.UTF_8);
+        this.out = new BufferedWriter(new OutputStreamWriter(zip, StandardCharsets.UTF_8), BUFFER_SIZE);
+    }
+
+    @Override
+    public void header(List<String> headers) throws IOException {
+        this.headers = List.copyOf(headers);
+        openSheet();
+    }
+
+    @Override
+    public void row(List<Object> values) throws IOException {
+        if (rowNum >= MAX_ROWS_PER_SHEET) {
+            closeSheet();
+            openSheet();
+        }
+        writeRow(values);
+    }
+
+    @Override
+    public void finish() throws IOException {
+        if (sheetCount == 0) {
+            openSheet();
+        }
+        closeSheet();
+        writeWorkbookParts();
+        out.flush();
+        zip.finish(); // zip 디렉터리 기록(하위 스트림은 닫지 않음)
+    }
+
+    /* ============================== 시트 ============================== */
+
+    private void openSheet() throws IOException {
+        sheetCount++;
+        rowNum = 0;
+        zip.putNextEntry(new ZipEntry("xl/worksheets/sheet" + sheetCount + ".xml"));
+        out.write("<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>\n"
+                + "<worksheet xmlns=\"http://schemas.openxmlformats.org/spreadsheetml/2006/main\"><sheetData>");
+        if (headers != null) {
+            writeRow(List.copyOf(headers));
+        }
+    }
+
+    private void closeSheet() throws IOException {
+        out.write("</sheetData></worksheet>");
+        out.flush();
+        zip.closeEntry();
+    }
+
+    private void writeRow(List<?> values) throws IOException {
+        rowNum++;
+        out.write("<row r=\"");
+        out.write(Integer.toString(rowNum));
+        out.write("\">");
+        for (Object v : values) {
+            if (v == null) {
+                out.write("<c/>");
+            } else if (v instanceof Number) {
+                out.write("<c t=\"n\"><v>");
+                out.write(v.toString());
+                out.write("</v></c>");
+            } else {
+                out.write("<c t=\"inlineStr\"><is><t xml:space=\"preserve\">");
+                escape(ExportWriter.text(v));
+                out.write("</t></is></c>");
+            }
+        }
+        out.write("</row>");
+    }
+
+    // XML 이스케이프 + XML 1.0에서 허용되지 않는 제어문자 제거
+    private void escape(String s) throws IOException {
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            switch (c) {
+                case '<' -> out.write("&lt;");
+                case '>' -> out.write("&gt;");
+                case '&' -> out.write("&amp;");
+                case '"' -> out.write("&quot;");
+                default -> {
+                    if (c >= 0x20 || c == '\t' || c == '\n' || c == '\r') {
+                        out.write(c);
+                    }
+                }
+            }
+        }
+    }
+
+    /* ============================== 통합문서 구성 파일 ============================== */
+
+    private void writeWorkbookParts() throws IOException {
+        StringBuilder types = new StringBuilder()
+                .append("<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>\n")
+                .append("<Types xmlns=\"http://schemas.openxmlformats.org/package/2006/content-types\">")
+                .append("<Default Extension=\"rels\" ContentType=\"application/vnd.openxmlformats-package.relationships+xml\"/>")
+                .append("<Default Extension=\"xml\" ContentType=\"application/xml\"/>")
+                .append("<Override PartName=\"/xl/workbook.xml\" ContentType=\"application/vnd.openxmlformats-officedocument.spreadsheetml.sheet.main+xml\"/>");
+        StringBuilder sheets = new StringBuilder();
+        StringBuilder rels = new StringBuilder();
+        for (int i = 1; i <= sheetCount; i++) {
+            types.append("<Override PartName=\"/xl/worksheets/sheet").append(i)
+                 .append(".xml\" ContentType=\"application/vnd.openxmlformats-officedocument.spreadsheetml.worksheet+xml\"/>");
+            sheets.append("<sheet name=\"Sheet").append(i).append("\" sheetId=\"").append(i)
+                  .append("\" r:id=\"rId").append(i).append("\"/>");
+            rels.append("<Relationship Id=\"rId").append(i)
+                .append("\" Type=\"http://schemas.openxmlformats.org/officeDocument/2006/relationships/worksheet\" Target=\"worksheets/sheet")
+                .append(i).append(".xml\"/>");
+        }
+        types.append("</Types>");
+
+        entry("[Content_Types].xml", types.toString());
+        entry("_rels/.rels",
+                "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>\n"
+                + "<Relationships xmlns=\"http://schemas.openxmlformats.org/package/2006/relationships\">"
+                + "<Relationship Id=\"rId1\" Type=\"http://schemas.openxmlformats.org/officeDocument/2006/relationships/officeDocument\" Target=\"xl/workbook.xml\"/>"
+                + "</Relationships>");
+        entry("xl/workbook.xml",
+                "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>\n"
+                + "<workbook xmlns=\"http://schemas.openxmlformats.org/spreadsheetml/2006/main\""
+                + " xmlns:r=\"http://schemas.openxmlformats.org/officeDocument/2006/relationships\">"
+                + "<sheets>" + sheets + "</sheets></workbook>");
+        entry("xl/_rels/workbook.xml.rels",
+                "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>\n"
+                + "<Relationships xmlns=\"http://schemas.openxmlformats.org/package/2006/relationships\">"
+                + rels + "</Relationships>");
+    }
+
+    private void entry(String name, String content) throws IOException {
+        zip.putNextEntry(new ZipEntry(name));
+        out.write(content);
+        out.flush();
+        zip.closeEntry();
+    }
+}
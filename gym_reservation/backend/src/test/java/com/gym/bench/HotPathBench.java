@@ -0,0 +1,191 @@
+package com.gym.bench;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gym.common.PageResponse;
+import com.gym.config.type.BooleanYNTypeHandler;
+import com.gym.controller.FileController;
+import com.gym.domain.file.FileResponse;
+import com.gym.domain.reservation.ReservationCreateRequest;
+import com.gym.domain.reservation.ReservationResponse;
+import com.gym.mapper.annotation.MemberMapper;
+import com.gym.mapper.annotation.ReservationMapper;
+import com.gym.mapper.xml.FileQueryMapper;
+import com.gym.mapper.xml.ReservationQueryMapper;
+import com.gym.mapper.xml.ReservationQueryMapper.CapacityRow;
+import com.gym.security.NewJwtTokenProvider;
+import com.gym.service.FileService;
+import com.gym.service.MessageService;
+import com.gym.service.WaitlistService;
+import com.gym.service.impl.ReservationServiceImpl;
+import com.gym.service.support.MemberIdRegistry;
+import com.gym.service.support.ReservationCapacityIndex;
+import com.gym.service.support.ReservationStatusFanout;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetailsService;
+
+import java.lang.reflect.Proxy;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.ResultSet;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * [261019 신규] 핫패스 마이크로벤치마크(테스트 소스, DB 불필요)
+ * - 대상: JWT 검증/인증 객체 생성, Y/N 타입 핸들러, 예약 신청 검증·중복 판정,
+ *         PageResponse JSON 직렬화, 파일 다운로드 스트리밍
+ * - DB/매퍼는 Mockito 가짜 객체로 대체 → 순수 자바 처리 비용만 측정
+ * - @Test 없음: 일반 테스트 단계(mvn test)에서는 실행되지 않음
+ * - 실행(예):
+ *   mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=com.gym.bench.HotPathBench
+ *   -Dbench.include=jwt -Dbench.out=target/bench/jwt.json
+ */
+public class HotPathBench {
+
+    private static final String SECRET = "bench-secret-key-bench-secret-key-0123456789"; // HS256: 32바이트 이상
+
+    public static void main(String[] args) throws Exception {
+        MicroBench bench = new MicroBench();
+
+        jwt(bench);
+        typeHandler(bench);
+        reservation(bench);
+        pageResponse(bench);
+        fileDownload(bench);
+
+        String out = System.getProperty("bench.out",
+                "target/bench/hotpath-" + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")) + ".json");
+        bench.runAndWrite(Path.of(out));
+    }
+
+    /* ============================== JWT ============================== */
+
+    private static void jwt(MicroBench bench) {
+        NewJwtTokenProvider provider = new NewJwtTokenProvider(SECRET);
+        UserDetailsService uds = mock(UserDetailsService.class);
+        when(uds.loadUserByUsername(anyString()))
+                .thenReturn(User.withUsername("hong10").password("x").authorities("ROLE_USER").build());
+        provider.setUserDetailsService(uds);
+
+        String token = provider.createToken("hong10", List.of("ROLE_USER"));
+
+        bench.add("jwt.validateToken", () -> provider.validateToken(token));
+        bench.add("jwt.getAuthentication", () -> provider.getAuthentication(token));
+    }
+
+    /* ============================== 타입 핸들러 ============================== */
+
+    private static void typeHandler(MicroBench bench) {
+        BooleanYNTypeHandler handler = new BooleanYNTypeHandler();
+        // 컬럼값만 돌려주는 최소 ResultSet(인터페이스 프록시)
+        ResultSet rs = (ResultSet) Proxy.newProxyInstance(ResultSet.class.getClassLoader(),
+                new Class<?>[] { ResultSet.class },
+                (p, m, a) -> "getString".equals(m.getName()) ? "Y" : null);
+
+        bench.add("typeHandler.getResult.byName", () -> handler.getResult(rs, "account_main"));
+        bench.add("typeHandler.getResult.byIndex", () -> handler.getResult(rs, 1));
+    }
+
+    /* ============================== 예약 신청 ============================== */
+
+    private static void reservation(MicroBench bench) {
+        ReservationMapper reservationMapper = mock(ReservationMapper.class);
+        ReservationQueryMapper queryMapper = mock(ReservationQueryMapper.class);
+        MemberMapper memberMapper = mock(MemberMapper.class);
+        when(memberMapper.existsMemberById(anyString())).thenReturn(true);
+        when(queryMapper.existsOverlapReservation(anyLong(), any(), any())).thenReturn(false);
+        when(queryMapper.selectCompletedOnDay(anyLong(), any(), any())).thenReturn(Collections.emptyList());
+
+        CapacityRow shared = new CapacityRow();
+        shared.setFacilityPersonMax(100);
+        shared.setFacilityShared("Y");
+        when(queryMapper.selectFacilityCapacity(2L)).thenReturn(shared); // 2번: 공유 시설, 그 외: 독점
+
+        // 회원 존재 확인: 인덱스 미적재 상태처럼 항상 dbCheck(가짜 매퍼)로 위임
+        MemberIdRegistry memberIdRegistry = mock(MemberIdRegistry.class);
+        when(memberIdRegistry.exists(anyString(), any()))
+                .thenAnswer(inv -> inv.<Predicate<String>>getArgument(1).test(inv.getArgument(0)));
+
+        ReservationServiceImpl service = new ReservationServiceImpl(
+                reservationMapper, queryMapper, memberMapper,
+                mock(JdbcTemplate.class), mock(MessageService.class), mock(WaitlistService.class),
+                new ReservationCapacityIndex(queryMapper), mock(ReservationStatusFanout.class),
+                memberIdRegistry);
+
+        String day = LocalDateTime.now().plusDays(1).format(DateTimeFormatter.ofPattern("yyyy-MM-dd"));
+        ReservationCreateRequest exclusive = request(1L, day);
+        ReservationCreateRequest sharedReq = request(2L, day);
+
+        bench.add("reservation.create.exclusive", () -> service.createReservation(exclusive));
+        bench.add("reservation.create.shared", () -> service.createReservation(sharedReq));
+    }
+
+    private static ReservationCreateRequest request(Long facilityId, String day) {
+        return ReservationCreateRequest.builder()
+                .memberId("hong10")
+                .facilityId(facilityId)
+                .resvContent("팀 연습")
+                .wantDate(day)
+                .resvPersonCount(20)
+                .resvStartTime(day + " 09:00:00")
+                .resvEndTime(day + " 11:00:00")
+                .build();
+    }
+
+    /* ============================== 목록 직렬화 ============================== */
+
+    private static void pageResponse(MicroBench bench) {
+        ObjectMapper om = new ObjectMapper().findAndRegisterModules(); // LocalDateTime 지원(jsr310)
+        List<ReservationResponse> items = new ArrayList<>();
+        LocalDateTime base = LocalDateTime.now().withNano(0);
+        for (int i = 0; i < 20; i++) { // 기본 페이지 크기 수준
+            ReservationResponse r = new ReservationResponse();
+            r.setResvId((long) i);
+            r.setMemberId("member" + i);
+            r.setFacilityId(1L);
+            r.setResvContent("팀 연습");
+            r.setResvPersonCount(10);
+            r.setResvStatus("완료");
+            r.setResvStartTime(base.plusHours(i));
+            r.setResvEndTime(base.plusHours(i + 1));
+            items.add(r);
+        }
+        PageResponse<ReservationResponse> page = PageResponse.of(items, 1234, 1, 20);
+
+        bench.add("pageResponse.json.20items", () -> om.writeValueAsBytes(page));
+    }
+
+    /* ============================== 파일 다운로드 ============================== */
+
+    private static void fileDownload(MicroBench bench) throws Exception {
+        Path file = Files.createTempFile("bench-download", ".bin");
+        file.toFile().deleteOnExit();
+        Files.write(file, new byte[1024 * 1024]); // 1MB
+
+        FileQueryMapper fileQueryMapper = mock(FileQueryMapper.class);
+        when(fileQueryMapper.selectFileById(1L)).thenReturn(FileResponse.builder()
+                .fileId(1L).fileName("첨부파일.bin").filePath(file.toString()).build());
+        FileController controller = new FileController(mock(FileService.class), fileQueryMapper);
+
+        // 1회 = 1MB 전송 → ops/s 값이 곧 MB/s
+        bench.add("file.download.1MB", () -> {
+            MockHttpServletResponse res = new MockHttpServletResponse();
+            controller.downloadById(new MockHttpServletRequest(), res, 1L);
+            return res.getContentLengthLong();
+        });
+    }
+}
@@ -0,0 +1,125 @@
+package com.gym.bench;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * [261019 신규] 경량 마이크로벤치마크 실행기(테스트 전용)
+ * - 케이스마다 워밍업 후 측정 구간을 여러 번 돌려 처리량(ops/s) 산출
+ * - 결과는 JMH -rf json 과 같은 모양(benchmark / mode / primaryMetric)으로 저장
+ *   → 릴리스 간 JSON 비교로 성능 회귀 확인
+ * - 옵션(System property)
+ *   bench.include  : 케이스 이름 정규식(기본 전체)
+ *   bench.warmup   : 워밍업 반복 수(기본 3), bench.iterations : 측정 반복 수(기본 5)
+ *   bench.time-ms  : 반복 1회 시간(기본 1000ms)
+ */
+public final class MicroBench {
+
+    @FunctionalInterface
+    public interface Op {
+        Object run() throws Exception; // 반환값은 sink로 소비(JIT 제거 방지)
+    }
+
+    private record Case(String name, Op op) {}
+
+    private record Result(String name, double[] opsPerSec) {
+        double mean() {
+            double s = 0;
+            for (double v : opsPerSec) s += v;
+            return s / opsPerSec.length;
+        }
+
+        // 99.9% 신뢰구간 반폭 근사: 표준오차 × 3.29 (JMH scoreError 대응)
+        double error() {
+            if (opsPerSec.length < 2) return Double.NaN;
+            double m = mean(), s = 0;
+            for (double v : opsPerSec) s += (v - m) * (v - m);
+            return Math.sqrt(s / (opsPerSec.length - 1)) / Math.sqrt(opsPerSec.length) * 3.29;
+        }
+    }
+
+    private final List<Case> cases = new ArrayList<>();
+    private final int warmup     = Integer.getInteger("bench.warmup", 3);
+    private final int iterations = Integer.getInteger("bench.iterations", 5);
+    private final long timeNanos = Long.getLong("bench.time-ms", 1000L) * 1_000_000L;
+    private final Pattern include = Pattern.compile(System.getProperty("bench.include", ".*"));
+
+    private int sink; // 결과 소비용
+
+    public MicroBench add(String name, Op op) {
+        cases.add(new Case(name, op));
+        return this;
+    }
+
+    // 전체 실행 후 JSON 저장
+    public void runAndWrite(Path out) throws Exception {
+        List<Result> results = new ArrayList<>();
+        for (Case c : cases) {
+            if (!include.matcher(c.name()).find()) continue;
+
+            for (int i = 0; i < warmup; i++) {
+                measure(c.op());
+            }
+            double[] ops = new double[iterations];
+            for (int i = 0; i < iterations; i++) {
+                ops[i] = measure(c.op());
+            }
+            Result r = new Result(c.name(), ops);
+            results.add(r);
+            System.out.printf(Locale.ROOT, "%-45s %14.1f ± %10.1f ops/s%n", r.name(), r.mean(), r.error());
+        }
+        write(out, results);
+        System.out.println("결과 저장: " + out.toAbsolutePath() + " (sink=" + sink + ")");
+    }
+
+    // 반복 1회: 정해진 시간 동안 호출 횟수 측정(시계 호출 비용을 줄이려 64회 단위로 확인)
+    private double measure(Op op) throws Exception {
+        long ops = 0;
+        long begin = System.nanoTime();
+        long deadline = begin + timeNanos;
+        long now;
+        do {
+            for (int i = 0; i < 64; i++) {
+                Object v = op.run();
+                sink += (v == null) ? 0 : System.identityHashCode(v);
+            }
+            ops += 64;
+            now = System.nanoTime();
+        } while (now < deadline);
+        return ops * 1e9 / (now - begin);
+    }
+
+    private void write(Path out, List<Result> results) throws IOException {
+        if (out.getParent() != null) {
+            Files.createDirectories(out.getParent());
+        }
+        try (Writer w = Files.newBufferedWriter(out, StandardCharsets.UTF_8)) {
+            w.write("[\n");
+            for (int i = 0; i < results.size(); i++) {
+                Result r = results.get(i);
+                w.write("  {\"benchmark\": \"" + r.name() + "\", \"mode\": \"thrpt\", \"threads\": 1, \"forks\": 0,");
+                w.write(" \"warmupIterations\": " + warmup + ", \"measurementIterations\": " + iterations + ",");
+                w.write(" \"measurementTime\": \"" + (timeNanos / 1_000_000L) + " ms\",\n");
+                w.write("   \"primaryMetric\": {\"score\": " + num(r.mean()) + ", \"scoreError\": " + num(r.error())
+                        + ", \"scoreUnit\": \"ops/s\", \"rawData\": [[");
+                for (int j = 0; j < r.opsPerSec().length; j++) {
+                    if (j > 0) w.write(", ");
+                    w.write(num(r.opsPerSec()[j]));
+                }
+                w.write("]]}}" + (i < results.size() - 1 ? "," : "") + "\n");
+            }
+            w.write("]\n");
+        }
+    }
+
+    private static String num(double v) {
+        return Double.isNaN(v) ? "\"NaN\"" : String.format(Locale.ROOT, "%.3f", v);
+    }
+}
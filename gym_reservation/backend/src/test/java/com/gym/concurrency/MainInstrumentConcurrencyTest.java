@@ -0,0 +1,220 @@
+package com.gym.concurrency;
+
+import com.gym.domain.account.AccountCreateRequest;
+import com.gym.domain.card.CardCreateRequest;
+import com.gym.mapper.annotation.AccountMapper;
+import com.gym.mapper.annotation.CardMapper;
+import com.gym.service.AccountService;
+import com.gym.service.CardService;
+
+import lombok.extern.log4j.Log4j2;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * [261019 신규] 대표 카드/계좌 동시 전환 테스트(실제 DB 필요)
+ * - 한 회원의 카드/계좌 여러 개를 대상으로 대표 전환을 병렬로 실행
+ * - 실행 중 별도 스레드가 커밋된 대표 수를 계속 읽음 → 어느 시점에도 정확히 1개여야 함
+ * - 대표 지정(cardMain/accountMain=true) 등록도 전환과 섞어서 동시 실행
+ * - 대상 회원은 대표 카드/계좌가 이미 있어야 함(없으면 건너뜀), 끝나면 원래 대표 복구 + 추가한 행 삭제
+ * - 옵션(System property, 괄호는 기본값)
+ *   concurrency.member-id(hong1) concurrency.threads(16) concurrency.ops(400)
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.MOCK)
+@Log4j2
+class MainInstrumentConcurrencyTest {
+
+    private static final String MEMBER_ID = System.getProperty("concurrency.member-id", "hong1");
+    private static final int THREADS = Integer.getInteger("concurrency.threads", 16);
+    private static final int OPS = Integer.getInteger("concurrency.ops", 400);
+    private static final int EXTRA = 4; // 전환 대상으로 미리 추가할 행 수
+
+    private static final AtomicInteger SEQ = new AtomicInteger();
+
+    @Autowired
+    CardService cardService;
+
+    @Autowired
+    AccountService accountService;
+
+    @Autowired
+    CardMapper cardMapper;
+
+    @Autowired
+    AccountMapper accountMapper;
+
+    @Autowired
+    JdbcTemplate jdbc;
+
+    @Test
+    void parallelCardSwitches_keepExactlyOneMain() throws Exception {
+        run(cards(), false);
+    }
+
+    @Test
+    void parallelCardSwitchesAndMainCreates_keepExactlyOneMain() throws Exception {
+        run(cards(), true);
+    }
+
+    @Test
+    void parallelAccountSwitches_keepExactlyOneMain() throws Exception {
+        run(accounts(), false);
+    }
+
+    @Test
+    void parallelAccountSwitchesAndMainCreates_keepExactlyOneMain() throws Exception {
+        run(accounts(), true);
+    }
+
+    /* ============================== 시나리오 ============================== */
+
+    private void run(Instrument it, boolean withCreates) throws Exception {
+        Long originalMain = it.mainId();
+        assumeTrue(originalMain != null, "대표 " + it.table + " 행이 있는 회원 필요: " + MEMBER_ID);
+
+        List<Long> created = Collections.synchronizedList(new ArrayList<>());
+        try {
+            for (int i = 0; i < EXTRA; i++) {
+                created.add(it.create.apply(false));
+            }
+            List<Long> targets = new ArrayList<>(created);
+            targets.add(originalMain);
+
+            Queue<String> failures = new ConcurrentLinkedQueue<>();
+            Queue<Integer> violations = new ConcurrentLinkedQueue<>();
+            AtomicBoolean running = new AtomicBoolean(true);
+
+            // 감시 스레드: 커밋된 대표 수를 계속 확인
+            Thread watcher = new Thread(() -> {
+                while (running.get()) {
+                    int mains = it.mainCount();
+                    if (mains != 1) violations.add(mains);
+                }
+            }, "main-watcher");
+            watcher.start();
+
+            ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+            CountDownLatch start = new CountDownLatch(1);
+            for (int i = 0; i < OPS; i++) {
+                boolean create = withCreates && i % 10 == 0; // 10건 중 1건은 대표 지정 등록
+                pool.submit(() -> {
+                    try {
+                        start.await();
+                        if (create) {
+                            created.add(it.create.apply(true));
+                        } else {
+                            Long target = targets.get(ThreadLocalRandom.current().nextInt(targets.size()));
+                            it.switchMain.accept(target, MEMBER_ID);
+                        }
+                    } catch (Exception e) {
+                        failures.add(e.getClass().getSimpleName() + ": " + e.getMessage());
+                    }
+                });
+            }
+            long t0 = System.nanoTime();
+            start.countDown();
+            pool.shutdown();
+            assertTrue(pool.awaitTermination(2, TimeUnit.MINUTES), "시간 내 완료되지 않음");
+            running.set(false);
+            watcher.join();
+
+            log.info("[CONCURRENCY] {} ops={} threads={} creates={} elapsed={}ms failures={} violations={}",
+                    it.table, OPS, THREADS, withCreates, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - t0),
+                    failures.size(), violations.size());
+
+            assertTrue(failures.isEmpty(), "전환/등록 실패: " + failures.stream().limit(5).toList());
+            assertTrue(violations.isEmpty(), "대표 수가 1이 아닌 시점 관측: " + violations.stream().limit(5).toList());
+            assertEquals(1, it.mainCount(), "최종 대표 수");
+        } finally {
+            it.switchMain.accept(originalMain, MEMBER_ID); // 원래 대표 복구 후 추가한 행 삭제
+            synchronized (created) {
+                created.forEach(it.delete);
+            }
+        }
+    }
+
+    /* ============================== 대상(카드/계좌) ============================== */
+
+    private Instrument cards() {
+        return new Instrument("card_tbl", "card_id", "card_main",
+                main -> cardService.createCard(CardCreateRequest.builder()
+                        .memberId(MEMBER_ID)
+                        .cardBank("동시성테스트")
+                        .cardNumber(uniqueNumber("TC"))
+                        .cardMain(main)
+                        .build()),
+                cardService::setMainCard,
+                cardMapper::deleteCardById);
+    }
+
+    private Instrument accounts() {
+        return new Instrument("account_tbl", "account_id", "account_main",
+                main -> accountService.createAccount(AccountCreateRequest.builder()
+                        .memberId(MEMBER_ID)
+                        .accountBank("동시성테스트")
+                        .accountNumber(uniqueNumber("TA"))
+                        .accountMain(main)
+                        .build()),
+                accountService::setMainAccount,
+                accountMapper::deleteAccountById);
+    }
+
+    // 카드/계좌번호 UNIQUE(VARCHAR2(20)) 회피용
+    private static String uniqueNumber(String prefix) {
+        return prefix + (System.currentTimeMillis() % 1_000_000_000L) + "-" + SEQ.incrementAndGet();
+    }
+
+    private final class Instrument {
+        final String table;
+        final String idColumn;
+        final String mainColumn;
+        final Function<Boolean, Long> create;
+        final BiConsumer<Long, String> switchMain;
+        final Consumer<Long> delete;
+
+        Instrument(String table, String idColumn, String mainColumn, Function<Boolean, Long> create,
+                   BiConsumer<Long, String> switchMain, Consumer<Long> delete) {
+            this.table = table;
+            this.idColumn = idColumn;
+            this.mainColumn = mainColumn;
+            this.create = create;
+            this.switchMain = switchMain;
+            this.delete = delete;
+        }
+
+        Long mainId() {
+            List<Long> ids = jdbc.queryForList("SELECT " + idColumn + " FROM " + table
+                    + " WHERE member_id = ? AND " + mainColumn + " = 'Y'", Long.class, MEMBER_ID);
+            return ids.isEmpty() ? null : ids.get(0);
+        }
+
+        int mainCount() {
+            Integer n = jdbc.queryForObject("SELECT COUNT(1) FROM " + table
+                    + " WHERE member_id = ? AND " + mainColumn + " = 'Y'", Integer.class, MEMBER_ID);
+            return n == null ? 0 : n;
+        }
+    }
+}
@@ -0,0 +1,350 @@
+package com.gym.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gym.config.mybatis.LatencyHistogram;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * [261019 신규] 엔드투엔드 부하 테스트 실행기(테스트 소스, 수동 실행)
+ * - 대상: 실행 중인 서버(기본 http://localhost:8181) — 사전에 DB/15_loadtest 시드 스크립트 적용
+ * - 시나리오(동시 실행, 시나리오별 스레드 수 지정)
+ *   booking : 한 시설·한 시간대에 예약신청 폭주
+ *   browse  : 게시글 목록(임의 페이지) → 상세
+ *   pay     : 본인 '대기' 예약 카드 결제
+ *   cms     : 관리자 대시보드(통계/시설 현황)
+ * - 결과: 엔드포인트(메서드 + 경로 템플릿)별 처리량, 상태코드 분포, 지연 백분위(p50/p90/p99/p99.9)
+ *   → 콘솔 표 + JSON 파일(target/load/load-yyyyMMdd-HHmmss.json)
+ * - 옵션(System property, 괄호는 기본값)
+ *   load.base-url(http://localhost:8181) load.duration-sec(60) load.users(500) load.password(1234)
+ *   load.admin-id(hong10) load.admin-password(1234) load.facility-id(1) load.board-id(1)
+ *   load.threads.booking(50) load.threads.browse(100) load.threads.pay(20) load.threads.cms(5) load.out
+ * - 실행(예):
+ *   mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=com.gym.load.LoadTest -Dload.duration-sec=120
+ */
+public class LoadTest {
+
+    private static final ObjectMapper JSON = new ObjectMapper();
+
+    private final String baseUrl      = System.getProperty("load.base-url", "http://localhost:8181");
+    private final int durationSec     = Integer.getInteger("load.duration-sec", 60);
+    private final int users           = Integer.getInteger("load.users", 500);
+    private final String password     = System.getProperty("load.password", "1234");
+    private final String adminId      = System.getProperty("load.admin-id", "hong10");
+    private final String adminPw      = System.getProperty("load.admin-password", "1234");
+    private final long facilityId     = Long.getLong("load.facility-id", 1L);
+    private final long boardId        = Long.getLong("load.board-id", 1L);
+
+    private final HttpClient http = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .executor(Executors.newFixedThreadPool(32))
+            .build();
+
+    private final Map<String, EndpointStats> stats = new ConcurrentHashMap<>();
+
+    // 회원별 세션(토큰, 대표카드, 결제 대기 예약)
+    private final List<Session> sessions = new ArrayList<>();
+    private String adminToken;
+
+    public static void main(String[] args) throws Exception {
+        new LoadTest().run();
+        System.exit(0); // HttpClient 실행기 스레드 정리
+    }
+
+    void run() throws Exception {
+        System.out.printf("대상 %s, 회원 %d명, %d초%n", baseUrl, users, durationSec);
+        setUp();
+        stats.clear(); // 준비 단계(로그인 등) 측정치는 제외
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(durationSec);
+        ExecutorService workers = Executors.newCachedThreadPool();
+        startScenario(workers, "booking", Integer.getInteger("load.threads.booking", 50), deadline, this::booking);
+        startScenario(workers, "browse",  Integer.getInteger("load.threads.browse", 100), deadline, this::browse);
+        startScenario(workers, "pay",     Integer.getInteger("load.threads.pay", 20),     deadline, this::pay);
+        startScenario(workers, "cms",     Integer.getInteger("load.threads.cms", 5),      deadline, this::cms);
+
+        workers.shutdown();
+        workers.awaitTermination(durationSec + 60L, TimeUnit.SECONDS);
+
+        report();
+    }
+
+    /* ============================== 준비 ============================== */
+
+    private void setUp() throws Exception {
+        adminToken = signIn(adminId, adminPw);
+        if (adminToken == null) {
+            throw new IllegalStateException("관리자 로그인 실패: " + adminId);
+        }
+
+        for (int i = 1; i <= users; i++) {
+            String memberId = "load" + String.format("%04d", i);
+            String token = signIn(memberId, password);
+            if (token == null) {
+                continue; // 시드보다 많은 회원 수를 지정한 경우 등
+            }
+            Session s = new Session(token);
+
+            // 대표 카드
+            JsonNode cards = data(send("GET /api/members/{memberId}/cards",
+                    get("/api/members/" + memberId + "/cards", token)));
+            for (JsonNode c : iterable(cards)) {
+                if (c.path("cardMain").asBoolean()) {
+                    s.cardId = c.path("cardId").asLong();
+                }
+            }
+
+            // 결제 대상: 해당 시설의 '대기' 예약
+            JsonNode resvs = data(send("GET /api/reservations",
+                    get("/api/reservations?facilityId=" + facilityId, token)));
+            for (JsonNode r : iterable(resvs)) {
+                if ("대기".equals(r.path("resvStatus").asText())) {
+                    s.payable.add(r.path("resvId").asLong());
+                }
+            }
+            sessions.add(s);
+        }
+        if (sessions.isEmpty()) {
+            throw new IllegalStateException("로그인 가능한 부하 테스트 회원이 없습니다. DB/15_loadtest 시드를 먼저 적용하세요.");
+        }
+        System.out.printf("준비 완료: 세션 %d개, 결제 대상 예약 %d건%n", sessions.size(),
+                sessions.stream().mapToInt(s -> s.payable.size()).sum());
+    }
+
+    private String signIn(String userId, String pw) throws Exception {
+        HttpRequest req = HttpRequest.newBuilder(URI.create(baseUrl + "/sign-api/sign-in"))
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .POST(form(Map.of("userId", userId, "password", pw)))
+                .build();
+        HttpResponse<String> res = send("POST /sign-api/sign-in", req);
+        if (res == null || res.statusCode() != 200) {
+            return null;
+        }
+        return JSON.readTree(res.body()).path("token").asText(null);
+    }
+
+    /* ============================== 시나리오 ============================== */
+
+    private void booking() throws Exception {
+        Session s = randomSession();
+        // 모두 같은 날짜·시간대로 신청(폭주 상황): 400일 뒤 10~12시
+        String day = LocalDate.now().plusDays(400).toString();
+        Map<String, String> f = new LinkedHashMap<>();
+        f.put("facilityId", String.valueOf(facilityId));
+        f.put("wantDate", day);
+        f.put("resvPersonCount", "10");
+        f.put("startHour", "10");
+        f.put("endHour", "12");
+        f.put("resvContent", "부하 테스트");
+        send("POST /api/reservations", post("/api/reservations", s.token, f));
+    }
+
+    private void browse() throws Exception {
+        Session s = randomSession();
+        int page = ThreadLocalRandom.current().nextInt(1, 21);
+        JsonNode list = data(send("GET /api/boards/{boardId}/posts",
+                get("/api/boards/" + boardId + "/posts?page=" + page + "&size=10", s.token)));
+
+        List<Long> ids = new ArrayList<>();
+        for (JsonNode p : iterable(list)) {
+            ids.add(p.path("postId").asLong());
+        }
+        if (!ids.isEmpty()) {
+            long postId = ids.get(ThreadLocalRandom.current().nextInt(ids.size()));
+            send("GET /api/boards/{boardId}/posts/{postId}",
+                    get("/api/boards/" + boardId + "/posts/" + postId, s.token));
+        }
+    }
+
+    private void pay() throws Exception {
+        Session s = randomSession();
+        Long resvId = s.payable.poll();
+        if (resvId == null || s.cardId == null) {
+            Thread.sleep(1); // 결제 대상 소진
+            return;
+        }
+        Map<String, String> f = new LinkedHashMap<>();
+        f.put("resvId", String.valueOf(resvId));
+        f.put("paymentMethod", "카드");
+        f.put("cardId", String.valueOf(s.cardId));
+        send("POST /api/payments", post("/api/payments", s.token, f));
+    }
+
+    private void cms() throws Exception {
+        send("GET /api/cms/stats", get("/api/cms/stats", adminToken));
+        send("GET /api/cms/dashboard/facility-status", get("/api/cms/dashboard/facility-status", adminToken));
+    }
+
+    /* ============================== 실행/측정 ============================== */
+
+    @FunctionalInterface
+    private interface Step {
+        void run() throws Exception;
+    }
+
+    private void startScenario(ExecutorService workers, String name, int threads, long deadline, Step step) {
+        for (int t = 0; t < threads; t++) {
+            workers.submit(() -> {
+                while (System.nanoTime() < deadline) {
+                    try {
+                        step.run();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    } catch (Exception e) {
+                        stats.computeIfAbsent("[" + name + "] 예외", k -> new EndpointStats()).ioErrors.increment();
+                    }
+                }
+            });
+        }
+    }
+
+    // 요청 1건 전송 + 엔드포인트별 기록(연결 오류는 null 반환)
+    private HttpResponse<String> send(String endpoint, HttpRequest req) throws InterruptedException {
+        EndpointStats st = stats.computeIfAbsent(endpoint, k -> new EndpointStats());
+        long begin = System.nanoTime();
+        try {
+            HttpResponse<String> res = http.send(req, HttpResponse.BodyHandlers.ofString());
+            st.latency.record(System.nanoTime() - begin);
+            st.byStatus(res.statusCode()).increment();
+            return res;
+        } catch (IOException e) {
+            st.ioErrors.increment();
+            return null;
+        }
+    }
+
+    private HttpRequest get(String path, String token) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("X-AUTH-TOKEN", token)
+                .timeout(Duration.ofSeconds(30))
+                .GET()
+                .build();
+    }
+
+    private HttpRequest post(String path, String token, Map<String, String> fields) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("X-AUTH-TOKEN", token)
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .timeout(Duration.ofSeconds(30))
+                .POST(form(fields))
+                .build();
+    }
+
+    private static HttpRequest.BodyPublisher form(Map<String, String> fields) {
+        StringJoiner sj = new StringJoiner("&");
+        fields.forEach((k, v) -> sj.add(URLEncoder.encode(k, StandardCharsets.UTF_8) + "="
+                + URLEncoder.encode(v, StandardCharsets.UTF_8)));
+        return HttpRequest.BodyPublishers.ofString(sj.toString());
+    }
+
+    // ApiResponse 래핑({code,message,data})이면 data, 아니면 본문 그대로(게시글 목록 등)
+    private static JsonNode data(HttpResponse<String> res) throws IOException {
+        if (res == null || res.statusCode() != 200 || res.body().isEmpty()) {
+            return null;
+        }
+        JsonNode root = JSON.readTree(res.body());
+        return root.has("data") ? root.get("data") : root;
+    }
+
+    private static Iterable<JsonNode> iterable(JsonNode node) {
+        return (node != null && node.isArray()) ? node : List.of();
+    }
+
+    private Session randomSession() {
+        return sessions.get(ThreadLocalRandom.current().nextInt(sessions.size()));
+    }
+
+    /* ============================== 결과 ============================== */
+
+    private void report() throws IOException {
+        Map<String, Object> endpoints = new LinkedHashMap<>();
+        System.out.printf("%n%-45s %8s %9s %6s %6s %6s %9s %9s %9s %9s%n",
+                "endpoint", "count", "req/s", "2xx", "4xx", "5xx+io", "p50(ms)", "p90(ms)", "p99(ms)", "max(ms)");
+        stats.entrySet().stream().sorted(Map.Entry.comparingByKey()).forEach(e -> {
+            EndpointStats st = e.getValue();
+            Map<String, Object> m = new LinkedHashMap<>(st.latency.summary());
+            m.put("throughputPerSec", round((double) st.latency.count() / durationSec));
+            m.put("status2xx", st.s2xx.sum());
+            m.put("status4xx", st.s4xx.sum());
+            m.put("status5xx", st.s5xx.sum());
+            m.put("ioErrors", st.ioErrors.sum());
+            endpoints.put(e.getKey(), m);
+
+            System.out.printf(Locale.ROOT, "%-45s %8d %9.1f %6d %6d %6d %9.1f %9.1f %9.1f %9.1f%n",
+                    e.getKey(), st.latency.count(), (double) st.latency.count() / durationSec,
+                    st.s2xx.sum(), st.s4xx.sum(), st.s5xx.sum() + st.ioErrors.sum(),
+                    m.get("p50Ms"), m.get("p90Ms"), m.get("p99Ms"), m.get("maxMs"));
+        });
+
+        Map<String, Object> out = new LinkedHashMap<>();
+        out.put("baseUrl", baseUrl);
+        out.put("startedAt", LocalDateTime.now().minusSeconds(durationSec).toString());
+        out.put("durationSec", durationSec);
+        out.put("sessions", sessions.size());
+        out.put("endpoints", endpoints);
+
+        Path file = Path.of(System.getProperty("load.out",
+                "target/load/load-" + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")) + ".json"));
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        JSON.writerWithDefaultPrettyPrinter().writeValue(file.toFile(), out);
+        System.out.println("결과 저장: " + file.toAbsolutePath());
+    }
+
+    private static double round(double v) {
+        return Math.round(v * 10) / 10.0;
+    }
+
+    private static final class Session {
+        final String token;
+        volatile Long cardId;
+        final Queue<Long> payable = new ConcurrentLinkedQueue<>();
+
+        Session(String token) {
+            this.token = token;
+        }
+    }
+
+    private static final class EndpointStats {
+        final LatencyHistogram latency = new LatencyHistogram();
+        final LongAdder s2xx = new LongAdder();
+        final LongAdder s4xx = new LongAdder();
+        final LongAdder s5xx = new LongAdder();
+        final LongAdder ioErrors = new LongAdder();
+
+        LongAdder byStatus(int status) {
+            if (status < 400) return s2xx; // 3xx 포함
+            if (status < 500) return s4xx;
+            return s5xx;
+        }
+    }
+}